@@ -1,21 +1,150 @@
 package com.study;
 
 
+import com.study.common.dto.CommonDto;
+import com.study.common.dto.MessageDto;
+import com.study.common.dto.SearchDto;
+import com.study.domain.export.ExportFormat;
+import com.study.domain.export.ExportJob;
+import com.study.domain.export.ExportJobService;
+import com.study.domain.post.PostExportService;
+import com.study.domain.post.PostImportResult;
+import com.study.domain.post.PostImportService;
+import lombok.RequiredArgsConstructor;
 import org.apache.poi.hssf.usermodel.HSSFFont;
 import org.apache.poi.hssf.usermodel.HSSFSheet;
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.xssf.usermodel.*;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.servlet.http.HttpServletResponse;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 @Controller
+@RequiredArgsConstructor
 public class ExcelController {
+
+  private final PostExportService postExportService;
+
+  private final ExportJobService exportJobService;
+
+  private final PostImportService postImportService;
+
+  // 게시글 리스트 엑셀 다운로드 (검색 조건 적용, 페이징 없음)
+  @GetMapping("/post/excel.do")
+  public void downloadPostExcel(@ModelAttribute final SearchDto params, HttpServletResponse response) throws IOException {
+    response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+    setAttachmentHeader(response, "게시글_목록.xlsx");
+    postExportService.writeXlsx(params, response.getOutputStream());
+  }
+
+  // 게시글 리스트 CSV 다운로드 (요청 스레드를 점유하지 않고 스트리밍, 제한 시간은 spring.mvc.async.request-timeout)
+  @GetMapping("/post/export.csv")
+  public ResponseEntity<StreamingResponseBody> downloadPostCsv(@ModelAttribute final SearchDto params) throws IOException {
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(ExportFormat.CSV.getContentType()))
+        .header(HttpHeaders.CONTENT_DISPOSITION, attachment("게시글_목록.csv"))
+        .body(out -> postExportService.writeCsv(params, out, post -> { }));
+  }
+
+  // 게시글 리스트 NDJSON 다운로드 (기계 연동용)
+  @GetMapping("/post/export.ndjson")
+  public ResponseEntity<StreamingResponseBody> downloadPostNdjson(@ModelAttribute final SearchDto params) {
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(ExportFormat.NDJSON.getContentType()))
+        .body(out -> postExportService.writeNdjson(params, out, post -> { }));
+  }
+
+  // 게시글 엑셀 가져오기 (검증에 실패한 행은 건너뛰고 결과에 포함)
+  @PostMapping("/post/excel/import")
+  public ResponseEntity<?> importPostExcel(@RequestParam("file") final MultipartFile file) throws IOException {
+    // SAX 방식으로 읽기 위해 임시 파일로 저장
+    Path tempFile = Files.createTempFile("post-import-", ".xlsx");
+    try {
+      file.transferTo(tempFile.toFile());
+      PostImportResult result = postImportService.importXlsx(tempFile.toFile());
+      return ResponseEntity.ok(result);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(new CommonDto("false", new MessageDto(e.getMessage(), null, null, null)));
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+  }
+
+  // 게시글 내보내기 작업 등록 (format: xlsx, csv, ndjson)
+  @PostMapping("/export/jobs")
+  public ResponseEntity<?> submitExportJob(@ModelAttribute final SearchDto params,
+                                           @RequestParam(defaultValue = "xlsx") final String format) {
+    try {
+      ExportJob job = exportJobService.submit(params, ExportFormat.of(format));
+      return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(new CommonDto("false", new MessageDto(e.getMessage(), null, null, null)));
+    } catch (RejectedExecutionException e) {
+      MessageDto message = new MessageDto("대기 중인 내보내기 작업이 많습니다. 잠시 후 다시 시도해 주세요.", null, null, null);
+      return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(new CommonDto("false", message));
+    }
+  }
+
+  // 게시글 내보내기 작업 진행 상태 조회
+  @GetMapping("/export/jobs/{id}")
+  public ResponseEntity<ExportJob> findExportJob(@PathVariable final String id) {
+    return ResponseEntity.of(exportJobService.findJob(id));
+  }
+
+  // 게시글 내보내기 결과 다운로드 (Range 요청은 Spring이 Resource에 대해 처리한다)
+  @GetMapping("/export/jobs/{id}/file")
+  public ResponseEntity<Resource> downloadExportFile(@PathVariable final String id) throws IOException {
+    Optional<ExportJob> job = exportJobService.findJob(id);
+    if (!job.isPresent()) {
+      return ResponseEntity.notFound().build();
+    }
+    if (job.get().getStatus() != ExportJob.Status.COMPLETED) {
+      return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    ExportFormat format = job.get().getFormat();
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(format.getContentType()))
+        .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+        .header(HttpHeaders.CONTENT_DISPOSITION, attachment("게시글_목록." + format.getExtension()))
+        .body(new FileSystemResource(job.get().getFile()));
+  }
+
+  // 파일 이름은 UTF-8로 인코딩해서 전달 (RFC 5987)
+  static void setAttachmentHeader(HttpServletResponse response, String fileName) throws IOException {
+    response.setHeader(HttpHeaders.CONTENT_DISPOSITION, attachment(fileName));
+  }
+
+  private static String attachment(String fileName) throws IOException {
+    String encoded = URLEncoder.encode(fileName, StandardCharsets.UTF_8.name()).replace("+", "%20");
+    return "attachment; filename*=UTF-8''" + encoded;
+  }
+
   public void createExcel() {
     //.xls 확장자 지원
     HSSFWorkbook wb = null;
@@ -1,17 +1,20 @@
 package com.study.common.dto;
 
-public class GenericResponse {
-  private String message;
+import lombok.Getter;
+
+@Getter
+public class GenericResponse<T> {
+  private T data;
   private String error;
 
-  public GenericResponse(String message) {
+  public GenericResponse(T data) {
     super();
-    this.message = message;
+    this.data = data;
   }
 
-  public GenericResponse(String message, String error) {
+  public GenericResponse(T data, String error) {
     super();
-    this.message = message;
+    this.data = data;
     this.error = error;
   }
-}
\ No newline at end of file
+}
@@ -14,6 +14,9 @@ public class SearchDto {
     private String keyword;           // 검색 키워드
     private String searchType;        // 검색 유형
     private Pagination pagination;    // 페이지네이션 정보
+    private Long cursorId;            // 커서 (직전 페이지의 마지막/첫 게시글 ID)
+    private String direction;         // 커서 이동 방향 (next, prev)
+    private boolean approximateCount; // 전체 데이터 수 근사치 사용 여부
 
     public SearchDto() {
         this.page = 1;
@@ -25,4 +28,19 @@ public class SearchDto {
         return (page - 1) * recordSize;
     }
 
+    // 커서 기반 페이징 여부 (커서 없이 방향만 있으면 커서 모드의 첫 페이지)
+    public boolean isCursorMode() {
+        return cursorId != null || direction != null;
+    }
+
+    // 이전 페이지 방향으로 이동하는지 여부
+    public boolean isPrevDirection() {
+        return "prev".equals(direction);
+    }
+
+    // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+    public int getFetchSize() {
+        return recordSize + 1;
+    }
+
 }
@@ -0,0 +1,32 @@
+package com.study.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 관련 유틸리티
+ */
+public final class TransactionUtils {
+
+    private TransactionUtils() {
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 실행 (트랜잭션이 없으면 즉시 실행)
+     * - 캐시 무효화, 검색 색인처럼 커밋 전 값이 다시 읽히면 안 되는 작업에 사용한다.
+     * @param task - 실행할 작업
+     */
+    public static void afterCommit(final Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+        task.run();
+    }
+
+}
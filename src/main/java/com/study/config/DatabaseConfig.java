@@ -2,6 +2,7 @@ package com.study.config;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.mybatis.spring.SqlSessionFactoryBean;
 import org.mybatis.spring.SqlSessionTemplate;
@@ -10,6 +11,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.PropertySource;
 
 import javax.sql.DataSource;
@@ -42,10 +44,20 @@ public class DatabaseConfig {
     }
 
     @Bean
+    @Primary
     public SqlSessionTemplate sqlSession() throws Exception {
         return new SqlSessionTemplate(sqlSessionFactory());
     }
 
+    /*
+     * 대량 저장용 (JDBC batch)
+     * 같은 트랜잭션에서 sqlSession과 섞어 쓸 수 없으므로 별도 트랜잭션에서만 사용한다.
+     */
+    @Bean
+    public SqlSessionTemplate batchSqlSession() throws Exception {
+        return new SqlSessionTemplate(sqlSessionFactory(), ExecutorType.BATCH);
+    }
+
     @Bean
     @ConfigurationProperties(prefix = "mybatis.configuration")
     public org.apache.ibatis.session.Configuration mybatisConfig() {
@@ -1,59 +1,116 @@
 package com.study.config;
 
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.study.domain.session.UserSessionSerializer;
+import io.lettuce.core.ReadFrom;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisPassword;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.session.data.redis.config.annotation.web.http.EnableRedisHttpSession;
+import org.springframework.util.StringUtils;
 
 /**
  * Redis 설정 클래스
  * - Redis 연결 및 세션 관리 설정
  * - RedisTemplate 빈 구성
+ * - 연결 정보와 풀 설정은 spring.redis.* (RedisProperties)를 사용한다.
+ * - board.redis.replicas가 설정되면 replicaRedisTemplate의 읽기 명령만 복제본으로 보낸다. (복제본이 없으면 마스터)
  */
+@Slf4j
 @Configuration
+@EnableConfigurationProperties(RedisProperties.class)
 @EnableRedisHttpSession(maxInactiveIntervalInSeconds = 1800) // 30분
 public class RedisConfig {
 
-    @Value("${spring.redis.host}")
-    private String host;
+    private final RedisProperties redisProperties;
 
-    @Value("${spring.redis.port}")
-    private int port;
+    // 복제본 목록 (host:port,host:port), 비어 있으면 단일 서버
+    @Value("${board.redis.replicas:}")
+    private String replicas;
 
-    @Value("${spring.redis.password}")
-    private String password;
+    @Value("${board.session.binary-serializer.enabled:true}")
+    private boolean binarySessionSerializer;
+
+    // pub/sub 메시지 처리 대기열 크기, 실행기마다 적용 (가득 차면 메시지를 버리고 센다)
+    @Value("${board.redis.listener.queue-capacity:10000}")
+    private int listenerQueueCapacity;
+
+    public RedisConfig(RedisProperties redisProperties) {
+        this.redisProperties = redisProperties;
+    }
 
     /**
      * Redis 연결 팩토리 설정
-     * Lettuce 클라이언트를 사용한 Redis 연결
+     * Lettuce 클라이언트를 사용한 Redis 연결 (마스터 단일 서버)
+     * - 마스터/복제본 구성(RedisStaticMasterReplicaConfiguration)은 pub/sub 을 지원하지 않으므로,
+     *   복제본이 설정되어도 기본 팩토리는 단일 서버로 연결한다. (near cache 무효화, 채팅 중계, Spring Session 이벤트)
      */
     @Bean
+    @Primary
     public RedisConnectionFactory redisConnectionFactory() {
-        RedisStandaloneConfiguration redisConfig = new RedisStandaloneConfiguration();
-        redisConfig.setHostName(host);
-        redisConfig.setPort(port);
+        return createConnectionFactory(createStandaloneConfiguration(), null);
+    }
 
-        // 비밀번호가 설정된 경우에만 적용
-        if (password != null && !password.isEmpty()) {
-            redisConfig.setPassword(password);
+    /**
+     * 복제본 읽기용 Redis 연결 팩토리
+     * - board.redis.replicas가 설정되면 마스터/복제본 구성으로 연결하고 읽기 명령을 복제본으로 보낸다.
+     * - 복제 지연이 있으므로 방금 쓴 값을 읽어야 하는 곳에서는 사용하지 않는다.
+     * - pub/sub 을 지원하지 않으므로 메시지 수신 컨테이너에는 사용하지 않는다.
+     */
+    @Bean
+    public RedisConnectionFactory replicaRedisConnectionFactory() {
+        if (!StringUtils.hasText(replicas)) {
+            return createConnectionFactory(createStandaloneConfiguration(), null);
         }
-
-        return new LettuceConnectionFactory(redisConfig);
+        return createConnectionFactory(createMasterReplicaConfiguration(), ReadFrom.REPLICA_PREFERRED);
     }
 
     /**
      * RedisTemplate 설정
      * - 객체 직렬화를 위한 템플릿
      * - String 키와 JSON 값으로 직렬화
+     * - LocalDateTime 필드(UserSession, PostResponse)를 위해 JavaTimeModule을 등록
+     * - UserSession은 UserSessionSerializer의 바이너리 형식으로 저장 (기존 JSON 값도 읽기 가능)
      */
     @Bean
+    @Primary
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+        return createRedisTemplate(connectionFactory);
+    }
+
+    /**
+     * 복제본 읽기용 RedisTemplate (세션 조회 등)
+     */
+    @Bean
+    public RedisTemplate<String, Object> replicaRedisTemplate(
+            @Qualifier("replicaRedisConnectionFactory") RedisConnectionFactory connectionFactory) {
+        return createRedisTemplate(connectionFactory);
+    }
+
+    private RedisTemplate<String, Object> createRedisTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
@@ -61,10 +118,132 @@ public class RedisConfig {
         template.setKeySerializer(new StringRedisSerializer());
         template.setHashKeySerializer(new StringRedisSerializer());
 
-        // 값은 JSON으로 직렬화
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
-        template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        // 값은 JSON으로 직렬화, UserSession만 바이너리로 직렬화
+        UserSessionSerializer valueSerializer = new UserSessionSerializer(
+                new GenericJackson2JsonRedisSerializer(redisObjectMapper()), binarySessionSerializer);
+        template.setValueSerializer(valueSerializer);
+        template.setHashValueSerializer(valueSerializer);
 
         return template;
     }
+
+    /**
+     * 풀링 연결 팩토리 생성
+     * - 공유 네이티브 연결을 끄고 명령마다 풀에서 연결을 빌려 쓴다. (공유 연결을 쓰면 풀은 트랜잭션/블로킹 명령에만 쓰인다)
+     */
+    private LettuceConnectionFactory createConnectionFactory(RedisConfiguration redisConfig, ReadFrom readFrom) {
+        RedisProperties.Pool pool = redisProperties.getLettuce().getPool() != null
+                ? redisProperties.getLettuce().getPool() : new RedisProperties.Pool();
+        GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(pool.getMaxActive());
+        poolConfig.setMaxIdle(pool.getMaxIdle());
+        poolConfig.setMinIdle(pool.getMinIdle());
+        poolConfig.setMaxWait(pool.getMaxWait());
+
+        LettucePoolingClientConfiguration.LettucePoolingClientConfigurationBuilder builder =
+                LettucePoolingClientConfiguration.builder().poolConfig(poolConfig);
+        if (redisProperties.getTimeout() != null) {
+            builder.commandTimeout(redisProperties.getTimeout());
+        }
+        if (readFrom != null) {
+            builder.readFrom(readFrom);
+        }
+
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(redisConfig, builder.build());
+        connectionFactory.setShareNativeConnection(false);
+        return connectionFactory;
+    }
+
+    private RedisStandaloneConfiguration createStandaloneConfiguration() {
+        RedisStandaloneConfiguration redisConfig =
+                new RedisStandaloneConfiguration(redisProperties.getHost(), redisProperties.getPort());
+        redisConfig.setPassword(redisPassword());
+        return redisConfig;
+    }
+
+    private RedisStaticMasterReplicaConfiguration createMasterReplicaConfiguration() {
+        RedisStaticMasterReplicaConfiguration redisConfig =
+                new RedisStaticMasterReplicaConfiguration(redisProperties.getHost(), redisProperties.getPort());
+        for (String replica : StringUtils.commaDelimitedListToStringArray(replicas)) {
+            String[] hostAndPort = replica.trim().split(":");
+            redisConfig.addNode(hostAndPort[0], hostAndPort.length > 1 ? Integer.parseInt(hostAndPort[1]) : 6379);
+        }
+        redisConfig.setPassword(redisPassword());
+        return redisConfig;
+    }
+
+    private RedisPassword redisPassword() {
+        String password = redisProperties.getPassword();
+        return StringUtils.hasText(password) ? RedisPassword.of(password) : RedisPassword.none();
+    }
+
+    /**
+     * Redis pub/sub 메시지 수신 컨테이너 (노드 간 캐시 무효화)
+     * - Spring Session의 springSessionRedisMessageListenerContainer와 구분하여 이름으로 주입한다.
+     * - 기본 실행기(SimpleAsyncTaskExecutor)는 메시지마다 스레드를 만들고 순서도 보장하지 않으므로,
+     *   단일 스레드 실행기로 수신 순서대로 처리한다.
+     * - 채팅 중계는 redisChatListenerContainer를 사용하므로, 채팅이 몰려도 무효화 메시지가 밀리거나 버려지지 않는다.
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       @Qualifier("redisMessageListenerExecutor") ThreadPoolTaskExecutor listenerExecutor) {
+        return createListenerContainer(connectionFactory, listenerExecutor);
+    }
+
+    /**
+     * 캐시 무효화 메시지 처리용 단일 스레드 실행기
+     */
+    @Bean
+    public ThreadPoolTaskExecutor redisMessageListenerExecutor(RedisListenerMonitor redisListenerMonitor) {
+        return redisListenerMonitor.newExecutor("invalidation", listenerQueueCapacity);
+    }
+
+    /**
+     * 채팅 중계 메시지 수신 컨테이너 (board.chat.broker.mode=redis)
+     * - 단일 스레드 실행기로 수신 순서대로 로컬 브로커에 전달한다. (채팅 메시지 순서 유지)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "board.chat.broker.mode", havingValue = "redis")
+    public RedisMessageListenerContainer redisChatListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                    @Qualifier("redisChatListenerExecutor") ThreadPoolTaskExecutor listenerExecutor) {
+        return createListenerContainer(connectionFactory, listenerExecutor);
+    }
+
+    /**
+     * 채팅 중계 메시지 처리용 단일 스레드 실행기
+     */
+    @Bean
+    @ConditionalOnProperty(name = "board.chat.broker.mode", havingValue = "redis")
+    public ThreadPoolTaskExecutor redisChatListenerExecutor(RedisListenerMonitor redisListenerMonitor) {
+        return redisListenerMonitor.newExecutor("chat", listenerQueueCapacity);
+    }
+
+    /**
+     * pub/sub 실행기별 대기/버린 메시지 수
+     */
+    @Bean
+    public RedisListenerMonitor redisListenerMonitor() {
+        return new RedisListenerMonitor();
+    }
+
+    private RedisMessageListenerContainer createListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                  ThreadPoolTaskExecutor listenerExecutor) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(listenerExecutor);
+        return container;
+    }
+
+    /**
+     * Redis 값 직렬화용 ObjectMapper
+     * - GenericJackson2JsonRedisSerializer 기본 설정과 같이 @class 속성으로 타입 정보를 저장
+     */
+    private ObjectMapper redisObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance,
+                ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        return objectMapper;
+    }
 }
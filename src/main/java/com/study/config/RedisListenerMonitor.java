@@ -0,0 +1,71 @@
+package com.study.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Redis pub/sub 메시지 처리 실행기 모니터링
+ * - 용도(무효화, 채팅)마다 단일 스레드 실행기를 만들고, 대기열이 가득 차서 버린 메시지 수를 센다.
+ * - /websocket/stats.json 의 redisListener 항목으로 노출된다.
+ */
+@Slf4j
+public class RedisListenerMonitor {
+
+    private final Map<String, ThreadPoolTaskExecutor> executors = new ConcurrentHashMap<>();
+
+    private final Map<String, LongAdder> dropped = new ConcurrentHashMap<>();
+
+    /**
+     * 메시지 처리용 단일 스레드 실행기 생성
+     * - 대기열이 가득 차면 수신 스레드를 막지 않도록 메시지를 버리고 센다.
+     * @param name 용도 (통계 키)
+     * @param queueCapacity 대기열 크기
+     * @return 초기화 전 실행기 (빈으로 등록해서 초기화/종료를 맡긴다)
+     */
+    ThreadPoolTaskExecutor newExecutor(String name, int queueCapacity) {
+        LongAdder counter = new LongAdder();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("redisListener-" + name + "-");
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            counter.increment();
+            log.warn("Redis pub/sub 처리 대기열이 가득 차서 메시지를 버립니다. (listener={}, queue-capacity={})",
+                    name, queueCapacity);
+        });
+        executors.put(name, executor);
+        dropped.put(name, counter);
+        return executor;
+    }
+
+    /**
+     * 버린 메시지 수
+     * @param name 용도
+     * @return 버린 메시지 수, 없는 실행기면 0
+     */
+    public long dropped(String name) {
+        LongAdder counter = dropped.get(name);
+        return counter != null ? counter.sum() : 0;
+    }
+
+    /**
+     * 실행기별 대기 중인 메시지 수, 버린 메시지 수
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        executors.forEach((name, executor) -> {
+            Map<String, Object> executorStats = new LinkedHashMap<>();
+            executorStats.put("queued", executor.getThreadPoolExecutor().getQueue().size());
+            executorStats.put("dropped", dropped(name));
+            stats.put(name, executorStats);
+        });
+        return stats;
+    }
+
+}
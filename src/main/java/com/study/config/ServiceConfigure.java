@@ -1,5 +1,7 @@
 package com.study.config;
 
+import com.study.security.Jwt;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,4 +14,12 @@ public class ServiceConfigure {
     MessageSourceAccessor messageSourceAccessor = new MessageSourceAccessor(messageSource);
     return messageSourceAccessor;
   }
+
+  @Bean
+  public Jwt jwt(@Value("${jwt.issuer}") String issuer,
+                 @Value("${jwt.client-secret}") String clientSecret,
+                 @Value("${jwt.expiry-seconds}") int expirySeconds,
+                 @Value("${jwt.refresh-expiry-seconds}") int refreshExpirySeconds) {
+    return new Jwt(issuer, clientSecret, expirySeconds, refreshExpirySeconds);
+  }
 }
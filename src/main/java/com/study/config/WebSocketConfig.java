@@ -1,23 +1,97 @@
 package com.study.config;
 
+import com.study.socket.OutboundMessageBatcher;
+import com.study.socket.RedisChatRelay;
 import com.study.socket.StompHandler;
+import com.study.socket.WebSocketSessionMonitor;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * STOMP 설정
+ * - inbound/outbound 채널 실행기는 크기와 대기열이 제한된 풀을 사용한다. (대기열이 가득 차면 메시지 거부)
+ * - board.websocket.executor.type=virtual 이면 가상 스레드로 실행기 스레드를 만든다. (지원하지 않는 JVM은 일반 스레드)
+ *   - 스레드 종류만 바뀌고 풀은 그대로다. 동시 실행 수는 max-pool-size, 대기는 queue-capacity로 제한된다.
+ *   - 채널 실행기는 ThreadPoolTaskExecutor여야 하고(ChannelRegistration), 대기열 제한이 곧 역압이므로 작업마다 스레드를 만드는 실행기는 쓰지 않는다.
+ * - 거부된 메시지 수는 WebSocketSessionMonitor.stats()의 rejectedTasks로 제공한다.
+ * - 세션별 전송 버퍼/시간 제한을 넘긴 느린 소비자는 연결을 종료한다.
+ * - SimpleBroker 하트비트로 끊긴 연결을 감지한다. (PresenceService의 시간 초과 판단에도 사용)
+ */
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
   private final StompHandler stompHandler; // jwt 인증
 
+  private final ObjectProvider<RedisChatRelay> redisChatRelay; // board.chat.broker.mode=redis 일 때만 등록
+
+  private final ObjectProvider<OutboundMessageBatcher> outboundMessageBatcher; // board.chat.batch.enabled=true 일 때만 등록
+
+  private final WebSocketSessionMonitor webSocketSessionMonitor;
+
+  // SimpleBroker 하트비트용 (WebSocket 설정이 만드는 빈이므로 지연 주입)
+  @Lazy
+  @Autowired
+  @Qualifier("messageBrokerTaskScheduler")
+  private TaskScheduler messageBrokerTaskScheduler;
+
+  @Value("${board.websocket.heartbeat-ms:10000}")
+  private long heartbeatMs;
+
+  @Value("${board.websocket.executor.type:platform}")
+  private String executorType;
+
+  @Value("${board.websocket.inbound.core-pool-size:8}")
+  private int inboundCorePoolSize;
+
+  @Value("${board.websocket.inbound.max-pool-size:32}")
+  private int inboundMaxPoolSize;
+
+  @Value("${board.websocket.inbound.queue-capacity:10000}")
+  private int inboundQueueCapacity;
+
+  @Value("${board.websocket.outbound.core-pool-size:8}")
+  private int outboundCorePoolSize;
+
+  @Value("${board.websocket.outbound.max-pool-size:32}")
+  private int outboundMaxPoolSize;
+
+  @Value("${board.websocket.outbound.queue-capacity:10000}")
+  private int outboundQueueCapacity;
+
+  @Value("${board.websocket.send-time-limit-ms:10000}")
+  private int sendTimeLimitMs;
+
+  @Value("${board.websocket.send-buffer-size-limit:524288}")
+  private int sendBufferSizeLimit;
+
+  @Value("${board.websocket.message-size-limit:65536}")
+  private int messageSizeLimit;
+
   @Override
   public void configureMessageBroker(MessageBrokerRegistry config) {
-    config.enableSimpleBroker("/topic/chat");
+    // redis 모드에서도 SimpleBroker는 노드별 로컬 구독자 전달을 맡고, 노드 간 전달은 RedisChatRelay가 맡는다.
+    config.enableSimpleBroker("/topic/chat")
+        .setHeartbeatValue(new long[]{heartbeatMs, heartbeatMs})
+        .setTaskScheduler(messageBrokerTaskScheduler);
     config.setApplicationDestinationPrefixes("/app");
   }
 
@@ -30,6 +104,62 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
   @Override
   public void configureClientInboundChannel(ChannelRegistration registration) {
+    registration.taskExecutor(createExecutor("clientInboundChannel-", inboundCorePoolSize, inboundMaxPoolSize, inboundQueueCapacity,
+        webSocketSessionMonitor.inboundRejectedHandler()));
     registration.interceptors(stompHandler);
+    redisChatRelay.ifAvailable(relay -> registration.interceptors(relay));
+  }
+
+  @Override
+  public void configureClientOutboundChannel(ChannelRegistration registration) {
+    registration.taskExecutor(createExecutor("clientOutboundChannel-", outboundCorePoolSize, outboundMaxPoolSize, outboundQueueCapacity,
+        webSocketSessionMonitor.outboundRejectedHandler()));
+    outboundMessageBatcher.ifAvailable(batcher -> registration.interceptors(batcher));
+  }
+
+  @Override
+  public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+    registration.setSendTimeLimit(sendTimeLimitMs)
+        .setSendBufferSizeLimit(sendBufferSizeLimit)
+        .setMessageSizeLimit(messageSizeLimit)
+        .addDecoratorFactory(webSocketSessionMonitor);
+  }
+
+  /**
+   * 채널 실행기 생성 (초기화는 채널 실행기 빈으로 등록될 때 수행)
+   */
+  private ThreadPoolTaskExecutor createExecutor(String threadNamePrefix, int corePoolSize, int maxPoolSize, int queueCapacity,
+                                                RejectedExecutionHandler rejectedHandler) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix(threadNamePrefix);
+    executor.setCorePoolSize(corePoolSize);
+    executor.setMaxPoolSize(maxPoolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setAllowCoreThreadTimeOut(true);
+    executor.setRejectedExecutionHandler(rejectedHandler);
+    if ("virtual".equalsIgnoreCase(executorType)) {
+      ThreadFactory threadFactory = virtualThreadFactory(threadNamePrefix);
+      if (threadFactory != null) {
+        executor.setThreadFactory(threadFactory);
+      }
+    }
+    return executor;
+  }
+
+  /**
+   * 가상 스레드 팩토리 (Thread.ofVirtual().name(prefix, 0).factory())
+   * - 컴파일 대상이 Java 8이므로 리플렉션으로 호출한다.
+   * @return 가상 스레드를 지원하지 않으면 null
+   */
+  private static ThreadFactory virtualThreadFactory(String threadNamePrefix) {
+    try {
+      Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      builder = builderType.getMethod("name", String.class, long.class).invoke(builder, threadNamePrefix, 0L);
+      return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+    } catch (ReflectiveOperationException e) {
+      log.warn("가상 스레드를 지원하지 않는 JVM입니다. 일반 스레드를 사용합니다. ({})", threadNamePrefix);
+      return null;
+    }
   }
 }
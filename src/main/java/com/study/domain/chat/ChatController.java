@@ -0,0 +1,80 @@
+package com.study.domain.chat;
+
+import com.study.common.dto.GenericResponse;
+import com.study.socket.RedisChatRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 채팅 메시지 저장 및 기록 조회
+ * - /app/chat/{roomId}로 보낸 메시지를 ChatMessageLog에 기록한 뒤 /topic/chat/{roomId} 구독자에게 전달한다.
+ * - 기록은 노드별 로컬 로그이므로, 기록 조회는 메시지를 받은 노드의 기록만 반환한다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/chat")
+@RequiredArgsConstructor
+public class ChatController {
+
+    private final ChatMessageLog chatMessageLog;
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final ObjectProvider<RedisChatRelay> redisChatRelay;
+
+    @Value("${board.chat.log.history-max-limit:200}")
+    private int historyMaxLimit;
+
+    /**
+     * 채팅 메시지 수신 (저장 후 전달)
+     * @param roomId 채팅방 ID
+     * @param message STOMP 메시지 (본문은 변환하지 않고 그대로 저장/전달)
+     */
+    @MessageMapping("/chat/{roomId}")
+    public void send(@DestinationVariable long roomId, Message<byte[]> message) throws IOException {
+        byte[] payload = message.getPayload();
+        chatMessageLog.append(roomId, System.currentTimeMillis(), payload);
+
+        MimeType contentType = SimpMessageHeaderAccessor.getContentType(message.getHeaders());
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        if (contentType != null) {
+            accessor.setContentType(contentType);
+        }
+        accessor.setLeaveMutable(true);
+
+        String destination = "/topic/chat/" + roomId;
+        // convertAndSend는 application/json 본문(byte[])을 다시 JSON 문자열로 변환하므로 메시지를 직접 만든다.
+        messagingTemplate.send(destination, MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+        redisChatRelay.ifAvailable(relay -> relay.publish(destination, contentType, payload));
+    }
+
+    /**
+     * 채팅방 최근 메시지 조회
+     * @param roomId 채팅방 ID
+     * @param limit 최대 건수 (history-max-limit까지)
+     * @return 메시지 목록 (오래된 순)
+     */
+    @GetMapping("/{roomId}/history")
+    public GenericResponse<List<ChatMessage>> findHistory(@PathVariable long roomId,
+                                                         @RequestParam(defaultValue = "50") int limit) {
+        return new GenericResponse<>(chatMessageLog.findRecent(roomId, Math.min(limit, historyMaxLimit)));
+    }
+}
@@ -0,0 +1,22 @@
+package com.study.domain.chat;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 기록 (ChatMessageLog에서 읽은 메시지)
+ */
+@Getter
+public class ChatMessage {
+
+    private final long roomId;                 // 채팅방 ID
+    private final LocalDateTime sentAt;        // 전송일시
+    private final String message;              // 메시지 본문
+
+    ChatMessage(long roomId, LocalDateTime sentAt, String message) {
+        this.roomId = roomId;
+        this.sentAt = sentAt;
+        this.message = message;
+    }
+}
@@ -0,0 +1,361 @@
+package com.study.domain.chat;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+/**
+ * 채팅 메시지 추가 전용 로그
+ * - 메시지는 고정 크기 세그먼트 파일(chat-v2-번호.log)을 메모리 매핑하여 뒤에 이어 쓴다.
+ * - 세그먼트가 가득 차면 다음 세그먼트로 넘어가고, max-segments를 넘는 오래된 세그먼트는 삭제한다.
+ *   - 삭제할 세그먼트는 읽는 중인 조회가 없을 때 매핑을 해제한 뒤 파일을 지운다. (flush 주기)
+ * - 디스크 반영(fsync)은 fsync-interval-ms 주기로 한다. (그 사이 장애 시 마지막 메시지는 유실될 수 있음)
+ * - 레코드는 같은 세그먼트 안의 같은 방 이전 레코드 위치(prev)를 가지고, 세그먼트마다 방별 마지막 레코드 위치를 메모리에 둔다.
+ *   기록 조회는 최신 세그먼트부터 마지막 위치에서 prev를 따라 필요한 N건만 읽는다. (다른 방 레코드는 읽지 않음)
+ *
+ * 레코드 형식
+ * <pre>
+ * [length 4][crc 4][prev 4][roomId 8][sentAt 8][payload]
+ * </pre>
+ * - length: payload 길이 + 1 (0은 기록되지 않은 영역)
+ * - crc: prev, roomId, sentAt, payload의 CRC32
+ * - prev: 같은 세그먼트에서 같은 방의 이전 레코드 위치 (없으면 -1)
+ * - length는 본문을 쓴 뒤 마지막에 기록한다.
+ * - 장애 후에는 매핑된 페이지가 순서와 다르게 디스크에 반영되었을 수 있으므로,
+ *   다시 열 때 crc가 맞지 않는 레코드에서 멈추고 그 뒤 영역을 지운다.
+ * - prev가 없던 이전 형식(chat-번호.log) 파일은 읽지 않는다. (파일 이름 접두사로 구분)
+ */
+@Slf4j
+@Component
+public class ChatMessageLog {
+
+    private static final int HEADER_SIZE = 28;
+
+    private static final String SEGMENT_PREFIX = "chat-v2-";
+
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path dir;
+
+    private final int segmentSize;
+
+    private final int maxSegments;
+
+    // 오래된 순서, 마지막이 쓰기 세그먼트
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+
+    // 삭제 대기 세그먼트 (매핑 해제 전)
+    private final Queue<Segment> retired = new ConcurrentLinkedQueue<>();
+
+    // 조회는 읽기 잠금, 세그먼트 매핑 해제는 쓰기 잠금 (해제된 버퍼를 읽으면 JVM이 비정상 종료됨)
+    private final ReadWriteLock bufferLock = new ReentrantReadWriteLock();
+
+    private volatile boolean dirty;
+
+    public ChatMessageLog(@Value("${board.chat.log.dir:${java.io.tmpdir}/board-chat}") String dir,
+                          @Value("${board.chat.log.segment-size-bytes:67108864}") int segmentSize,
+                          @Value("${board.chat.log.max-segments:16}") int maxSegments) throws IOException {
+        this.dir = Files.createDirectories(Paths.get(dir));
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.dir, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        Collections.sort(files);
+        for (Path file : files) {
+            segments.add(Segment.open(file, segmentNo(file), Math.max(segmentSize, (int) Files.size(file))));
+        }
+        if (segments.isEmpty()) {
+            segments.add(Segment.open(segmentPath(0), 0, segmentSize));
+        }
+        log.info("채팅 로그 열기: dir={}, segments={}", this.dir, segments.size());
+    }
+
+    /**
+     * 메시지 추가
+     * @param roomId 채팅방 ID
+     * @param sentAt 전송일시 (epoch millis)
+     * @param payload 메시지 본문
+     */
+    public synchronized void append(long roomId, long sentAt, byte[] payload) throws IOException {
+        int recordSize = HEADER_SIZE + payload.length;
+        if (recordSize > segmentSize) {
+            throw new IllegalArgumentException("메시지가 세그먼트보다 큽니다. size=" + recordSize);
+        }
+
+        Segment segment = segments.get(segments.size() - 1);
+        if (segment.size + recordSize > segment.capacity) {
+            segment = rollOver(segment);
+        }
+
+        MappedByteBuffer buffer = segment.buffer;
+        int position = segment.size;
+        Integer prev = segment.lastPositions.get(roomId);
+        buffer.putInt(position + 8, prev != null ? prev : -1);
+        buffer.putLong(position + 12, roomId);
+        buffer.putLong(position + 20, sentAt);
+        ByteBuffer target = buffer.duplicate();
+        target.position(position + HEADER_SIZE);
+        target.put(payload);
+        buffer.putInt(position + 4, checksum(buffer, position, recordSize));
+        buffer.putInt(position, payload.length + 1);
+        segment.size = position + recordSize;
+        segment.lastPositions.put(roomId, position);
+        dirty = true;
+    }
+
+    /**
+     * 채팅방의 최근 메시지 조회
+     * @param roomId 채팅방 ID
+     * @param limit 최대 건수
+     * @return 메시지 목록 (오래된 순)
+     */
+    public List<ChatMessage> findRecent(long roomId, int limit) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        List<ChatMessage> messages = new ArrayList<>(Math.min(limit, 1024));
+        Lock readLock = bufferLock.readLock();
+        readLock.lock();
+        try {
+            List<Segment> snapshot = new ArrayList<>(segments);
+            for (int i = snapshot.size() - 1; i >= 0 && messages.size() < limit; i--) {
+                collect(snapshot.get(i), roomId, limit - messages.size(), messages);
+            }
+        } finally {
+            readLock.unlock();
+        }
+        Collections.reverse(messages);
+        return messages;
+    }
+
+    /**
+     * 세그먼트에서 방의 마지막 메시지를 최신 순으로 추가
+     * - 방의 마지막 레코드부터 prev를 따라 count건만 읽는다.
+     */
+    private static void collect(Segment segment, long roomId, int count, List<ChatMessage> messages) {
+        Integer last = segment.lastPositions.get(roomId);
+        if (last == null) {
+            return;
+        }
+        ByteBuffer buffer = segment.buffer.duplicate();
+        for (int position = last; position >= 0 && count > 0; position = buffer.getInt(position + 8), count--) {
+            byte[] payload = new byte[buffer.getInt(position) - 1];
+            buffer.position(position + HEADER_SIZE);
+            buffer.get(payload);
+            LocalDateTime sentAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(buffer.getLong(position + 20)), ZoneId.systemDefault());
+            messages.add(new ChatMessage(roomId, sentAt, new String(payload, StandardCharsets.UTF_8)));
+        }
+    }
+
+    /**
+     * 쓰기 세그먼트 디스크 반영 및 삭제 대기 세그먼트 정리 (fsync-interval-ms 주기)
+     */
+    @Scheduled(fixedDelayString = "${board.chat.log.fsync-interval-ms:1000}")
+    public void flush() {
+        releaseRetired(false);
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        segments.get(segments.size() - 1).buffer.force();
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        flush();
+        releaseRetired(true);
+    }
+
+    private Segment rollOver(Segment current) throws IOException {
+        current.buffer.force();
+        Segment next = Segment.open(segmentPath(current.no + 1), current.no + 1, segmentSize);
+        segments.add(next);
+        while (segments.size() > maxSegments) {
+            retired.add(segments.remove(0));
+        }
+        return next;
+    }
+
+    /**
+     * 삭제 대기 세그먼트의 매핑을 해제하고 파일 삭제
+     * @param wait 조회가 끝날 때까지 기다릴지 (false면 조회 중일 때 다음 주기로 미룬다)
+     */
+    private void releaseRetired(boolean wait) {
+        if (retired.isEmpty()) {
+            return;
+        }
+        Lock writeLock = bufferLock.writeLock();
+        if (wait) {
+            writeLock.lock();
+        } else if (!writeLock.tryLock()) {
+            return;
+        }
+        try {
+            Segment segment;
+            while ((segment = retired.poll()) != null) {
+                unmap(segment.buffer);
+                try {
+                    Files.deleteIfExists(segment.file);
+                    log.info("채팅 로그 세그먼트 삭제: file={}", segment.file);
+                } catch (IOException e) {
+                    log.warn("채팅 로그 세그먼트 삭제 실패: file={}", segment.file, e);
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 매핑 해제 (GC를 기다리지 않고 주소 공간과 디스크 공간을 돌려준다)
+     * - Java 9 이상은 Unsafe.invokeCleaner, Java 8은 DirectByteBuffer.cleaner()를 리플렉션으로 호출한다.
+     * - 해제한 버퍼는 다시 읽으면 안 된다.
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        try {
+            Class<?> unsafeType = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner;
+            try {
+                invokeCleaner = unsafeType.getMethod("invokeCleaner", ByteBuffer.class);
+            } catch (NoSuchMethodException e) {
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) {
+                    cleaner.getClass().getMethod("clean").invoke(cleaner);
+                }
+                return;
+            }
+            Field theUnsafe = unsafeType.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            invokeCleaner.invoke(theUnsafe.get(null), buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("채팅 로그 세그먼트 매핑 해제 실패 (GC 시 해제됨): {}", e.toString());
+        }
+    }
+
+    /**
+     * 레코드 CRC32 (prev, roomId, sentAt, payload)
+     */
+    private static int checksum(ByteBuffer buffer, int position, int recordSize) {
+        ByteBuffer record = buffer.duplicate();
+        record.limit(position + recordSize);
+        record.position(position + 8);
+        CRC32 crc = new CRC32();
+        crc.update(record);
+        return (int) crc.getValue();
+    }
+
+    private Path segmentPath(long no) {
+        return dir.resolve(String.format("%s%019d%s", SEGMENT_PREFIX, no, SEGMENT_SUFFIX));
+    }
+
+    private static long segmentNo(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * 메모리 매핑된 세그먼트
+     */
+    private static final class Segment {
+
+        private final Path file;
+
+        private final long no;
+
+        private final MappedByteBuffer buffer;
+
+        private final int capacity;
+
+        // 기록된 레코드의 끝 위치
+        private volatile int size;
+
+        // 방별 마지막 레코드 위치 (레코드를 다 쓴 뒤 갱신하므로 조회 스레드는 기록된 레코드만 본다)
+        private final Map<Long, Integer> lastPositions;
+
+        private Segment(Path file, long no, MappedByteBuffer buffer, int capacity, int size, Map<Long, Integer> lastPositions) {
+            this.file = file;
+            this.no = no;
+            this.buffer = buffer;
+            this.capacity = capacity;
+            this.size = size;
+            this.lastPositions = lastPositions;
+        }
+
+        /**
+         * 세그먼트 열기 (기존 파일이면 기록된 끝 위치와 방별 마지막 레코드 위치를 찾는다)
+         * - crc가 맞지 않는 레코드에서 멈추고, 이후 영역을 지워 다음에 다시 열 때 남은 레코드가 이어지지 않게 한다.
+         */
+        static Segment open(Path file, long no, int capacity) throws IOException {
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            }
+
+            int size = 0;
+            boolean corrupted = false;
+            Map<Long, Integer> lastPositions = new ConcurrentHashMap<>();
+            while (size + HEADER_SIZE <= capacity) {
+                int length = buffer.getInt(size);
+                if (length == 0) {
+                    break;
+                }
+                int recordSize = HEADER_SIZE + length - 1;
+                if (length < 0 || size + recordSize > capacity
+                        || buffer.getInt(size + 4) != checksum(buffer, size, recordSize)) {
+                    corrupted = true;
+                    break;
+                }
+                lastPositions.put(buffer.getLong(size + 12), size);
+                size += recordSize;
+            }
+
+            if (corrupted) {
+                log.warn("채팅 로그 손상 레코드 이후 영역을 버립니다: file={}, position={}", file, size);
+                ByteBuffer tail = buffer.duplicate();
+                tail.position(size);
+                byte[] zeros = new byte[8192];
+                while (tail.hasRemaining()) {
+                    tail.put(zeros, 0, Math.min(zeros.length, tail.remaining()));
+                }
+                buffer.force();
+            }
+            return new Segment(file, no, buffer, capacity, size, lastPositions);
+        }
+    }
+}
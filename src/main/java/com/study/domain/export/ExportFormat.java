@@ -0,0 +1,45 @@
+package com.study.domain.export;
+
+import java.util.Locale;
+
+/**
+ * 내보내기 파일 형식
+ */
+public enum ExportFormat {
+
+    XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
+    CSV("csv", "text/csv; charset=UTF-8"),
+    NDJSON("ndjson", "application/x-ndjson");
+
+    private final String extension;
+
+    private final String contentType;
+
+    ExportFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * 확장자로 형식 조회
+     * @param extension - 확장자 (대소문자 무시)
+     * @return 내보내기 형식
+     */
+    public static ExportFormat of(String extension) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equals(extension.toLowerCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 파일 형식입니다: " + extension);
+    }
+
+}
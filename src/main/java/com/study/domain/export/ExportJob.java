@@ -0,0 +1,88 @@
+package com.study.domain.export;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.study.common.dto.SearchDto;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 내보내기 작업 상태
+ */
+@Getter
+public class ExportJob {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final String id;                      // 작업 ID
+    private final ExportFormat format;            // 파일 형식
+    private final LocalDateTime createdAt;        // 등록일시
+    private volatile Status status;               // 작업 상태
+    private volatile long totalRows;              // 전체 건수 (진행률 계산용)
+    private volatile LocalDateTime completedAt;   // 종료일시
+    private volatile String error;                // 실패 사유
+
+    @JsonIgnore
+    private final SearchDto params;               // 검색 조건
+
+    @JsonIgnore
+    private final Path file;                      // 결과 파일
+
+    @JsonIgnore
+    private final AtomicLong rowsWritten = new AtomicLong();
+
+    ExportJob(String id, ExportFormat format, SearchDto params, Path file) {
+        this.id = id;
+        this.format = format;
+        this.params = params;
+        this.file = file;
+        this.createdAt = LocalDateTime.now();
+        this.status = Status.QUEUED;
+    }
+
+    // 작성한 건수
+    public long getWrittenRows() {
+        return rowsWritten.get();
+    }
+
+    // 진행률 (0 ~ 100)
+    public int getProgress() {
+        if (status == Status.COMPLETED) {
+            return 100;
+        }
+        if (totalRows <= 0) {
+            return 0;
+        }
+        return (int) Math.min(99, rowsWritten.get() * 100 / totalRows);
+    }
+
+    // 다운로드 경로
+    public String getDownloadUri() {
+        return status == Status.COMPLETED ? "/export/jobs/" + id + "/file" : null;
+    }
+
+    void start(long totalRows) {
+        this.totalRows = totalRows;
+        this.status = Status.RUNNING;
+    }
+
+    void rowWritten() {
+        rowsWritten.incrementAndGet();
+    }
+
+    void complete() {
+        this.completedAt = LocalDateTime.now();
+        this.status = Status.COMPLETED;
+    }
+
+    void fail(String error) {
+        this.error = error;
+        this.completedAt = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+
+}
@@ -0,0 +1,156 @@
+package com.study.domain.export;
+
+import com.study.common.dto.SearchDto;
+import com.study.domain.post.PostCountCache;
+import com.study.domain.post.PostExportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 내보내기 작업 관리
+ * - 작업은 크기가 제한된 작업 풀에서 실행되어 동시에 DB를 읽는 내보내기 수를 제한한다.
+ * - 결과 파일은 임시 디렉터리에 기록되고, 보관 기간이 지나면 주기적으로 삭제된다.
+ */
+@Slf4j
+@Service
+public class ExportJobService {
+
+    private final PostExportService postExportService;
+
+    private final PostCountCache postCountCache;
+
+    private final Path exportDir;
+
+    private final long retentionMinutes;
+
+    private final ThreadPoolExecutor executor;
+
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    public ExportJobService(PostExportService postExportService,
+                            PostCountCache postCountCache,
+                            @Value("${board.export.dir:${java.io.tmpdir}/board-export}") String exportDir,
+                            @Value("${board.export.max-concurrent-jobs:2}") int maxConcurrentJobs,
+                            @Value("${board.export.queue-capacity:10}") int queueCapacity,
+                            @Value("${board.export.retention-minutes:60}") long retentionMinutes) throws IOException {
+        this.postExportService = postExportService;
+        this.postCountCache = postCountCache;
+        this.exportDir = Files.createDirectories(Paths.get(exportDir));
+        this.retentionMinutes = retentionMinutes;
+
+        AtomicInteger threadNo = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "export-worker-" + threadNo.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 내보내기 작업 등록
+     * @param params - search conditions
+     * @param format - 파일 형식
+     * @return 등록된 작업
+     * @throws RejectedExecutionException 대기 중인 작업이 가득 찬 경우
+     */
+    public ExportJob submit(final SearchDto params, final ExportFormat format) {
+        String id = UUID.randomUUID().toString();
+        ExportJob job = new ExportJob(id, format, params, exportDir.resolve(id + "." + format.getExtension()));
+        jobs.put(id, job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(id);
+            throw e;
+        }
+        log.info("내보내기 작업 등록: jobId={}, format={}", id, format);
+        return job;
+    }
+
+    /**
+     * 내보내기 작업 조회
+     * @param id - 작업 ID
+     * @return 작업
+     */
+    public Optional<ExportJob> findJob(final String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    /**
+     * 보관 기간이 지난 작업과 파일 삭제
+     */
+    @Scheduled(fixedDelayString = "${board.export.cleanup-interval-ms:300000}")
+    public void evictExpiredJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(retentionMinutes);
+        Iterator<ExportJob> iterator = jobs.values().iterator();
+        while (iterator.hasNext()) {
+            ExportJob job = iterator.next();
+            if (job.getCompletedAt() != null && job.getCompletedAt().isBefore(threshold)) {
+                iterator.remove();
+                deleteQuietly(job.getFile());
+                log.info("내보내기 작업 만료: jobId={}", job.getId());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(ExportJob job) {
+        try {
+            job.start(postCountCache.count(job.getParams()));
+            try (OutputStream out = Files.newOutputStream(job.getFile())) {
+                switch (job.getFormat()) {
+                    case CSV:
+                        postExportService.writeCsv(job.getParams(), out, post -> job.rowWritten());
+                        break;
+                    case NDJSON:
+                        postExportService.writeNdjson(job.getParams(), out, post -> job.rowWritten());
+                        break;
+                    case XLSX:
+                    default:
+                        postExportService.writeXlsx(job.getParams(), out, post -> job.rowWritten());
+                        break;
+                }
+            }
+            job.complete();
+            log.info("내보내기 작업 완료: jobId={}, rows={}", job.getId(), job.getWrittenRows());
+        } catch (Exception e) {
+            log.error("내보내기 작업 실패: jobId={}", job.getId(), e);
+            deleteQuietly(job.getFile());
+            job.fail("내보내기 중 오류가 발생했습니다.");
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("내보내기 파일 삭제 실패: file={}", file, e);
+        }
+    }
+
+}
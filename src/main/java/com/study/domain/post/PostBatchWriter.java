@@ -0,0 +1,130 @@
+package com.study.domain.post;
+
+import lombok.extern.slf4j.Slf4j;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 대량 저장 (MyBatis BATCH executor)
+ * - batchSize 건마다 JDBC batch를 실행하고, commitInterval 배치마다 커밋한다.
+ * - 커밋 단위가 실패하면 해당 단위만 롤백하고, 실패한 배치 번호와 롤백된 행 범위를 결과에 남긴 뒤 다음 단위를 계속 처리한다.
+ * - 입력을 더 읽을 수 없으면(JSON 파싱 오류 등) 그때까지 읽은 행을 저장하고 중단 위치를 결과에 남긴다.
+ */
+@Slf4j
+@Component
+public class PostBatchWriter {
+
+    private final SqlSessionTemplate batchSqlSession;
+
+    private final PostMapper batchPostMapper;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    private final int commitInterval;
+
+    public PostBatchWriter(@Qualifier("batchSqlSession") SqlSessionTemplate batchSqlSession,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${board.post.bulk.batch-size:1000}") int batchSize,
+                           @Value("${board.post.bulk.commit-interval:10}") int commitInterval) {
+        this.batchSqlSession = batchSqlSession;
+        this.batchPostMapper = batchSqlSession.getMapper(PostMapper.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.commitInterval = commitInterval;
+    }
+
+    /**
+     * 게시글 대량 저장
+     * @param posts - 저장할 게시글 (한 건씩 읽는다)
+     * @param onCommitted - 커밋된 게시글 목록을 전달받을 콜백
+     * @return 저장 결과
+     */
+    public PostBulkResult write(final Iterator<PostRequest> posts, final Consumer<List<PostRequest>> onCommitted) {
+        long startedAt = System.nanoTime();
+        PostBulkResult result = new PostBulkResult();
+        List<PostRequest> chunk = new ArrayList<>(batchSize * commitInterval);
+        int batchNo = 0;
+        int rowNo = 0;
+
+        while (true) {
+            PostRequest post;
+            try {
+                if (!posts.hasNext()) {
+                    break;
+                }
+                post = posts.next();
+            } catch (RuntimeException e) {
+                log.error("게시글 대량 저장 입력 오류, 이전 행까지만 저장합니다: rowNo={}", rowNo + 1, e);
+                result.abort(rowNo + 1, e.getMessage());
+                break;
+            }
+            rowNo++;
+            if (post.getNoticeYn() == null) {
+                post.setNoticeYn(false);
+            }
+            chunk.add(post);
+            if (chunk.size() == batchSize * commitInterval) {
+                batchNo = writeChunk(chunk, batchNo, rowNo - chunk.size() + 1, result, onCommitted);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, batchNo, rowNo - chunk.size() + 1, result, onCommitted);
+        }
+
+        result.finish(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        log.info("게시글 대량 저장 완료: total={}, saved={}, failed={}, elapsed={}ms",
+                result.getTotalCount(), result.getSavedCount(), result.getFailedCount(), result.getElapsedMillis());
+        return result;
+    }
+
+    // 커밋 단위 저장, 다음 배치 번호 반환
+    private int writeChunk(List<PostRequest> chunk, int batchNo, int fromRowNo, PostBulkResult result,
+                           Consumer<List<PostRequest>> onCommitted) {
+        List<PostBulkResult.Batch> committed = new ArrayList<>();
+        int[] nextBatchNo = {batchNo};
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int from = 0; from < chunk.size(); from += batchSize) {
+                    List<PostRequest> batch = chunk.subList(from, Math.min(from + batchSize, chunk.size()));
+                    nextBatchNo[0]++;
+                    long batchStartedAt = System.nanoTime();
+                    for (PostRequest post : batch) {
+                        batchPostMapper.save(post);
+                    }
+                    batchSqlSession.flushStatements();
+
+                    long elapsedNanos = Math.max(System.nanoTime() - batchStartedAt, 1);
+                    long rowsPerSecond = batch.size() * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+                    committed.add(new PostBulkResult.Batch(nextBatchNo[0], fromRowNo + from, fromRowNo + from + batch.size() - 1,
+                            batch.size(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsPerSecond, null));
+                    log.debug("게시글 배치 저장: batchNo={}, size={}, rowsPerSecond={}", nextBatchNo[0], batch.size(), rowsPerSecond);
+                }
+            });
+        } catch (Exception e) {
+            int toRowNo = fromRowNo + chunk.size() - 1;
+            log.error("게시글 대량 저장 실패 (커밋 단위 롤백): batchNo={}, rows={}-{}", nextBatchNo[0], fromRowNo, toRowNo, e);
+            result.addFailed(nextBatchNo[0], fromRowNo, toRowNo, e.getMessage());
+            return batchNo + (chunk.size() + batchSize - 1) / batchSize;
+        }
+
+        result.addSaved(committed);
+        onCommitted.accept(new ArrayList<>(chunk));
+        return nextBatchNo[0];
+    }
+
+}
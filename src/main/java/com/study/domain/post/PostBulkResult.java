@@ -0,0 +1,61 @@
+package com.study.domain.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 대량 저장 결과
+ */
+@Getter
+public class PostBulkResult {
+
+    private int totalCount;                          // 요청 건수
+    private int savedCount;                          // 저장 건수
+    private int failedCount;                         // 실패 건수
+    private long elapsedMillis;                      // 전체 소요 시간
+    private Integer abortedRowNo;                    // 입력을 읽지 못해 중단된 행 번호 (끝까지 읽었으면 null)
+    private String error;                            // 중단 사유
+    private List<Batch> batches = new ArrayList<>(); // 배치별 결과
+
+    void addSaved(List<Batch> committed) {
+        for (Batch batch : committed) {
+            totalCount += batch.size;
+            savedCount += batch.size;
+            batches.add(batch);
+        }
+    }
+
+    void addFailed(int batchNo, int fromRowNo, int toRowNo, String error) {
+        int size = toRowNo - fromRowNo + 1;
+        totalCount += size;
+        failedCount += size;
+        batches.add(new Batch(batchNo, fromRowNo, toRowNo, size, 0, 0, error));
+    }
+
+    void abort(int rowNo, String error) {
+        this.abortedRowNo = rowNo;
+        this.error = error;
+    }
+
+    void finish(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Batch {
+
+        private int batchNo;          // 배치 번호 (실패한 경우 예외가 발생한 배치)
+        private int fromRowNo;        // 첫 행 번호 (1부터)
+        private int toRowNo;          // 마지막 행 번호 (실패한 경우 롤백된 커밋 단위의 마지막 행)
+        private int size;             // 건수
+        private long elapsedMillis;   // 배치 소요 시간
+        private long rowsPerSecond;   // 초당 저장 건수
+        private String error;         // 실패 사유
+
+    }
+
+}
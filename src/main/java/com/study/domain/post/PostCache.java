@@ -0,0 +1,204 @@
+package com.study.domain.post;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세정보 캐시
+ * - 1차: 크기/TTL 제한이 있는 로컬 캐시
+ * - 2차: Redis (board.post.cache.redis.enabled=true 인 경우)
+ * - 로컬 캐시는 노드별로 유지되므로 다른 노드의 수정 내용은 로컬 TTL 이내에 반영된다.
+ * - 로딩 중에 삭제 요청이 들어오면 로딩이 끝난 뒤 방금 저장된 값을 다시 제거한다. (수정 전 값이 남지 않도록)
+ */
+@Slf4j
+@Component
+public class PostCache {
+
+    private static final String REDIS_PREFIX = "boardpractice:post:";
+
+    private static final int VERSION_STRIPES = 1024;
+
+    // 캐시된 게시글의 조회 수 증가 (갱신 여부 반환)
+    private static final RedisScript<Long> VIEW_COUNT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/post_view_count.lua"), Long.class);
+
+    private static final RedisSerializer<Long> LONG_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final boolean redisEnabled;
+
+    private final long redisTtlSeconds;
+
+    private final Cache<Long, PostResponse> localCache;
+
+    private final LongAdder redisHits = new LongAdder();
+
+    private final LongAdder redisMisses = new LongAdder();
+
+    // 게시글 ID 구간별 삭제 횟수 (로딩 중 삭제 여부 판단용)
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    public PostCache(RedisTemplate<String, Object> redisTemplate,
+                     @Value("${board.post.cache.max-size:10000}") long maxSize,
+                     @Value("${board.post.cache.ttl-seconds:60}") long ttlSeconds,
+                     @Value("${board.post.cache.redis.enabled:false}") boolean redisEnabled,
+                     @Value("${board.post.cache.redis.ttl-seconds:300}") long redisTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.redisEnabled = redisEnabled;
+        this.redisTtlSeconds = redisTtlSeconds;
+        this.localCache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 게시글 조회 (Read-through)
+     * - 같은 게시글을 동시에 요청하면 한 번만 로딩한다.
+     * @param id - PK
+     * @param loader - 캐시에 없을 때 DB 조회
+     * @return 게시글 상세정보, 없으면 null
+     */
+    public PostResponse get(final Long id, final Function<Long, PostResponse> loader) {
+        long[] loadedVersion = {-1};
+        try {
+            PostResponse post = localCache.get(id, () -> {
+                loadedVersion[0] = version(id);
+                return loadFromRemote(id, loader, loadedVersion[0]);
+            });
+            // 직접 로딩했고 그 사이 삭제 요청이 있었다면, 삭제 이후에 저장된 값일 수 있으므로 다시 제거한다.
+            if (loadedVersion[0] >= 0 && version(id) != loadedVersion[0]) {
+                evict(id);
+            }
+            return post;
+        } catch (CacheLoader.InvalidCacheLoadException e) {
+            // 존재하지 않는 게시글은 캐싱하지 않는다.
+            return null;
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            log.error("게시글 캐시 로딩 실패: id={}", id, e);
+            return loader.apply(id);
+        }
+    }
+
+    /**
+     * 게시글 캐시 삭제
+     * @param id - PK
+     */
+    public void invalidate(final Long id) {
+        versions.incrementAndGet(stripe(id));
+        evict(id);
+    }
+
+    /**
+     * 캐시된 게시글의 조회 수 증가
+     * - 조회 수 반영 주기마다 캐시를 비우지 않도록 로컬 캐시의 값을 복사본으로 교체한다.
+     * - 로딩 중인 값은 반영 전 조회 수일 수 있으므로 로딩이 끝나면 다시 제거되게 한다.
+     * - Redis 의 값은 다른 노드가 계속 사용하므로 지우지 않고 Lua 스크립트(redis/post_view_count.lua)로 그 자리에서 증가시킨다.
+     *   (노드마다 자신이 DB에 반영한 증가분만 더하므로 노드 간 경합이 없다. 실패하면 삭제해서 DB 에서 다시 읽게 한다)
+     * @param id - PK
+     * @param delta - DB에 반영된 증가분
+     */
+    public void addViewCount(final Long id, final long delta) {
+        versions.incrementAndGet(stripe(id));
+        localCache.asMap().computeIfPresent(id, (key, post) -> post.withViewCnt((int) (post.getViewCnt() + delta)));
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.execute(VIEW_COUNT_SCRIPT, redisTemplate.getStringSerializer(), LONG_SERIALIZER,
+                    Collections.singletonList(REDIS_PREFIX + id), String.valueOf(delta));
+        } catch (Exception e) {
+            log.error("게시글 Redis 캐시 조회 수 갱신 실패: id={}", id, e);
+            evict(id);
+        }
+    }
+
+    private void evict(Long id) {
+        localCache.invalidate(id);
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.delete(REDIS_PREFIX + id);
+        } catch (Exception e) {
+            log.error("게시글 Redis 캐시 삭제 실패: id={}", id, e);
+        }
+    }
+
+    /**
+     * 캐시 통계
+     * @return 적중/미적중/제거 횟수
+     */
+    public Map<String, Object> stats() {
+        CacheStats local = localCache.stats();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", localCache.size());
+        stats.put("hitCount", local.hitCount());
+        stats.put("missCount", local.missCount());
+        stats.put("hitRate", local.hitRate());
+        stats.put("evictionCount", local.evictionCount());
+        stats.put("redisEnabled", redisEnabled);
+        stats.put("redisHitCount", redisHits.sum());
+        stats.put("redisMissCount", redisMisses.sum());
+        return stats;
+    }
+
+    private long version(Long id) {
+        return versions.get(stripe(id));
+    }
+
+    private int stripe(Long id) {
+        return (int) (id & (VERSION_STRIPES - 1));
+    }
+
+    private PostResponse loadFromRemote(Long id, Function<Long, PostResponse> loader, long loadedVersion) {
+        if (!redisEnabled) {
+            return loader.apply(id);
+        }
+
+        String key = REDIS_PREFIX + id;
+        try {
+            Object value = redisTemplate.opsForValue().get(key);
+            if (value instanceof PostResponse) {
+                redisHits.increment();
+                return (PostResponse) value;
+            }
+        } catch (Exception e) {
+            log.error("게시글 Redis 캐시 조회 실패: id={}", id, e);
+        }
+
+        redisMisses.increment();
+        PostResponse post = loader.apply(id);
+        if (post != null && version(id) == loadedVersion) {
+            try {
+                redisTemplate.opsForValue().set(key, post, redisTtlSeconds, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                log.error("게시글 Redis 캐시 저장 실패: id={}", id, e);
+            }
+        }
+        return post;
+    }
+
+}
@@ -28,7 +28,7 @@ public class PostController {
     @GetMapping("/post/write.do")
     public String openPostWrite(@RequestParam(value = "id", required = false) final Long id, Model model) {
         if (id != null) {
-            PostResponse post = postService.findPostById(id);
+            PostResponse post = postService.findPostForUpdate(id);
             model.addAttribute("post", post);
         }
         return "post/write";
@@ -0,0 +1,112 @@
+package com.study.domain.post;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.study.common.dto.SearchDto;
+import com.study.common.util.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 수 캐시
+ * - 검색 조건(searchType, keyword)을 정규화한 키로 COUNT(*) 결과를 캐싱한다.
+ * - 게시글 저장/수정/삭제 시 트랜잭션 커밋 이후에 전체 무효화된다.
+ */
+@Slf4j
+@Component
+public class PostCountCache {
+
+    private static final String APPROXIMATE_KEY = "~approximate";
+
+    // 테이블 통계가 없을 때 APPROXIMATE_KEY에 캐싱하는 값
+    private static final int NO_STATISTICS = -1;
+
+    private final PostMapper postMapper;
+
+    private final Cache<String, Integer> cache;
+
+    public PostCountCache(PostMapper postMapper,
+                          @Value("${board.post.count-cache.max-size:1000}") long maxSize,
+                          @Value("${board.post.count-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.postMapper = postMapper;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * 게시글 수 조회
+     * - 근사치 모드이고 검색 키워드가 없으면 테이블 통계의 행 수를 사용한다.
+     * - 통계 정보가 없으면 정확한 값으로 대체하고 근사치 모드를 해제한다. (isApproximate가 false가 됨)
+     * @param params - search conditions
+     * @return 게시글 수
+     */
+    public int count(final SearchDto params) {
+        if (isApproximate(params)) {
+            int count = load(APPROXIMATE_KEY, params);
+            if (count != NO_STATISTICS) {
+                return count;
+            }
+            params.setApproximateCount(false);
+        }
+        return load(cacheKey(params), params);
+    }
+
+    /**
+     * 근사치 사용 여부
+     * - 키워드 검색은 통계로 대체할 수 없으므로 항상 정확한 값을 사용한다.
+     * @param params - search conditions
+     * @return 근사치 사용 여부
+     */
+    public boolean isApproximate(final SearchDto params) {
+        return params.isApproximateCount() && isEmpty(params.getKeyword());
+    }
+
+    /**
+     * 캐시 전체 무효화
+     * - 트랜잭션 안에서 호출되면 커밋 이후에 무효화하여, 커밋 전 값이 다시 캐싱되는 것을 막는다.
+     */
+    public void invalidateAll() {
+        TransactionUtils.afterCommit(cache::invalidateAll);
+    }
+
+    /**
+     * 캐시 키 생성
+     * - 키워드가 없으면 검색 유형과 관계없이 같은 키를 사용한다.
+     * - 키워드는 SQL 조건에 그대로 쓰이므로 가공하지 않는다.
+     * @param params - search conditions
+     * @return 캐시 키
+     */
+    static String cacheKey(final SearchDto params) {
+        if (isEmpty(params.getKeyword())) {
+            return "";
+        }
+        String searchType = isEmpty(params.getSearchType()) ? "" : params.getSearchType();
+        return searchType + ":" + params.getKeyword();
+    }
+
+    private static boolean isEmpty(String value) {
+        return value == null || value.isEmpty();
+    }
+
+    private int load(String key, SearchDto params) {
+        try {
+            return cache.get(key, () -> APPROXIMATE_KEY.equals(key) ? approximateCount() : postMapper.count(params));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            log.error("게시글 수 조회 실패: key={}", key, e);
+            throw new IllegalStateException("게시글 수 조회 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    private int approximateCount() {
+        Integer count = postMapper.approximateCount();
+        return count != null ? count : NO_STATISTICS;
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.study.domain.post;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 CSV 작성 (RFC 4180, UTF-8, 엑셀 호환을 위해 BOM 포함)
+ */
+class PostCsvWriter extends PostTextWriter {
+
+    PostCsvWriter(OutputStream out, Consumer<PostResponse> onRow) {
+        super(out, onRow);
+    }
+
+    @Override
+    void writeHeader() throws IOException {
+        line.setLength(0);
+        line.append('\uFEFF');
+        for (int i = 0; i < PostExportService.COLUMNS.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            appendField(PostExportService.COLUMNS[i]);
+        }
+        line.append("\r\n");
+        writeLine();
+    }
+
+    @Override
+    protected void appendRow(PostResponse post) {
+        // 박싱된 값을 append(Object)로 넘기면 행마다 문자열이 만들어지므로 기본형으로 기록한다.
+        if (post.getId() != null) {
+            line.append(post.getId().longValue());
+        }
+        line.append(',');
+        appendField(post.getTitle());
+        line.append(',');
+        appendField(post.getWriter());
+        line.append(',');
+        appendField(post.getContent());
+        line.append(',').append(post.getViewCnt()).append(',');
+        line.append(Boolean.TRUE.equals(post.getNoticeYn()) ? 'Y' : 'N').append(',');
+        if (post.getCreatedDate() != null) {
+            PostExportService.DATE_FORMAT.formatTo(post.getCreatedDate(), line);
+        }
+        line.append("\r\n");
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 쓴다.
+    // 스프레드시트가 수식으로 해석하는 문자로 시작하면 앞에 ' 를 붙인다. (CSV injection 방지)
+    private void appendField(String value) {
+        if (value == null) {
+            return;
+        }
+        boolean formula = isFormula(value);
+        if (!needsQuote(value)) {
+            if (formula) {
+                line.append('\'');
+            }
+            line.append(value);
+            return;
+        }
+        line.append('"');
+        if (formula) {
+            line.append('\'');
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+
+    private static boolean isFormula(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        char first = value.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+
+    private static boolean needsQuote(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,208 @@
+package com.study.domain.post;
+
+import com.study.common.dto.SearchDto;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.poi.hssf.usermodel.HSSFFont;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 내보내기
+ * - 한 건씩 읽어 바로 기록하므로 건수와 관계없이 힙 사용량이 일정하다.
+ * - xlsx: MyBatis Cursor + SXSSF, csv/ndjson: ResultHandler + 재사용 버퍼
+ */
+@Slf4j
+@Service
+public class PostExportService {
+
+    static final String[] COLUMNS = {"번호", "제목", "작성자", "내용", "조회 수", "공지글 여부", "등록일"};
+
+    static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final int MAX_ROWS_PER_SHEET = 1_048_576;    // .xlsx 시트당 최대 행 수
+    private static final int MAX_CELL_LENGTH = 32_767;          // 셀당 최대 글자 수
+
+    private final PostMapper postMapper;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final int rowAccessWindowSize;
+
+    public PostExportService(PostMapper postMapper,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${board.post.export.xlsx.window-size:100}") int rowAccessWindowSize) {
+        this.postMapper = postMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.rowAccessWindowSize = rowAccessWindowSize;
+    }
+
+    /**
+     * 검색 조건에 맞는 게시글을 순서대로 전달
+     * - Cursor는 세션이 열려 있는 동안만 읽을 수 있으므로 읽기 전용 트랜잭션 안에서 순회한다.
+     * @param params - search conditions
+     * @param consumer - 게시글을 한 건씩 전달받을 콜백
+     * @return 전달한 게시글 수
+     */
+    public long forEachPost(final SearchDto params, final Consumer<PostResponse> consumer) {
+        Long count = readOnlyTransaction.execute(status -> {
+            long rows = 0;
+            try (Cursor<PostResponse> cursor = postMapper.findAllForExport(params)) {
+                for (PostResponse post : cursor) {
+                    consumer.accept(post);
+                    rows++;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return rows;
+        });
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 게시글 리스트 엑셀(.xlsx) 작성
+     * @param params - search conditions
+     * @param out - 출력 스트림 (닫지 않는다)
+     * @return 작성한 게시글 수
+     */
+    public long writeXlsx(final SearchDto params, final OutputStream out) throws IOException {
+        return writeXlsx(params, out, post -> { });
+    }
+
+    /**
+     * 게시글 리스트 엑셀(.xlsx) 작성
+     * - SXSSF는 최근 rowAccessWindowSize 행만 메모리에 두고 나머지는 임시 파일로 내보낸다.
+     * @param params - search conditions
+     * @param out - 출력 스트림 (닫지 않는다)
+     * @param onRow - 한 행을 기록할 때마다 호출 (진행률 집계용)
+     * @return 작성한 게시글 수
+     */
+    public long writeXlsx(final SearchDto params, final OutputStream out, final Consumer<PostResponse> onRow) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(rowAccessWindowSize);
+        workbook.setCompressTempFiles(true);
+        try {
+            CellStyle headerStyle = createHeaderStyle(workbook);
+            XlsxSheetWriter writer = new XlsxSheetWriter(workbook, headerStyle);
+            long rows = forEachPost(params, post -> {
+                writer.write(post);
+                onRow.accept(post);
+            });
+            workbook.write(out);
+            out.flush();
+            log.info("게시글 엑셀 내보내기 완료: rows={}", rows);
+            return rows;
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    /**
+     * 게시글 리스트 CSV 작성 (UTF-8, 엑셀 호환을 위해 BOM 포함)
+     * @param params - search conditions
+     * @param out - 출력 스트림 (닫지 않는다)
+     * @param onRow - 한 행을 기록할 때마다 호출 (진행률 집계용)
+     * @return 작성한 게시글 수
+     */
+    public long writeCsv(final SearchDto params, final OutputStream out, final Consumer<PostResponse> onRow) throws IOException {
+        long rows = stream(params, new PostCsvWriter(out, onRow));
+        log.info("게시글 CSV 내보내기 완료: rows={}", rows);
+        return rows;
+    }
+
+    /**
+     * 게시글 리스트 NDJSON 작성 (한 줄에 게시글 하나)
+     * @param params - search conditions
+     * @param out - 출력 스트림 (닫지 않는다)
+     * @param onRow - 한 행을 기록할 때마다 호출 (진행률 집계용)
+     * @return 작성한 게시글 수
+     */
+    public long writeNdjson(final SearchDto params, final OutputStream out, final Consumer<PostResponse> onRow) throws IOException {
+        long rows = stream(params, new PostNdjsonWriter(out, onRow));
+        log.info("게시글 NDJSON 내보내기 완료: rows={}", rows);
+        return rows;
+    }
+
+    // ResultHandler로 한 건씩 받아 바로 기록 (세션은 조회하는 동안만 열려 있으면 된다)
+    private long stream(SearchDto params, PostTextWriter writer) throws IOException {
+        writer.writeHeader();
+        postMapper.findAllForStream(params, writer);
+        return writer.finish();
+    }
+
+    private CellStyle createHeaderStyle(SXSSFWorkbook workbook) {
+        Font font = workbook.createFont();
+        font.setFontName(HSSFFont.FONT_ARIAL);
+        font.setBold(true);
+
+        CellStyle style = workbook.createCellStyle();
+        style.setFont(font);
+        style.setAlignment(HorizontalAlignment.CENTER);
+        return style;
+    }
+
+    /**
+     * 시트 작성기 (시트당 최대 행 수를 넘으면 다음 시트로 넘어간다)
+     */
+    private static class XlsxSheetWriter {
+
+        private final SXSSFWorkbook workbook;
+        private final CellStyle headerStyle;
+        private Sheet sheet;
+        private int rowNo;
+
+        XlsxSheetWriter(SXSSFWorkbook workbook, CellStyle headerStyle) {
+            this.workbook = workbook;
+            this.headerStyle = headerStyle;
+            nextSheet();
+        }
+
+        void write(PostResponse post) {
+            if (rowNo == MAX_ROWS_PER_SHEET) {
+                nextSheet();
+            }
+            Row row = sheet.createRow(rowNo++);
+            row.createCell(0).setCellValue(post.getId());
+            row.createCell(1).setCellValue(truncate(post.getTitle()));
+            row.createCell(2).setCellValue(truncate(post.getWriter()));
+            row.createCell(3).setCellValue(truncate(post.getContent()));
+            row.createCell(4).setCellValue(post.getViewCnt());
+            row.createCell(5).setCellValue(Boolean.TRUE.equals(post.getNoticeYn()) ? "Y" : "N");
+            row.createCell(6).setCellValue(post.getCreatedDate() != null ? DATE_FORMAT.format(post.getCreatedDate()) : "");
+        }
+
+        private void nextSheet() {
+            sheet = workbook.createSheet("게시글 목록 " + (workbook.getNumberOfSheets() + 1));
+            rowNo = 0;
+            Row header = sheet.createRow(rowNo++);
+            for (int i = 0; i < COLUMNS.length; i++) {
+                header.createCell(i).setCellValue(COLUMNS[i]);
+                header.getCell(i).setCellStyle(headerStyle);
+            }
+        }
+
+        private static String truncate(String value) {
+            if (value == null) {
+                return "";
+            }
+            return value.length() > MAX_CELL_LENGTH ? value.substring(0, MAX_CELL_LENGTH) : value;
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.study.domain.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 엑셀 가져오기 결과
+ */
+@Getter
+public class PostImportResult {
+
+    private long totalRows;                                   // 읽은 행 수 (머리글 제외)
+    private long savedCount;                                  // 저장 건수
+    private long rejectedCount;                               // 검증 실패 건수
+    private long failedCount;                                 // 저장 실패 건수
+    private long elapsedMillis;                               // 전체 소요 시간
+    private List<RejectedRow> rejectedRows = new ArrayList<>(); // 검증 실패 행 (최대 maxRejectedRows 건)
+    private List<SkippedSheet> skippedSheets = new ArrayList<>(); // 건너뛴 시트
+
+    void addRow() {
+        totalRows++;
+    }
+
+    void addRejected(String sheetName, int rowNo, String reason, int maxRejectedRows) {
+        rejectedCount++;
+        if (rejectedRows.size() < maxRejectedRows) {
+            rejectedRows.add(new RejectedRow(sheetName, rowNo, reason));
+        }
+    }
+
+    void addSkippedSheet(String sheetName, String reason) {
+        skippedSheets.add(new SkippedSheet(sheetName, reason));
+    }
+
+    void addBulkResult(PostBulkResult bulkResult) {
+        savedCount += bulkResult.getSavedCount();
+        failedCount += bulkResult.getFailedCount();
+    }
+
+    void finish(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RejectedRow {
+
+        private String sheetName;   // 시트 이름
+        private int rowNo;          // 엑셀 행 번호 (1부터)
+        private String reason;      // 실패 사유
+
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SkippedSheet {
+
+        private String sheetName;   // 시트 이름
+        private String reason;      // 건너뛴 사유
+
+    }
+
+}
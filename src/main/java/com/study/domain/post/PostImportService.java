@@ -0,0 +1,267 @@
+package com.study.domain.post;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.SAXHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 엑셀(.xlsx) 가져오기
+ * - 시트를 SAX 이벤트로 한 행씩 읽으므로 파일 크기와 관계없이 힙 사용량이 일정하다.
+ * - 첫 행은 머리글로 보고 열 이름(내보내기 파일과 같은 이름 또는 필드명)으로 열을 찾는다.
+ * - 검증에 실패한 행은 건너뛰고 결과에 기록하며, 나머지는 chunkSize 단위로 대량 저장한다.
+ * - 필수 열(제목, 내용, 작성자)이 없는 시트는 건너뛰고 결과에 기록한다. (앞 시트에서 이미 저장된 행이 있으므로 중단하지 않는다)
+ */
+@Slf4j
+@Service
+public class PostImportService {
+
+    private static final Map<String, String> HEADER_ALIASES = new HashMap<>();
+
+    static {
+        HEADER_ALIASES.put("제목", "title");
+        HEADER_ALIASES.put("title", "title");
+        HEADER_ALIASES.put("내용", "content");
+        HEADER_ALIASES.put("content", "content");
+        HEADER_ALIASES.put("작성자", "writer");
+        HEADER_ALIASES.put("writer", "writer");
+        HEADER_ALIASES.put("공지글 여부", "noticeYn");
+        HEADER_ALIASES.put("noticeyn", "noticeYn");
+    }
+
+    private final PostService postService;
+
+    private final int chunkSize;
+
+    private final int maxRejectedRows;
+
+    public PostImportService(PostService postService,
+                             @Value("${board.post.import.chunk-size:10000}") int chunkSize,
+                             @Value("${board.post.import.max-rejected-rows:1000}") int maxRejectedRows) {
+        this.postService = postService;
+        this.chunkSize = chunkSize;
+        this.maxRejectedRows = maxRejectedRows;
+    }
+
+    /**
+     * 게시글 엑셀 가져오기
+     * @param file - 업로드된 .xlsx 파일
+     * @return 가져오기 결과
+     * @throws IllegalArgumentException 엑셀 파일 형식이 아닌 경우
+     */
+    public PostImportResult importXlsx(final File file) throws IOException {
+        long startedAt = System.nanoTime();
+        PostImportResult result = new PostImportResult();
+
+        OPCPackage pkg;
+        try {
+            pkg = OPCPackage.open(file, PackageAccess.READ);
+        } catch (OpenXML4JException e) {
+            throw new IllegalArgumentException("엑셀(.xlsx) 파일을 읽을 수 없습니다.", e);
+        }
+
+        try {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+            DataFormatter formatter = new DataFormatter();
+
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheets.hasNext()) {
+                try (InputStream sheet = sheets.next()) {
+                    PostRowHandler handler = new PostRowHandler(sheets.getSheetName(), result);
+                    XMLReader parser = SAXHelper.newXMLReader();
+                    parser.setContentHandler(new XSSFSheetXMLHandler(styles, strings, handler, formatter, false));
+                    parser.parse(new InputSource(sheet));
+                    handler.finish();
+                }
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IllegalArgumentException("엑셀(.xlsx) 파일을 읽을 수 없습니다.", e);
+        } finally {
+            // 읽기 전용으로 열었으므로 저장하지 않고 닫는다.
+            pkg.revert();
+        }
+
+        result.finish(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        log.info("게시글 엑셀 가져오기 완료: rows={}, saved={}, rejected={}, failed={}, elapsed={}ms",
+                result.getTotalRows(), result.getSavedCount(), result.getRejectedCount(),
+                result.getFailedCount(), result.getElapsedMillis());
+        return result;
+    }
+
+    /**
+     * 시트 행 처리기 (SAX 이벤트를 PostRequest로 변환)
+     */
+    private class PostRowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final String sheetName;
+        private final PostImportResult result;
+        private final Map<Integer, String> columns = new HashMap<>();   // 열 번호 -> 필드명
+        private final Map<String, String> values = new HashMap<>();     // 필드명 -> 현재 행 값
+        private List<PostRequest> chunk = new ArrayList<>();
+        private boolean headerRead;
+        private boolean skipped;
+        private int rowNum;
+        private int columnNo;
+
+        PostRowHandler(String sheetName, PostImportResult result) {
+            this.sheetName = sheetName;
+            this.result = result;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            this.rowNum = rowNum;
+            this.columnNo = -1;
+            values.clear();
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            columnNo = cellReference != null ? new CellReference(cellReference).getCol() : columnNo + 1;
+            if (formattedValue == null || skipped) {
+                return;
+            }
+            if (!headerRead) {
+                String field = HEADER_ALIASES.get(formattedValue.trim().toLowerCase(Locale.ROOT));
+                if (field != null) {
+                    columns.put(columnNo, field);
+                }
+                return;
+            }
+            String field = columns.get(columnNo);
+            if (field != null) {
+                values.put(field, formattedValue);
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (skipped) {
+                return;
+            }
+            if (!headerRead) {
+                if (columns.isEmpty()) {
+                    return;     // 머리글 전의 빈 행
+                }
+                if (!columns.containsValue("title") || !columns.containsValue("content") || !columns.containsValue("writer")) {
+                    skip("제목, 내용, 작성자 열이 필요합니다.");
+                    return;
+                }
+                headerRead = true;
+                return;
+            }
+            if (values.isEmpty()) {
+                return;         // 빈 행
+            }
+
+            result.addRow();
+            String reason = validate();
+            if (reason != null) {
+                result.addRejected(sheetName, this.rowNum + 1, reason, maxRejectedRows);
+                return;
+            }
+
+            PostRequest post = new PostRequest();
+            post.setTitle(values.get("title").trim());
+            post.setContent(values.get("content"));
+            post.setWriter(values.get("writer").trim());
+            post.setNoticeYn(parseBoolean(values.get("noticeYn")));
+            chunk.add(post);
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        @Override
+        public void headerFooter(String text, boolean isHeader, String tagName) {
+        }
+
+        // 시트 끝: 남은 행 저장, 머리글을 찾지 못한 시트는 건너뛴 것으로 기록
+        void finish() {
+            if (!headerRead && !skipped) {
+                skip("머리글 행이 없습니다.");
+            }
+            flush();
+        }
+
+        private void skip(String reason) {
+            skipped = true;
+            result.addSkippedSheet(sheetName, reason);
+            log.warn("게시글 엑셀 가져오기 시트 건너뜀: sheet={}, reason={}", sheetName, reason);
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            result.addBulkResult(postService.savePosts(chunk.iterator()));
+            chunk = new ArrayList<>();
+        }
+
+        private String validate() {
+            if (isBlank(values.get("title"))) {
+                return "제목이 비어 있습니다.";
+            }
+            if (isBlank(values.get("content"))) {
+                return "내용이 비어 있습니다.";
+            }
+            if (isBlank(values.get("writer"))) {
+                return "작성자가 비어 있습니다.";
+            }
+            String noticeYn = values.get("noticeYn");
+            if (!isBlank(noticeYn) && parseBoolean(noticeYn) == null) {
+                return "공지글 여부는 Y/N 이어야 합니다: " + noticeYn;
+            }
+            return null;
+        }
+
+        private boolean isBlank(String value) {
+            return value == null || value.trim().isEmpty();
+        }
+
+        private Boolean parseBoolean(String value) {
+            if (isBlank(value)) {
+                return false;
+            }
+            switch (value.trim().toUpperCase(Locale.ROOT)) {
+                case "Y":
+                case "TRUE":
+                case "1":
+                    return true;
+                case "N":
+                case "FALSE":
+                case "0":
+                    return false;
+                default:
+                    return null;
+            }
+        }
+    }
+
+}
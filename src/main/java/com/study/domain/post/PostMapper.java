@@ -2,6 +2,9 @@ package com.study.domain.post;
 
 import com.study.common.dto.SearchDto;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ResultHandler;
 
 import java.util.List;
 
@@ -27,6 +30,12 @@ public interface PostMapper {
      */
     void update(PostRequest params);
 
+    /**
+     * 게시글 조회 수 일괄 증가
+     * @param viewCounts - 게시글별 조회 수 증가분
+     */
+    void updateViewCounts(List<PostViewCount> viewCounts);
+
     /**
      * 게시글 삭제
      * @param id - PK
@@ -40,6 +49,48 @@ public interface PostMapper {
      */
     List<PostResponse> findAll(SearchDto params);
 
+    /**
+     * 게시글 리스트 조회 (커서 기반)
+     * @param params - search conditions & cursor
+     * @return 게시글 리스트 (recordSize + 1 건까지)
+     */
+    List<PostResponse> findAllByCursor(SearchDto params);
+
+    /**
+     * 게시글 리스트 조회 (ID 목록)
+     * @param ids - PK 목록
+     * @return 게시글 리스트 (순서 보장하지 않음)
+     */
+    List<PostResponse> findAllByIds(List<Long> ids);
+
+    /**
+     * 내보내기용 게시글 리스트 조회 (스트리밍, 페이징 없음)
+     * @param params - search conditions
+     * @return 게시글 Cursor (트랜잭션 안에서만 읽을 수 있다)
+     */
+    Cursor<PostResponse> findAllForExport(SearchDto params);
+
+    /**
+     * 내보내기용 게시글 리스트 조회 (스트리밍, 페이징 없음)
+     * @param params - search conditions
+     * @param handler - 한 건씩 전달받을 핸들러
+     */
+    void findAllForStream(SearchDto params, ResultHandler<PostResponse> handler);
+
+    /**
+     * 검색 색인용 게시글 전체 조회 (스트리밍)
+     * @param handler - 한 건씩 전달받을 핸들러
+     */
+    void findAllForIndex(ResultHandler<PostResponse> handler);
+
+    /**
+     * 검색 엔진 후보 중 내용에 검색어가 있는 게시글 ID 조회
+     * @param ids - 후보 PK 목록
+     * @param keyword - 검색어
+     * @return 내용이 검색어를 포함하는 PK 목록 (순서 보장하지 않음)
+     */
+    List<Long> findIdsByContentKeyword(@Param("ids") List<Long> ids, @Param("keyword") String keyword);
+
     /**
      * 게시글 수 카운팅
      * @param params - search conditions
@@ -47,4 +98,10 @@ public interface PostMapper {
      */
     int count(SearchDto params);
 
+    /**
+     * 게시글 수 근사치 조회 (테이블 통계 기준)
+     * @return 게시글 수 근사치, 통계가 없으면 null
+     */
+    Integer approximateCount();
+
 }
@@ -0,0 +1,88 @@
+package com.study.domain.post;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 NDJSON 작성 (한 줄에 JSON 객체 하나)
+ */
+class PostNdjsonWriter extends PostTextWriter {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    PostNdjsonWriter(OutputStream out, Consumer<PostResponse> onRow) {
+        super(out, onRow);
+    }
+
+    @Override
+    protected void appendRow(PostResponse post) {
+        line.append("{\"id\":");
+        // 박싱된 값을 append(Object)로 넘기면 행마다 문자열이 만들어지므로 기본형으로 기록한다.
+        if (post.getId() != null) {
+            line.append(post.getId().longValue());
+        } else {
+            line.append("null");
+        }
+        line.append(",\"title\":");
+        appendString(post.getTitle());
+        line.append(",\"content\":");
+        appendString(post.getContent());
+        line.append(",\"writer\":");
+        appendString(post.getWriter());
+        line.append(",\"viewCnt\":").append(post.getViewCnt());
+        line.append(",\"noticeYn\":").append(post.getNoticeYn());
+        line.append(",\"createdDate\":");
+        appendDate(post.getCreatedDate());
+        line.append(",\"modifiedDate\":");
+        appendDate(post.getModifiedDate());
+        line.append("}\n");
+    }
+
+    private void appendDate(LocalDateTime date) {
+        if (date == null) {
+            line.append("null");
+            return;
+        }
+        line.append('"');
+        DateTimeFormatter.ISO_LOCAL_DATE_TIME.formatTo(date, line);
+        line.append('"');
+    }
+
+    private void appendString(String value) {
+        if (value == null) {
+            line.append("null");
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    line.append("\\\"");
+                    break;
+                case '\\':
+                    line.append("\\\\");
+                    break;
+                case '\n':
+                    line.append("\\n");
+                    break;
+                case '\r':
+                    line.append("\\r");
+                    break;
+                case '\t':
+                    line.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        line.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        line.append(c);
+                    }
+            }
+        }
+        line.append('"');
+    }
+
+}
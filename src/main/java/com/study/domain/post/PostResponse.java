@@ -17,4 +17,19 @@ public class PostResponse {
     private LocalDateTime createdDate;     // 생성일시
     private LocalDateTime modifiedDate;    // 최종 수정일시
 
-}
\ No newline at end of file
+    // 조회 수만 바꾼 복사본 (캐시된 객체는 여러 요청이 공유하므로 직접 수정하지 않는다)
+    PostResponse withViewCnt(int viewCnt) {
+        PostResponse copy = new PostResponse();
+        copy.id = id;
+        copy.title = title;
+        copy.content = content;
+        copy.writer = writer;
+        copy.viewCnt = viewCnt;
+        copy.noticeYn = noticeYn;
+        copy.deleteYn = deleteYn;
+        copy.createdDate = createdDate;
+        copy.modifiedDate = modifiedDate;
+        return copy;
+    }
+
+}
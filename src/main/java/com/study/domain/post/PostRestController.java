@@ -1,23 +1,57 @@
 package com.study.domain.post;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.study.common.dto.CommonDto;
 import com.study.common.dto.MessageDto;
+import com.study.common.dto.SearchDto;
+import com.study.paging.PagingResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.Map;
+
 @RestController
 @RequiredArgsConstructor
 public class PostRestController {
 
   private final PostService postService;
 
+  private final PostCache postCache;
+
+  private final ObjectMapper objectMapper;
+
   @PostMapping("/post/save.json")
   public CommonDto savePost(final PostRequest params) {
     postService.savePost(params);
     MessageDto message = new MessageDto("게시글 생성이 완료되었습니다.", "/post/list.do", RequestMethod.GET, null);
     return new CommonDto("true", message);
   }
+
+  // 게시글 대량 저장 (JSON 배열 또는 줄 단위 JSON 객체를 스트리밍으로 읽는다)
+  @PostMapping(value = "/post/bulk.json", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  public PostBulkResult savePosts(HttpServletRequest request) throws IOException {
+    try (MappingIterator<PostRequest> posts = objectMapper.readerFor(PostRequest.class).readValues(request.getInputStream())) {
+      return postService.savePosts(posts);
+    }
+  }
+
+  // 게시글 리스트 조회 (커서 기반)
+  @GetMapping("/post/list.json")
+  public PagingResponse<PostResponse> findAllPost(final SearchDto params) {
+    return postService.findAllPostByCursor(params);
+  }
+
+  // 게시글 캐시 통계
+  @GetMapping("/post/cache/stats.json")
+  public Map<String, Object> findCacheStats() {
+    return postCache.stats();
+  }
 }
@@ -1,10 +1,19 @@
 package com.study.domain.post;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javax.transaction.Transactional;
 
 import com.study.common.dto.SearchDto;
+import com.study.common.util.TransactionUtils;
+import com.study.domain.post.search.PostSearchEngine;
+import com.study.domain.post.search.PostSearchResult;
+import com.study.paging.CursorPagination;
 import com.study.paging.Pagination;
 import com.study.paging.PagingResponse;
 import org.springframework.data.domain.Page;
@@ -19,6 +28,16 @@ public class PostService {
 
     private final PostMapper postMapper;
 
+    private final PostCountCache postCountCache;
+
+    private final PostSearchEngine postSearchEngine;
+
+    private final PostCache postCache;
+
+    private final PostViewCounter postViewCounter;
+
+    private final PostBatchWriter postBatchWriter;
+
     /**
      * 게시글 저장
      * @param params - 게시글 정보
@@ -27,16 +46,49 @@ public class PostService {
     @Transactional
     public Long savePost(final PostRequest params) {
         postMapper.save(params);
+        postCountCache.invalidateAll();
+        TransactionUtils.afterCommit(() -> postSearchEngine.index(params.getId(), params.getTitle(), params.getContent(), params.getWriter()));
         return params.getId();
     }
 
     /**
-     * 게시글 상세정보 조회
+     * 게시글 대량 저장
+     * - 커밋 단위마다 별도 트랜잭션으로 JDBC batch 저장한다.
+     * @param posts - 게시글 정보 (한 건씩 읽는다)
+     * @return 배치별 저장 결과
+     */
+    public PostBulkResult savePosts(final Iterator<PostRequest> posts) {
+        PostBulkResult result = postBatchWriter.write(posts, committed -> {
+            for (PostRequest post : committed) {
+                postSearchEngine.index(post.getId(), post.getTitle(), post.getContent(), post.getWriter());
+            }
+        });
+        postCountCache.invalidateAll();
+        return result;
+    }
+
+    /**
+     * 게시글 상세정보 조회 (조회 수 증가)
+     * - 조회 수는 일괄 반영되므로, 반영 대기 중인 증가분을 합산해서 반환한다.
      * @param id - PK
      * @return 게시글 상세정보
      */
     public PostResponse findPostById(final Long id) {
-        return postMapper.findById(id);
+        PostResponse post = postCache.get(id, postMapper::findById);
+        if (post == null) {
+            return null;
+        }
+        postViewCounter.increment(id);
+        return post.withViewCnt((int) (post.getViewCnt() + postViewCounter.pending(id)));
+    }
+
+    /**
+     * 게시글 상세정보 조회 (수정용, 조회 수 증가 없음)
+     * @param id - PK
+     * @return 게시글 상세정보
+     */
+    public PostResponse findPostForUpdate(final Long id) {
+        return postCache.get(id, postMapper::findById);
     }
 
     /**
@@ -47,6 +99,12 @@ public class PostService {
     @Transactional
     public Long updatePost(final PostRequest params) {
         postMapper.update(params);
+        // 제목/내용/작성자가 바뀌면 키워드 검색 결과 수도 달라진다.
+        postCountCache.invalidateAll();
+        TransactionUtils.afterCommit(() -> {
+            postCache.invalidate(params.getId());
+            postSearchEngine.index(params.getId(), params.getTitle(), params.getContent(), params.getWriter());
+        });
         return params.getId();
     }
 
@@ -58,6 +116,11 @@ public class PostService {
     @Transactional
     public Long deletePost(final Long id) {
         postMapper.deleteById(id);
+        postCountCache.invalidateAll();
+        TransactionUtils.afterCommit(() -> {
+            postCache.invalidate(id);
+            postSearchEngine.remove(id);
+        });
         return id;
     }
 
@@ -67,12 +130,84 @@ public class PostService {
      * @return list & pagination information
      */
     public PagingResponse<PostResponse> findAllPost(final SearchDto params) {
-        int count = postMapper.count(params);
-        Pagination pagination = new Pagination(count, params);
+        if (params.isCursorMode()) {
+            return findAllPostByCursor(params);
+        }
+
+        if (postSearchEngine.supports(params)) {
+            PostSearchResult result = postSearchEngine.search(params);
+            if (result != null) {
+                return findAllPostBySearchEngine(params, result);
+            }
+        }
+
+        int count = postCountCache.count(params);
+        Pagination pagination = new Pagination(count, postCountCache.isApproximate(params), params);
         params.setPagination(pagination);
 
         List<PostResponse> list = postMapper.findAll(params);
         return new PagingResponse<>(list, pagination);
     }
 
+    /**
+     * 게시글 리스트 조회 (커서 기반)
+     * - LIMIT offset 대신 id 조건으로 탐색하므로 깊은 페이지도 첫 페이지와 같은 비용으로 조회된다.
+     * @param params - search conditions & cursor
+     * @return list & cursor information
+     */
+    public PagingResponse<PostResponse> findAllPostByCursor(final SearchDto params) {
+        List<PostResponse> list = new ArrayList<>(postMapper.findAllByCursor(params));
+
+        boolean hasMore = list.size() > params.getRecordSize();
+        if (hasMore) {
+            list.remove(list.size() - 1);
+        }
+
+        // 이전 방향은 id 오름차순으로 조회되므로 화면 정렬(id 내림차순)에 맞게 뒤집는다.
+        if (params.isPrevDirection()) {
+            Collections.reverse(list);
+        }
+
+        Long firstId = list.isEmpty() ? null : list.get(0).getId();
+        Long lastId = list.isEmpty() ? null : list.get(list.size() - 1).getId();
+        CursorPagination cursor = new CursorPagination(firstId, lastId, hasMore, params);
+        return new PagingResponse<>(list, cursor);
+    }
+
+    /**
+     * 게시글 리스트 조회 (검색 엔진)
+     * - 검색 엔진이 관련도 순 ID를 반환하면, 현재 페이지의 ID만 DB에서 조회한다.
+     * - 전체 건수는 max-hits 로 잘리기 전의 일치 건수를 표시하고, 페이지는 max-hits 건까지만 만든다.
+     *   (잘린 범위 밖을 SQL 검색으로 이어 붙이면 같은 결과 안에서 정렬이 관련도 순에서 id 역순으로 바뀐다.)
+     * @param params - search conditions
+     * @param result - 검색 엔진 결과
+     * @return list & pagination information
+     */
+    private PagingResponse<PostResponse> findAllPostBySearchEngine(final SearchDto params, final PostSearchResult result) {
+        List<Long> ids = result.getIds();
+        Pagination pagination = new Pagination(result.getTotalCount(), ids.size(), params);
+        params.setPagination(pagination);
+
+        int fromIndex = Math.min(pagination.getLimitStart(), ids.size());
+        int toIndex = Math.min(fromIndex + params.getRecordSize(), ids.size());
+        List<Long> pageIds = ids.subList(fromIndex, toIndex);
+        if (pageIds.isEmpty()) {
+            return new PagingResponse<>(Collections.emptyList(), pagination);
+        }
+
+        // IN 조회 결과를 검색 엔진 순서대로 정렬
+        Map<Long, PostResponse> posts = new HashMap<>();
+        for (PostResponse post : postMapper.findAllByIds(pageIds)) {
+            posts.put(post.getId(), post);
+        }
+        List<PostResponse> list = new ArrayList<>(pageIds.size());
+        for (Long id : pageIds) {
+            PostResponse post = posts.get(id);
+            if (post != null) {
+                list.add(post);
+            }
+        }
+        return new PagingResponse<>(list, pagination);
+    }
+
 }
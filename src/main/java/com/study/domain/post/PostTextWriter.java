@@ -0,0 +1,83 @@
+package com.study.domain.post;
+
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * 텍스트 형식 게시글 내보내기 (CSV, NDJSON)
+ * - MyBatis가 한 건씩 전달하는 게시글을 바로 기록한다.
+ * - 한 행은 재사용하는 StringBuilder에 만들고, 재사용하는 char 버퍼를 거쳐 출력하므로 행마다 문자열을 만들지 않는다.
+ */
+abstract class PostTextWriter implements ResultHandler<PostResponse> {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    protected final StringBuilder line = new StringBuilder(1024);
+
+    private final Writer writer;
+
+    private final Consumer<PostResponse> onRow;
+
+    private char[] chars = new char[1024];
+
+    private long rows;
+
+    PostTextWriter(OutputStream out, Consumer<PostResponse> onRow) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        this.onRow = onRow;
+    }
+
+    /**
+     * 머리글 기록 (필요한 형식만 재정의)
+     */
+    void writeHeader() throws IOException {
+    }
+
+    /**
+     * 게시글 한 건을 line 에 추가 (줄바꿈 포함)
+     * @param post - 게시글
+     */
+    protected abstract void appendRow(PostResponse post);
+
+    @Override
+    public void handleResult(ResultContext<? extends PostResponse> context) {
+        PostResponse post = context.getResultObject();
+        line.setLength(0);
+        appendRow(post);
+        try {
+            writeLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        rows++;
+        onRow.accept(post);
+    }
+
+    /**
+     * 남은 내용을 내보내고 기록한 건수 반환 (스트림은 닫지 않는다)
+     * @return 기록한 게시글 수
+     */
+    long finish() throws IOException {
+        writer.flush();
+        return rows;
+    }
+
+    protected void writeLine() throws IOException {
+        int length = line.length();
+        if (chars.length < length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+        }
+        line.getChars(0, length, chars, 0);
+        writer.write(chars, 0, length);
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.study.domain.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 조회 수 증가분
+ */
+@Getter
+@AllArgsConstructor
+public class PostViewCount {
+
+    private Long id;       // PK
+    private long delta;    // 반영할 조회 수 증가분
+
+}
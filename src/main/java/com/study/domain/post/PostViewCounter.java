@@ -0,0 +1,116 @@
+package com.study.domain.post;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회 수 카운터 (Write-behind)
+ * - 조회 시에는 메모리의 LongAdder만 증가시키고, 주기적으로 모아서 한 번의 UPDATE로 반영한다.
+ * - 반영 전 증가분은 pending()으로 조회하여 화면에 합산한다.
+ * - 종료 시 남은 증가분을 모두 반영한다.
+ */
+@Slf4j
+@Component
+public class PostViewCounter {
+
+    private final PostMapper postMapper;
+
+    private final PostCache postCache;
+
+    private final int batchSize;
+
+    private final Map<Long, LongAdder> pendingCounts = new ConcurrentHashMap<>();
+
+    public PostViewCounter(PostMapper postMapper,
+                           PostCache postCache,
+                           @Value("${board.post.view-count.batch-size:500}") int batchSize) {
+        this.postMapper = postMapper;
+        this.postCache = postCache;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 조회 수 증가
+     * @param id - PK
+     */
+    public void increment(final Long id) {
+        pendingCounts.computeIfAbsent(id, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * DB에 아직 반영되지 않은 조회 수
+     * @param id - PK
+     * @return 반영 대기 중인 증가분
+     */
+    public long pending(final Long id) {
+        LongAdder adder = pendingCounts.get(id);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    /**
+     * 대기 중인 조회 수를 DB에 일괄 반영
+     * - 증가분은 DB 반영이 성공한 뒤에 차감하므로, 실패하면 다음 주기에 다시 시도한다.
+     * - 여러 노드가 같은 행을 갱신할 때 교착을 피하기 위해 ID 순으로 갱신한다.
+     */
+    @Scheduled(fixedDelayString = "${board.post.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<PostViewCount> viewCounts = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pendingCounts.entrySet()) {
+            long delta = entry.getValue().sum();
+            if (delta > 0) {
+                viewCounts.add(new PostViewCount(entry.getKey(), delta));
+            } else {
+                removeIdle(entry.getKey(), entry.getValue());
+            }
+        }
+        if (viewCounts.isEmpty()) {
+            return;
+        }
+        viewCounts.sort(Comparator.comparing(PostViewCount::getId));
+
+        int flushed = 0;
+        for (int from = 0; from < viewCounts.size(); from += batchSize) {
+            List<PostViewCount> batch = viewCounts.subList(from, Math.min(from + batchSize, viewCounts.size()));
+            try {
+                postMapper.updateViewCounts(batch);
+            } catch (Exception e) {
+                log.error("조회 수 반영 실패: size={}", batch.size(), e);
+                continue;
+            }
+            for (PostViewCount viewCount : batch) {
+                // 캐시된 조회 수를 먼저 올리고 증가분을 차감한다. (그 사이 화면에는 잠시 크게 보일 뿐 작아지지 않는다)
+                postCache.addViewCount(viewCount.getId(), viewCount.getDelta());
+                pendingCounts.get(viewCount.getId()).add(-viewCount.getDelta());
+            }
+            flushed += batch.size();
+        }
+        log.debug("조회 수 반영 완료: posts={}", flushed);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 증가분이 없는 카운터 제거 (제거 직후 증가된 값은 다시 옮긴다)
+    private void removeIdle(Long id, LongAdder adder) {
+        if (!pendingCounts.remove(id, adder)) {
+            return;
+        }
+        long raced = adder.sum();
+        if (raced > 0) {
+            pendingCounts.computeIfAbsent(id, key -> new LongAdder()).add(raced);
+        }
+    }
+
+}
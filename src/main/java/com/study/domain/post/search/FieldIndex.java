@@ -0,0 +1,176 @@
+package com.study.domain.post.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 필드 단위 역색인 (토큰 -> 압축 게시글 목록)
+ * - 게시글은 색인할 때마다 새 문서 번호를 받으므로 게시글 목록은 뒤에 추가만 된다. (InvertedIndexPostSearchEngine)
+ * - storeText 이면 문서마다 정규화된 원문을 보관해 2-gram 후보를 LIKE '%keyword%' 와 같은 부분 문자열 조건으로 재확인한다.
+ *   원문을 보관하지 않는 필드(내용)의 후보는 호출 측에서 재확인해야 한다.
+ * - 동기화는 호출 측에서 처리한다.
+ */
+class FieldIndex {
+
+    // 토큰 문자열, 해시 엔트리, PostingList 객체와 배열 헤더의 대략적인 크기
+    private static final long POSTING_OVERHEAD_BYTES = 120;
+
+    // String 객체와 배열 헤더의 대략적인 크기
+    private static final long TEXT_OVERHEAD_BYTES = 56;
+
+    private final boolean storeText;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+
+    // 문서 번호별 정규화된 원문 (storeText 일 때만)
+    private String[] texts = new String[0];
+
+    private long estimatedBytes;
+
+    FieldIndex(boolean storeText) {
+        this.storeText = storeText;
+    }
+
+    /**
+     * 문서 색인
+     * @param doc - 문서 번호 (이전에 색인한 번호보다 커야 한다)
+     * @param text - 정규화된 원문
+     * @param frequencies - 토큰별 출현 횟수
+     */
+    void add(int doc, String text, Map<String, Integer> frequencies) {
+        if (frequencies.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            PostingList posting = postings.get(entry.getKey());
+            if (posting == null) {
+                posting = new PostingList();
+                postings.put(entry.getKey(), posting);
+                estimatedBytes += POSTING_OVERHEAD_BYTES + posting.capacity();
+            }
+            int before = posting.capacity();
+            posting.add(doc, entry.getValue());
+            estimatedBytes += posting.capacity() - before;
+        }
+        if (storeText) {
+            if (doc >= texts.length) {
+                int capacity = Math.max(doc + 1, texts.length + (texts.length >> 1) + 16);
+                estimatedBytes += (long) (capacity - texts.length) * Integer.BYTES;
+                texts = Arrays.copyOf(texts, capacity);
+            }
+            texts[doc] = text;
+            estimatedBytes += textBytes(text);
+        }
+    }
+
+    /**
+     * 수정/삭제된 문서의 원문 해제 (게시글 목록의 항목은 compact() 에서 정리)
+     * @param doc - 문서 번호
+     */
+    void release(int doc) {
+        if (storeText && doc < texts.length && texts[doc] != null) {
+            estimatedBytes -= textBytes(texts[doc]);
+            texts[doc] = null;
+        }
+    }
+
+    /**
+     * 살아 있는 문서만 남기고 새 문서 번호로 다시 쓰기
+     * @param remap - 기존 문서 번호별 새 번호 (삭제된 문서는 -1)
+     * @param documentCount - 새 문서 번호의 개수
+     */
+    void compact(int[] remap, int documentCount) {
+        if (storeText) {
+            String[] compacted = new String[documentCount];
+            for (int doc = 0; doc < texts.length && doc < remap.length; doc++) {
+                if (remap[doc] >= 0) {
+                    compacted[remap[doc]] = texts[doc];
+                }
+            }
+            estimatedBytes -= (long) (texts.length - compacted.length) * Integer.BYTES;
+            texts = compacted;
+        }
+        postings.entrySet().removeIf(entry -> {
+            PostingList posting = entry.getValue();
+            estimatedBytes -= posting.capacity();
+            posting.compact(remap);
+            if (posting.size() == 0) {
+                estimatedBytes -= POSTING_OVERHEAD_BYTES;
+                return true;
+            }
+            estimatedBytes += posting.capacity();
+            return false;
+        });
+    }
+
+    void clear() {
+        postings.clear();
+        texts = new String[0];
+        estimatedBytes = 0;
+    }
+
+    /**
+     * 추정 메모리 사용량
+     * @return bytes
+     */
+    long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * 검색어의 2-gram 을 모두 포함하는 살아 있는 문서에 TF-IDF 점수를 기록
+     * - storeText 이면 원문에 검색어가 그대로 있는 문서만 기록한다.
+     * @param keyword - 정규화된 검색어
+     * @param tokens - 검색어 토큰
+     * @param live - 살아 있는 문서 번호
+     * @param documentCount - 살아 있는 문서 수
+     * @param scores - 문서 번호별 점수 (기존 점수에 더한다)
+     */
+    void match(String keyword, List<String> tokens, BitSet live, int documentCount, Map<Integer, Double> scores) {
+        int count = tokens.size();
+        PostingList[] lists = new PostingList[count];
+        for (int i = 0; i < count; i++) {
+            lists[i] = postings.get(tokens.get(i));
+            if (lists[i] == null) {
+                return;
+            }
+        }
+        // 가장 짧은 목록을 기준으로 나머지 목록을 앞으로 넘기며 교집합을 구한다.
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size(), b.size()));
+        PostingList.Cursor[] cursors = new PostingList.Cursor[count];
+        double[] idf = new double[count];
+        for (int i = 0; i < count; i++) {
+            cursors[i] = lists[i].cursor();
+            idf[i] = Math.log(1 + (double) documentCount / lists[i].size());
+        }
+
+        PostingList.Cursor driver = cursors[0];
+        candidates:
+        while (driver.next()) {
+            int doc = driver.doc;
+            double score = driver.frequency * idf[0];
+            for (int i = 1; i < count; i++) {
+                if (!cursors[i].advanceTo(doc)) {
+                    return;
+                }
+                if (cursors[i].doc != doc) {
+                    continue candidates;
+                }
+                score += cursors[i].frequency * idf[i];
+            }
+            // 2-gram 을 모두 포함해도 검색어가 연속으로 나타나지 않을 수 있으므로 원문으로 재확인
+            if (!live.get(doc) || (storeText && !texts[doc].contains(keyword))) {
+                continue;
+            }
+            scores.merge(doc, score, Double::sum);
+        }
+    }
+
+    private static long textBytes(String text) {
+        return TEXT_OVERHEAD_BYTES + (long) text.length() * Character.BYTES;
+    }
+
+}
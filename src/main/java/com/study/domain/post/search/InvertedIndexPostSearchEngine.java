@@ -0,0 +1,390 @@
+package com.study.domain.post.search;
+
+import com.study.common.dto.SearchDto;
+import com.study.domain.post.PostMapper;
+import com.study.domain.post.PostResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 역색인 기반 게시글 검색 엔진
+ * - 기동 시 tb_post 의 제목/내용/작성자를 스트리밍으로 읽어 색인을 만들고, 이후 저장/수정/삭제를 증분 반영한다.
+ * - 게시글은 색인할 때마다 새 문서 번호를 받고, 필드별 게시글 목록은 번호 차이를 varint 로 압축해 보관한다. (PostingList)
+ *   수정/삭제로 버려진 번호가 살아 있는 번호보다 많아지면 살아 있는 문서만 새 번호로 다시 쓴다.
+ * - 검색어의 모든 2-gram을 포함하는 게시글 중 검색어가 그대로 있는 게시글만 TF-IDF 점수 순으로 반환한다.
+ *   제목/작성자는 원문을 보관해 메모리에서 확인하고, 내용은 원문을 보관하지 않고 후보 PK 로 제한한 LIKE 조회로 확인한다.
+ * - 메모리 한도를 넘으면 내용 색인부터 버리고(내용/전체 검색은 SQL 검색), 그래도 넘으면 색인 전체를 버린다.
+ * - 색인이 준비되기 전이거나, 내용 후보가 max-hits 를 넘거나, LIKE 와 결과가 달라질 수 있는 검색어는 SQL 검색으로 대체된다.
+ */
+@Slf4j
+@Component
+public class InvertedIndexPostSearchEngine implements PostSearchEngine {
+
+    // 내용 후보 LIKE 확인 시 IN 절 하나에 넣는 PK 수
+    private static final int VERIFY_CHUNK_SIZE = 1000;
+
+    // 게시글 ID -> 문서 번호 해시 엔트리(Long, Integer 포함)의 대략적인 크기
+    private static final long DOCUMENT_ENTRY_BYTES = 72;
+
+    // 문서 번호를 다시 쓰기 시작하는 최소 폐기 번호 수
+    private static final int MIN_COMPACT_DEAD_DOCS = 1024;
+
+    private final PostMapper postMapper;
+
+    private final boolean enabled;
+
+    private final int maxHits;
+
+    private final long maxMemoryBytes;
+
+    private final FieldIndex titleIndex = new FieldIndex(true);
+    private final FieldIndex writerIndex = new FieldIndex(true);
+    private final FieldIndex contentIndex = new FieldIndex(false);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 문서 번호 -> 게시글 ID (lock 으로 보호)
+    private long[] docPostIds = new long[0];
+
+    // 게시글 ID -> 현재 문서 번호 (lock 으로 보호)
+    private final Map<Long, Integer> docsByPost = new HashMap<>();
+
+    // 수정/삭제되지 않은 문서 번호 (lock 으로 보호)
+    private BitSet liveDocs = new BitSet();
+
+    private int nextDoc;
+
+    private int deadDocs;
+
+    // 초기 색인 중 증분 반영된 게시글 (초기 색인이 덮어쓰지 않도록 건너뛴다, lock 으로 보호)
+    private final Set<Long> touchedWhileBuilding = new HashSet<>();
+
+    private volatile boolean building;
+
+    private volatile boolean ready;
+
+    // 메모리 한도 초과로 내용 색인을 버린 상태 (재기동 전까지 내용/전체 검색은 SQL 검색)
+    private volatile boolean contentDropped;
+
+    // 메모리 한도 초과로 색인을 폐기한 상태 (재기동 전까지 SQL 검색만 사용)
+    private volatile boolean overBudget;
+
+    public InvertedIndexPostSearchEngine(PostMapper postMapper,
+                                         @Value("${board.post.search.index.enabled:true}") boolean enabled,
+                                         @Value("${board.post.search.index.max-hits:10000}") int maxHits,
+                                         @Value("${board.post.search.index.max-memory-mb:256}") int maxMemoryMb) {
+        this.postMapper = postMapper;
+        this.enabled = enabled;
+        this.maxHits = maxHits;
+        this.maxMemoryBytes = maxMemoryMb * 1024L * 1024L;
+    }
+
+    /**
+     * 초기 색인 생성
+     * - 요청 처리를 막지 않도록 별도 스레드에서 실행한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        Thread indexer = new Thread(this::build, "post-search-indexer");
+        indexer.setDaemon(true);
+        indexer.start();
+    }
+
+    void build() {
+        building = true;
+        long startedAt = System.currentTimeMillis();
+        int[] indexed = {0};
+        try {
+            postMapper.findAllForIndex(context -> {
+                PostResponse post = context.getResultObject();
+                put(post.getId(), post.getTitle(), post.getContent(), post.getWriter(), true);
+                if (overBudget) {
+                    context.stop();
+                    return;
+                }
+                indexed[0]++;
+            });
+            if (!overBudget) {
+                ready = true;
+                log.info("게시글 검색 색인 완료: count={}, content={}, estimatedBytes={}, elapsed={}ms",
+                        indexed[0], !contentDropped, estimatedBytes(), System.currentTimeMillis() - startedAt);
+            }
+        } catch (Exception e) {
+            log.error("게시글 검색 색인 실패, SQL 검색을 사용합니다.", e);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                building = false;
+                touchedWhileBuilding.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 추정 메모리 사용량
+     * @return bytes
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return usedBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean supports(SearchDto params) {
+        if (!ready || params.isCursorMode()) {
+            return false;
+        }
+        String searchType = params.getSearchType();
+        boolean fieldSearch = "title".equals(searchType) || "writer".equals(searchType);
+        boolean contentSearch = "content".equals(searchType) || !StringUtils.hasText(searchType);
+        if (!fieldSearch && (!contentSearch || contentDropped)) {
+            return false;
+        }
+        String keyword = params.getKeyword();
+        if (keyword == null || keyword.indexOf('%') >= 0 || keyword.indexOf('_') >= 0 || keyword.indexOf('\\') >= 0) {
+            return false;   // LIKE 와일드카드/이스케이프 문자는 SQL 에서만 같은 의미로 처리된다.
+        }
+        return !NGramTokenizer.queryTokens(keyword).isEmpty();
+    }
+
+    /**
+     * 게시글 검색
+     * - 전체 검색(검색 유형 없음)은 제목/내용/작성자 중 하나라도 일치하면 결과에 포함하고, 필드별 점수를 합산한다.
+     * @return 내용 후보가 max-hits 를 넘거나 내용 색인을 버린 경우 null (SQL 검색으로 대체)
+     */
+    @Override
+    public PostSearchResult search(SearchDto params) {
+        String keyword = NGramTokenizer.normalize(params.getKeyword());
+        List<String> tokens = NGramTokenizer.queryTokens(keyword);
+        String searchType = params.getSearchType();
+        boolean all = !StringUtils.hasText(searchType);
+
+        Map<Long, Double> scores = new HashMap<>();
+        Map<Long, Double> contentCandidates = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int documentCount = docsByPost.size();
+            Map<Integer, Double> matched = new HashMap<>();
+            if (all || "title".equals(searchType)) {
+                titleIndex.match(keyword, tokens, liveDocs, documentCount, matched);
+            }
+            if (all || "writer".equals(searchType)) {
+                writerIndex.match(keyword, tokens, liveDocs, documentCount, matched);
+            }
+            // 문서 번호는 다시 쓰기로 바뀔 수 있으므로 락 안에서 게시글 ID로 바꾼다.
+            matched.forEach((doc, score) -> scores.put(docPostIds[doc], score));
+
+            if (all || "content".equals(searchType)) {
+                if (contentDropped) {
+                    return null;
+                }
+                matched.clear();
+                contentIndex.match(keyword, tokens, liveDocs, documentCount, matched);
+                if (matched.size() > maxHits) {
+                    return null;
+                }
+                matched.forEach((doc, score) -> contentCandidates.put(docPostIds[doc], score));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 내용 후보는 2-gram 만 일치할 수 있으므로 후보 PK 로 제한한 LIKE 로 확인 (락 밖에서 조회)
+        if (!contentCandidates.isEmpty()) {
+            List<Long> candidateIds = new ArrayList<>(contentCandidates.keySet());
+            for (int from = 0; from < candidateIds.size(); from += VERIFY_CHUNK_SIZE) {
+                List<Long> chunk = candidateIds.subList(from, Math.min(from + VERIFY_CHUNK_SIZE, candidateIds.size()));
+                for (Long id : postMapper.findIdsByContentKeyword(chunk, params.getKeyword())) {
+                    scores.merge(id, contentCandidates.get(id), Double::sum);
+                }
+            }
+        }
+
+        // 점수 내림차순, 동점이면 최신 글 우선
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort((a, b) -> {
+            int compare = Double.compare(b.getValue(), a.getValue());
+            return compare != 0 ? compare : Long.compare(b.getKey(), a.getKey());
+        });
+
+        int size = Math.min(ranked.size(), maxHits);
+        List<Long> ids = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ids.add(ranked.get(i).getKey());
+        }
+        return new PostSearchResult(Collections.unmodifiableList(ids), ranked.size());
+    }
+
+    @Override
+    public void index(Long id, String title, String content, String writer) {
+        if (!enabled || overBudget || id == null) {
+            return;
+        }
+        put(id, title, content, writer, false);
+    }
+
+    @Override
+    public void remove(Long id) {
+        if (!enabled || overBudget || id == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (building) {
+                touchedWhileBuilding.add(id);
+            }
+            kill(id);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(Long id, String title, String content, String writer, boolean fromBuild) {
+        // 토큰화는 락 밖에서 수행
+        String titleText = NGramTokenizer.normalize(title);
+        String writerText = NGramTokenizer.normalize(writer);
+        Map<String, Integer> titleTokens = NGramTokenizer.termFrequencies(titleText);
+        Map<String, Integer> writerTokens = NGramTokenizer.termFrequencies(writerText);
+        Map<String, Integer> contentTokens = contentDropped
+                ? Collections.emptyMap() : NGramTokenizer.termFrequencies(content);
+
+        lock.writeLock().lock();
+        try {
+            if (overBudget || (fromBuild && touchedWhileBuilding.contains(id))) {
+                return;
+            }
+            if (!fromBuild && building) {
+                touchedWhileBuilding.add(id);
+            }
+            kill(id);
+            int doc = nextDoc++;
+            if (doc >= docPostIds.length) {
+                docPostIds = Arrays.copyOf(docPostIds, Math.max(16, docPostIds.length + (docPostIds.length >> 1)));
+            }
+            docPostIds[doc] = id;
+            docsByPost.put(id, doc);
+            liveDocs.set(doc);
+
+            titleIndex.add(doc, titleText, titleTokens);
+            writerIndex.add(doc, writerText, writerTokens);
+            if (!contentDropped) {
+                contentIndex.add(doc, null, contentTokens);
+            }
+            compactIfNeeded();
+            enforceBudget();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 기존 문서 번호를 버린다. 게시글 목록의 항목은 compact() 에서 정리된다. (write lock 안에서 호출)
+    private void kill(Long id) {
+        Integer doc = docsByPost.remove(id);
+        if (doc == null) {
+            return;
+        }
+        liveDocs.clear(doc);
+        titleIndex.release(doc);
+        writerIndex.release(doc);
+        deadDocs++;
+    }
+
+    // 버려진 번호가 살아 있는 번호보다 많으면 살아 있는 문서만 새 번호로 다시 쓴다. (write lock 안에서 호출)
+    private void compactIfNeeded() {
+        if (deadDocs <= Math.max(MIN_COMPACT_DEAD_DOCS, docsByPost.size())) {
+            return;
+        }
+        int[] remap = new int[nextDoc];
+        long[] compacted = new long[Math.max(16, docsByPost.size())];
+        int live = 0;
+        for (int doc = 0; doc < nextDoc; doc++) {
+            if (liveDocs.get(doc)) {
+                compacted[live] = docPostIds[doc];
+                remap[doc] = live++;
+            } else {
+                remap[doc] = -1;
+            }
+        }
+        docsByPost.replaceAll((id, doc) -> remap[doc]);
+        docPostIds = compacted;
+        liveDocs = new BitSet(live);
+        liveDocs.set(0, live);
+        nextDoc = live;
+        deadDocs = 0;
+
+        titleIndex.compact(remap, live);
+        writerIndex.compact(remap, live);
+        if (!contentDropped) {
+            contentIndex.compact(remap, live);
+        }
+    }
+
+    // 메모리 한도를 넘으면 내용 색인부터 버리고, 그래도 넘으면 색인 전체를 버린다. (write lock 안에서 호출)
+    private void enforceBudget() {
+        long used = usedBytes();
+        if (used <= maxMemoryBytes) {
+            return;
+        }
+        if (!contentDropped) {
+            contentDropped = true;
+            contentIndex.clear();
+            log.warn("게시글 검색 색인이 메모리 한도를 넘어 내용 색인을 비활성화합니다. 내용/전체 검색은 SQL 검색을 사용합니다. "
+                    + "estimatedBytes={}, maxBytes={}", used, maxMemoryBytes);
+            used = usedBytes();
+            if (used <= maxMemoryBytes) {
+                return;
+            }
+        }
+        discard(used);
+    }
+
+    // 메모리 한도를 넘으면 색인을 버리고 SQL 검색으로 전환 (write lock 안에서 호출)
+    private void discard(long used) {
+        overBudget = true;
+        ready = false;
+        titleIndex.clear();
+        writerIndex.clear();
+        contentIndex.clear();
+        docPostIds = new long[0];
+        docsByPost.clear();
+        liveDocs = new BitSet();
+        nextDoc = 0;
+        deadDocs = 0;
+        log.warn("게시글 검색 색인이 메모리 한도를 넘어 비활성화합니다. SQL 검색을 사용합니다. estimatedBytes={}, maxBytes={}",
+                used, maxMemoryBytes);
+    }
+
+    private long usedBytes() {
+        long tableBytes = (long) docPostIds.length * Long.BYTES
+                + docsByPost.size() * DOCUMENT_ENTRY_BYTES
+                + liveDocs.size() / Byte.SIZE;
+        return tableBytes + titleIndex.estimatedBytes() + writerIndex.estimatedBytes() + contentIndex.estimatedBytes();
+    }
+
+}
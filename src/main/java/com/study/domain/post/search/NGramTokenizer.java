@@ -0,0 +1,76 @@
+package com.study.domain.post.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 2-gram 토크나이저
+ * - 형태소 분석 없이 한글 부분 문자열 검색을 지원하기 위해 단어를 두 글자 단위로 자른다.
+ * - 한 글자 단어는 색인하지 않는다.
+ */
+public final class NGramTokenizer {
+
+    private static final int GRAM_SIZE = 2;
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 문서 토큰화
+     * @param text - 원문
+     * @return 토큰별 출현 횟수
+     */
+    public static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokenize(text)) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        return frequencies;
+    }
+
+    /**
+     * 검색어 토큰화
+     * @param keyword - 검색어
+     * @return 중복이 제거된 토큰 목록
+     */
+    public static List<String> queryTokens(String keyword) {
+        Set<String> tokens = new LinkedHashSet<>(tokenize(keyword));
+        return new ArrayList<>(tokens);
+    }
+
+    /**
+     * 대소문자 정규화 (색인 원문과 검색어 비교용)
+     * @param text - 원문
+     * @return 소문자로 변환된 문자열, null 이면 빈 문자열
+     */
+    public static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        String normalized = normalize(text);
+        int length = normalized.length();
+        int wordStart = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar) {
+                if (wordStart < 0) {
+                    wordStart = i;
+                }
+            } else if (wordStart >= 0) {
+                for (int j = wordStart; j + GRAM_SIZE <= i; j++) {
+                    tokens.add(normalized.substring(j, j + GRAM_SIZE));
+                }
+                wordStart = -1;
+            }
+        }
+        return tokens;
+    }
+
+}
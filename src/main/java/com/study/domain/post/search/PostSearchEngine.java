@@ -0,0 +1,40 @@
+package com.study.domain.post.search;
+
+import com.study.common.dto.SearchDto;
+
+/**
+ * 게시글 검색 엔진
+ * - 검색 조건을 처리할 수 없으면 supports()가 false를 반환하고, 호출 측은 SQL 검색으로 대체한다.
+ */
+public interface PostSearchEngine {
+
+    /**
+     * 검색 조건 처리 가능 여부
+     * @param params - search conditions
+     * @return 처리 가능 여부
+     */
+    boolean supports(SearchDto params);
+
+    /**
+     * 게시글 검색
+     * @param params - search conditions
+     * @return 관련도 순으로 정렬된 게시글 ID 목록과 전체 일치 건수, 이 검색어를 처리할 수 없으면 null (SQL 검색으로 대체)
+     */
+    PostSearchResult search(SearchDto params);
+
+    /**
+     * 게시글 색인 (기존 색인이 있으면 교체)
+     * @param id - PK
+     * @param title - 제목
+     * @param content - 내용
+     * @param writer - 작성자
+     */
+    void index(Long id, String title, String content, String writer);
+
+    /**
+     * 게시글 색인 삭제
+     * @param id - PK
+     */
+    void remove(Long id);
+
+}
@@ -0,0 +1,29 @@
+package com.study.domain.post.search;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시글 검색 결과
+ * - ids 는 max-hits 까지만 담기고, totalCount 는 잘리기 전 전체 일치 건수다.
+ */
+@Getter
+public class PostSearchResult {
+
+    private final List<Long> ids;      // 관련도 순 게시글 ID (최대 max-hits 건)
+    private final int totalCount;      // 전체 일치 건수
+
+    public PostSearchResult(List<Long> ids, int totalCount) {
+        this.ids = ids;
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * max-hits 로 잘린 결과인지 여부
+     */
+    public boolean isTruncated() {
+        return ids.size() < totalCount;
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.study.domain.post.search;
+
+import java.util.Arrays;
+
+/**
+ * 압축 게시글 목록 (토큰 하나의 문서 번호 + 출현 횟수)
+ * - 문서 번호는 항상 증가하는 순서로만 추가되므로, 앞 번호와의 차이와 출현 횟수를 가변 길이 정수(varint)로 이어 쓴다.
+ * - 문서 번호가 촘촘하면 항목당 2~3바이트로 저장된다. (long + int 배열은 12바이트)
+ * - 수정/삭제된 문서는 목록에서 바로 빼지 않고, compact()에서 살아 있는 문서만 새 번호로 다시 쓴다.
+ * - 동기화는 호출 측에서 처리한다.
+ */
+final class PostingList {
+
+    private byte[] data = new byte[8];
+
+    private int length;
+
+    private int size;
+
+    private int lastDoc = -1;
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 할당된 바이트 수 (메모리 추정용)
+     */
+    int capacity() {
+        return data.length;
+    }
+
+    /**
+     * 문서 추가 (문서 번호는 마지막으로 추가한 번호보다 커야 한다)
+     * @param doc - 문서 번호
+     * @param frequency - 출현 횟수
+     */
+    void add(int doc, int frequency) {
+        if (doc <= lastDoc) {
+            throw new IllegalArgumentException("문서 번호는 증가해야 합니다. doc=" + doc + ", lastDoc=" + lastDoc);
+        }
+        ensureCapacity(length + 10);
+        writeVarint(doc - lastDoc);
+        writeVarint(frequency);
+        lastDoc = doc;
+        size++;
+    }
+
+    /**
+     * 살아 있는 문서만 남기고 새 번호로 다시 쓰기
+     * @param remap - 기존 문서 번호별 새 번호 (삭제된 문서는 -1, 살아 있는 문서끼리의 순서는 유지되어야 한다)
+     */
+    void compact(int[] remap) {
+        Cursor cursor = cursor();
+        byte[] source = data;
+        data = new byte[Math.max(8, length)];
+        length = 0;
+        size = 0;
+        lastDoc = -1;
+        while (cursor.next(source)) {
+            int doc = remap[cursor.doc];
+            if (doc >= 0) {
+                add(doc, cursor.frequency);
+            }
+        }
+        data = Arrays.copyOf(data, Math.max(8, length));
+    }
+
+    Cursor cursor() {
+        return new Cursor(length);
+    }
+
+    /**
+     * 순차 읽기 커서
+     */
+    final class Cursor {
+
+        private final int end;
+
+        private int position;
+
+        int doc = -1;
+
+        int frequency;
+
+        private Cursor(int end) {
+            this.end = end;
+        }
+
+        boolean next() {
+            return next(data);
+        }
+
+        /**
+         * doc 이상인 첫 문서로 이동
+         * @return 없으면 false
+         */
+        boolean advanceTo(int target) {
+            while (doc < target) {
+                if (!next()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean next(byte[] source) {
+            if (position >= end) {
+                return false;
+            }
+            doc += readVarint(source);
+            frequency = readVarint(source);
+            return true;
+        }
+
+        private int readVarint(byte[] source) {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = source[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+
+    private void writeVarint(int value) {
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > data.length) {
+            data = Arrays.copyOf(data, Math.max(required, data.length + (data.length >> 1)));
+        }
+    }
+
+}
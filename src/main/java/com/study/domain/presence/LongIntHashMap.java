@@ -0,0 +1,174 @@
+package com.study.domain.presence;
+
+/**
+ * long 키, int 값 해시 맵 (박싱 없음)
+ * - 개방 주소법(선형 탐사), 삭제 시 뒤 항목을 당겨 채워 삭제 표시를 남기지 않는다.
+ * - 0은 빈 칸 표시이므로 키 0은 별도 필드에 저장한다.
+ * - 동기화하지 않으므로 호출하는 쪽에서 잠금을 관리한다.
+ */
+class LongIntHashMap {
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+
+    private int[] values;
+
+    private int mask;
+
+    private int size;
+
+    private int threshold;
+
+    private boolean hasZeroKey;
+
+    private int zeroValue;
+
+    LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * 값 조회
+     * @return 값, 없으면 0
+     */
+    int get(long key) {
+        if (key == 0) {
+            return hasZeroKey ? zeroValue : 0;
+        }
+        int slot = find(key);
+        return slot >= 0 ? values[slot] : 0;
+    }
+
+    boolean containsKey(long key) {
+        return key == 0 ? hasZeroKey : find(key) >= 0;
+    }
+
+    /**
+     * 값에 delta를 더하고, 결과가 0 이하이면 키를 삭제
+     * @return 더한 결과 (삭제된 경우 0 이하)
+     */
+    int add(long key, int delta) {
+        if (key == 0) {
+            int value = (hasZeroKey ? zeroValue : 0) + delta;
+            if (value > 0) {
+                if (!hasZeroKey) {
+                    size++;
+                }
+                hasZeroKey = true;
+                zeroValue = value;
+            } else if (hasZeroKey) {
+                hasZeroKey = false;
+                size--;
+            }
+            return value;
+        }
+
+        int slot = slot(key);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                int value = values[slot] + delta;
+                if (value > 0) {
+                    values[slot] = value;
+                } else {
+                    removeSlot(slot);
+                }
+                return value;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (delta <= 0) {
+            return delta;
+        }
+        keys[slot] = key;
+        values[slot] = delta;
+        if (++size > threshold) {
+            rehash(keys.length << 1);
+        }
+        return delta;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 키 목록
+     * @param limit 최대 개수
+     * @return 키 배열 (순서 없음)
+     */
+    long[] keys(int limit) {
+        long[] result = new long[Math.min(limit, size)];
+        int count = 0;
+        if (hasZeroKey && count < result.length) {
+            result[count++] = 0;
+        }
+        for (int i = 0; i < keys.length && count < result.length; i++) {
+            if (keys[i] != 0) {
+                result[count++] = keys[i];
+            }
+        }
+        return result;
+    }
+
+    private int find(long key) {
+        int slot = slot(key);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * 삭제한 칸 뒤의 항목 중 원래 위치가 삭제한 칸 이전인 항목을 당겨 탐사 경로를 유지
+     */
+    private void removeSlot(int slot) {
+        size--;
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != 0) {
+            int home = slot(keys[next]);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = 0;
+        values[gap] = 0;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = slot(oldKeys[i]);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
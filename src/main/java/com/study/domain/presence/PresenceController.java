@@ -0,0 +1,66 @@
+package com.study.domain.presence;
+
+import com.study.common.dto.GenericResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 접속 상태 조회 REST API 컨트롤러
+ * - 요청을 받은 노드의 연결만 조회한다. (redis 모드에서도 다른 노드의 연결은 포함하지 않음)
+ */
+@RestController
+@RequestMapping("/api/presence")
+@RequiredArgsConstructor
+public class PresenceController {
+
+    private final PresenceService presenceService;
+
+    /**
+     * 사용자 접속 여부
+     * @param userKey 사용자 고유 키
+     * @return 접속 여부
+     */
+    @GetMapping("/users/{userKey}")
+    public GenericResponse<Boolean> isOnline(@PathVariable long userKey) {
+        return new GenericResponse<>(presenceService.isOnline(userKey));
+    }
+
+    /**
+     * 여러 사용자 접속 여부
+     * @param userKeys 사용자 고유 키 목록
+     * @return 사용자별 접속 여부
+     */
+    @PostMapping("/users/online")
+    public GenericResponse<Map<Long, Boolean>> isOnline(@RequestBody List<Long> userKeys) {
+        return new GenericResponse<>(presenceService.isOnline(userKeys));
+    }
+
+    /**
+     * 채팅방 접속자 조회
+     * @param roomId 채팅방 ID
+     * @param limit 최대 건수
+     * @return 접속자 수와 사용자 고유 키 목록
+     */
+    @GetMapping("/rooms/{roomId}")
+    public GenericResponse<Map<String, Object>> findRoomMembers(@PathVariable long roomId,
+                                                                @RequestParam(defaultValue = "100") int limit) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("roomId", roomId);
+        response.put("count", presenceService.countRoomMembers(roomId));
+        response.put("userKeys", presenceService.findRoomMembers(roomId, Math.max(0, Math.min(limit, 1000))));
+        return new GenericResponse<>(response);
+    }
+
+    /**
+     * 접속 통계
+     * @return 세션 수, 접속 사용자 수, 채팅방 수
+     */
+    @GetMapping("/stats")
+    public GenericResponse<Map<String, Object>> stats() {
+        return new GenericResponse<>(presenceService.stats());
+    }
+}
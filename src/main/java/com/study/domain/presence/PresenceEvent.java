@@ -0,0 +1,26 @@
+package com.study.domain.presence;
+
+import lombok.Getter;
+
+/**
+ * 접속 상태 변경 이벤트
+ * - ONLINE/OFFLINE: 사용자의 첫 연결/마지막 연결 종료 (/topic/chat/presence)
+ * - JOIN/LEAVE: 채팅방 첫 구독/마지막 구독 해제 (/topic/chat/{roomId}/presence)
+ */
+@Getter
+public class PresenceEvent {
+
+    public enum Type {
+        ONLINE, OFFLINE, JOIN, LEAVE
+    }
+
+    private final Type type;           // 이벤트 종류
+    private final long userKey;        // 사용자 고유 키
+    private final Long roomId;         // 채팅방 ID (JOIN/LEAVE)
+
+    PresenceEvent(Type type, long userKey, Long roomId) {
+        this.type = type;
+        this.userKey = userKey;
+        this.roomId = roomId;
+    }
+}
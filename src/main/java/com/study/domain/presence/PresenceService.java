@@ -0,0 +1,479 @@
+package com.study.domain.presence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WebSocket 사용자 접속 상태 관리 (노드별)
+ * - STOMP 세션 연결/구독/해제를 받아 접속 중인 사용자와 채팅방(/topic/chat/{roomId}) 구독자를 관리한다.
+ * - 사용자별 연결 수와 채팅방별 사용자 구독 수는 long 키 맵(LongIntHashMap)에 저장하여
+ *   연결 수가 많아도 박싱 객체를 만들지 않는다.
+ * - 세션 상태는 세션 ID 키 맵에 둔다. 세션당 약 200바이트(맵 노드, PresenceSession, 구독 배열과 구독 ID)로
+ *   100만 연결이면 약 200 MB로 추정한다. 세션 ID 문자열은 WebSocket 세션과 같은 인스턴스라 제외했다.
+ *   (PresenceFootprintTest로 측정할 수 있다)
+ * - 연결이 끊기면 DISCONNECT(클라이언트 또는 SimpleBroker 하트비트 시간 초과 시 연결 종료)로 정리한다.
+ * - 하트비트를 협상한 세션만 max(timeout-ms, 하트비트 간격 x 3) 동안 메시지가 없으면 정리한다. (DISCONNECT 누락 대비)
+ *   하트비트가 없는 세션은 구독만 하고 보내지 않을 수 있으므로 시간 초과로 정리하지 않는다.
+ * - 정리된 세션에서 다시 메시지가 오면 다시 등록한다.
+ * - 사용자 온라인/오프라인, 채팅방 입장/퇴장 시 STOMP로 이벤트를 보낸다.
+ * - redis 모드(board.chat.broker.mode=redis)에서는 RedisPresenceRegistry로 노드 간 상태를 공유한다.
+ *   - 다른 노드에 같은 사용자의 연결(채팅방 구독)이 남아 있으면 OFFLINE/LEAVE를, 이미 있으면 ONLINE/JOIN을 보내지 않는다.
+ *   - 보낸 이벤트는 다른 노드의 구독자에게도 중계한다.
+ *   - 조회(isOnline, findRoomMembers, countRoomMembers, stats)는 이 노드의 연결만 대상으로 한다.
+ * - 맵 갱신은 하나의 잠금으로 보호한다. (연결/구독 변경은 메시지 전송보다 드물다)
+ *   - 노드 간 공유는 Redis 왕복이 있으므로 맵 잠금 밖에서, 같은 사용자의 변경 순서가 바뀌지 않도록 사용자별 분할 잠금 안에서 한다.
+ */
+@Slf4j
+@Service
+public class PresenceService {
+
+    public static final String USER_EVENT_DESTINATION = "/topic/chat/presence";
+
+    private static final String ROOM_PREFIX = "/topic/chat/";
+
+    private static final String ROOM_EVENT_SUFFIX = "/presence";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final long timeoutMillis;
+
+    // 서버가 기대하는 클라이언트 하트비트 간격 (0이면 하트비트 없음)
+    private final long heartbeatMillis;
+
+    private final boolean eventsEnabled;
+
+    private final Map<String, PresenceSession> sessions = new ConcurrentHashMap<>();
+
+    // userKey -> 연결 수
+    private final LongIntHashMap onlineUsers;
+
+    // roomId -> (userKey -> 구독 수)
+    private final LongObjectHashMap<LongIntHashMap> rooms;
+
+    private final Object lock = new Object();
+
+    // 노드 간 상태 공유 (redis 모드가 아니면 null)
+    private final RedisPresenceRegistry registry;
+
+    // 사용자별 분할 잠금 (노드 간 공유 순서 보장)
+    private final Object[] userLocks = new Object[64];
+
+    @Autowired
+    public PresenceService(@Lazy SimpMessagingTemplate messagingTemplate,
+                           @Value("${board.presence.timeout-ms:60000}") long timeoutMillis,
+                           @Value("${board.websocket.heartbeat-ms:10000}") long heartbeatMillis,
+                           @Value("${board.presence.events.enabled:true}") boolean eventsEnabled,
+                           @Value("${board.presence.expected-users:1024}") int expectedUsers,
+                           ObjectProvider<RedisPresenceRegistry> registry) {
+        this(messagingTemplate, registry.getIfAvailable(), timeoutMillis, heartbeatMillis, eventsEnabled, expectedUsers);
+    }
+
+    PresenceService(SimpMessagingTemplate messagingTemplate, RedisPresenceRegistry registry,
+                    long timeoutMillis, long heartbeatMillis, boolean eventsEnabled, int expectedUsers) {
+        this.messagingTemplate = messagingTemplate;
+        this.registry = registry;
+        this.timeoutMillis = timeoutMillis;
+        this.heartbeatMillis = heartbeatMillis;
+        this.eventsEnabled = eventsEnabled;
+        this.onlineUsers = new LongIntHashMap(expectedUsers);
+        this.rooms = new LongObjectHashMap<>(64);
+        for (int i = 0; i < userLocks.length; i++) {
+            userLocks[i] = new Object();
+        }
+    }
+
+    /**
+     * STOMP 연결 (CONNECT)
+     * @param sessionId STOMP 세션 ID
+     * @param userKey 사용자 고유 키
+     * @param clientHeartbeatMillis CONNECT heart-beat 헤더의 클라이언트 전송 간격 (0이면 하트비트 없음)
+     */
+    public void connect(String sessionId, long userKey, long clientHeartbeatMillis) {
+        PresenceSession session = new PresenceSession(userKey, idleTimeout(clientHeartbeatMillis), System.currentTimeMillis());
+        if (sessions.putIfAbsent(sessionId, session) != null) {
+            return;
+        }
+        boolean online;
+        synchronized (userLock(userKey)) {
+            synchronized (lock) {
+                online = onlineUsers.add(userKey, 1) == 1;
+            }
+            online = online && !sharedWithOtherNodes(userKey, -1, true);
+        }
+        if (online) {
+            publish(USER_EVENT_DESTINATION, new PresenceEvent(PresenceEvent.Type.ONLINE, userKey, null));
+        }
+    }
+
+    /**
+     * 구독 (SUBSCRIBE), 채팅방 목적지만 관리
+     * @param sessionId STOMP 세션 ID
+     * @param subscriptionId 구독 ID
+     * @param destination 구독 목적지
+     */
+    public void subscribe(String sessionId, String subscriptionId, String destination) {
+        PresenceSession session = sessions.get(sessionId);
+        long roomId = roomId(destination);
+        if (session == null || subscriptionId == null || roomId < 0) {
+            return;
+        }
+        session.touch();
+        if (!session.addSubscription(subscriptionId, roomId)) {
+            return;
+        }
+
+        boolean joined;
+        synchronized (userLock(session.userKey)) {
+            synchronized (lock) {
+                LongIntHashMap members = rooms.get(roomId);
+                if (members == null) {
+                    members = new LongIntHashMap(16);
+                    rooms.put(roomId, members);
+                }
+                joined = members.add(session.userKey, 1) == 1;
+            }
+            joined = joined && !sharedWithOtherNodes(session.userKey, roomId, true);
+        }
+        if (joined) {
+            publish(ROOM_PREFIX + roomId + ROOM_EVENT_SUFFIX, new PresenceEvent(PresenceEvent.Type.JOIN, session.userKey, roomId));
+        }
+    }
+
+    /**
+     * 구독 해제 (UNSUBSCRIBE)
+     * @param sessionId STOMP 세션 ID
+     * @param subscriptionId 구독 ID
+     */
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        PresenceSession session = sessions.get(sessionId);
+        if (session == null || subscriptionId == null) {
+            return;
+        }
+        session.touch();
+        long roomId = session.removeSubscription(subscriptionId);
+        if (roomId >= 0) {
+            leave(session.userKey, roomId);
+        }
+    }
+
+    /**
+     * 연결 종료 (DISCONNECT, 연결 끊김, 하트비트 시간 초과)
+     * @param sessionId STOMP 세션 ID
+     */
+    public void disconnect(String sessionId) {
+        PresenceSession session = sessions.remove(sessionId);
+        if (session != null) {
+            close(session);
+        }
+    }
+
+    /**
+     * 세션 활동 기록 (메시지, 하트비트)
+     * - 시간 초과로 정리된 세션이면 다시 등록한다. (채팅방 구독은 복원하지 않음)
+     * @param sessionId STOMP 세션 ID
+     * @param userKey CONNECT 시 세션 속성에 저장한 사용자 고유 키 (없으면 -1)
+     * @param clientHeartbeatMillis CONNECT 시 클라이언트 하트비트 간격
+     */
+    public void touch(String sessionId, long userKey, long clientHeartbeatMillis) {
+        PresenceSession session = sessions.get(sessionId);
+        if (session != null) {
+            session.touch();
+        } else if (userKey >= 0) {
+            log.debug("정리된 세션 다시 등록: sessionId={}, userKey={}", sessionId, userKey);
+            connect(sessionId, userKey, clientHeartbeatMillis);
+        }
+    }
+
+    /**
+     * 하트비트 시간 초과 세션 정리 (sweep-interval-ms 주기)
+     * - 하트비트를 협상한 세션만 대상으로 한다.
+     */
+    @Scheduled(fixedDelayString = "${board.presence.sweep-interval-ms:10000}")
+    public void evictIdleSessions() {
+        if (timeoutMillis <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        int evicted = 0;
+        for (Map.Entry<String, PresenceSession> entry : sessions.entrySet()) {
+            PresenceSession session = entry.getValue();
+            if (session.idleTimeoutMillis > 0 && now - session.lastSeen > session.idleTimeoutMillis
+                    && sessions.remove(entry.getKey(), session)) {
+                close(session);
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            log.info("응답 없는 세션 정리: {}건", evicted);
+        }
+    }
+
+    /**
+     * 사용자 접속 여부
+     * @param userKey 사용자 고유 키
+     * @return 이 노드에 연결이 있으면 true (다른 노드의 연결은 보지 않음)
+     */
+    public boolean isOnline(long userKey) {
+        synchronized (lock) {
+            return onlineUsers.containsKey(userKey);
+        }
+    }
+
+    /**
+     * 여러 사용자 접속 여부
+     * @param userKeys 사용자 고유 키 목록
+     * @return 사용자별 접속 여부
+     */
+    public Map<Long, Boolean> isOnline(Collection<Long> userKeys) {
+        Map<Long, Boolean> result = new LinkedHashMap<>();
+        synchronized (lock) {
+            for (Long userKey : userKeys) {
+                result.put(userKey, onlineUsers.containsKey(userKey));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 채팅방 접속자 조회
+     * @param roomId 채팅방 ID
+     * @param limit 최대 건수
+     * @return 사용자 고유 키 목록 (순서 없음)
+     */
+    public long[] findRoomMembers(long roomId, int limit) {
+        synchronized (lock) {
+            LongIntHashMap members = rooms.get(roomId);
+            return members != null ? members.keys(limit) : new long[0];
+        }
+    }
+
+    /**
+     * 채팅방 접속자 수
+     * @param roomId 채팅방 ID
+     * @return 접속자 수
+     */
+    public int countRoomMembers(long roomId) {
+        synchronized (lock) {
+            LongIntHashMap members = rooms.get(roomId);
+            return members != null ? members.size() : 0;
+        }
+    }
+
+    /**
+     * 접속 통계
+     * @return 통계 (sessions, onlineUsers, rooms)
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("sessions", sessions.size());
+        synchronized (lock) {
+            stats.put("onlineUsers", onlineUsers.size());
+            stats.put("rooms", rooms.size());
+        }
+        return stats;
+    }
+
+    /**
+     * 세션 맵에서 제거된 세션의 구독과 연결 수 정리
+     */
+    private void close(PresenceSession session) {
+        for (long roomId : session.clearSubscriptions()) {
+            leave(session.userKey, roomId);
+        }
+
+        boolean offline;
+        synchronized (userLock(session.userKey)) {
+            synchronized (lock) {
+                offline = onlineUsers.add(session.userKey, -1) <= 0;
+            }
+            offline = offline && !sharedWithOtherNodes(session.userKey, -1, false);
+        }
+        if (offline) {
+            publish(USER_EVENT_DESTINATION, new PresenceEvent(PresenceEvent.Type.OFFLINE, session.userKey, null));
+        }
+    }
+
+    /**
+     * 세션 시간 초과 기준
+     * - 하트비트를 협상하지 않았으면(클라이언트 또는 서버 간격 0) 시간 초과로 정리하지 않는다.
+     * - 협상된 간격은 max(클라이언트 간격, 서버 간격)이고, 간격의 3배보다 짧게 잡지 않는다. (SimpleBroker와 같은 기준)
+     * @return 시간 초과(ms), 0이면 정리하지 않음
+     */
+    private long idleTimeout(long clientHeartbeatMillis) {
+        if (timeoutMillis <= 0 || clientHeartbeatMillis <= 0 || heartbeatMillis <= 0) {
+            return 0;
+        }
+        return Math.max(timeoutMillis, Math.max(clientHeartbeatMillis, heartbeatMillis) * 3);
+    }
+
+    private void leave(long userKey, long roomId) {
+        boolean left = false;
+        synchronized (userLock(userKey)) {
+            synchronized (lock) {
+                LongIntHashMap members = rooms.get(roomId);
+                if (members != null) {
+                    left = members.add(userKey, -1) <= 0;
+                    if (members.size() == 0) {
+                        rooms.remove(roomId);
+                    }
+                }
+            }
+            left = left && !sharedWithOtherNodes(userKey, roomId, false);
+        }
+        if (left) {
+            publish(ROOM_PREFIX + roomId + ROOM_EVENT_SUFFIX, new PresenceEvent(PresenceEvent.Type.LEAVE, userKey, roomId));
+        }
+    }
+
+    /**
+     * 이 노드의 첫 연결(구독) 또는 마지막 연결(구독) 해제를 다른 노드와 공유
+     * @param roomId 채팅방 ID, 사용자 연결이면 -1
+     * @param held true: 첫 연결(구독), false: 마지막 해제
+     * @return 다른 노드에도 같은 연결(구독)이 있으면 true (이벤트를 보내지 않는다)
+     */
+    private boolean sharedWithOtherNodes(long userKey, long roomId, boolean held) {
+        return registry != null && registry.update(userKey, roomId, held);
+    }
+
+    private Object userLock(long userKey) {
+        return userLocks[Long.hashCode(userKey) & (userLocks.length - 1)];
+    }
+
+    private void publish(String destination, PresenceEvent event) {
+        if (!eventsEnabled) {
+            return;
+        }
+        try {
+            messagingTemplate.convertAndSend(destination, event);
+        } catch (Exception e) {
+            log.warn("접속 상태 이벤트 전송 실패: destination={}, type={}", destination, event.getType(), e);
+        }
+        if (registry != null) {
+            registry.relay(destination, event);
+        }
+    }
+
+    /**
+     * 접속 상태 이벤트 목적지 여부 (/topic/chat/presence, /topic/chat/{roomId}/presence)
+     * - 이벤트는 서버만 보낸다. (StompHandler에서 클라이언트 SEND를 거부)
+     */
+    public static boolean isEventDestination(String destination) {
+        return destination != null && destination.startsWith(ROOM_PREFIX) && destination.endsWith(ROOM_EVENT_SUFFIX);
+    }
+
+    /**
+     * 채팅방 목적지(/topic/chat/{roomId})에서 채팅방 ID 추출
+     * @return 채팅방 목적지가 아니면 -1
+     */
+    static long roomId(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_PREFIX)) {
+            return -1;
+        }
+        int length = destination.length() - ROOM_PREFIX.length();
+        if (length == 0 || length > 18) {
+            return -1;
+        }
+        long roomId = 0;
+        for (int i = ROOM_PREFIX.length(); i < destination.length(); i++) {
+            char c = destination.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            roomId = roomId * 10 + (c - '0');
+        }
+        return roomId;
+    }
+
+    /**
+     * STOMP 세션별 상태 (구독은 보통 몇 개이므로 배열로 관리, 첫 채팅방 구독 시 할당)
+     */
+    private static final class PresenceSession {
+
+        private static final String[] NO_SUBSCRIPTION_IDS = new String[0];
+
+        private static final long[] NO_SUBSCRIPTION_ROOMS = new long[0];
+
+        private final long userKey;
+
+        // 0이면 시간 초과로 정리하지 않음
+        private final long idleTimeoutMillis;
+
+        private volatile long lastSeen;
+
+        private String[] subscriptionIds = NO_SUBSCRIPTION_IDS;
+
+        private long[] subscriptionRooms = NO_SUBSCRIPTION_ROOMS;
+
+        private int subscriptions;
+
+        // 연결 종료 후에는 구독을 추가하지 않는다.
+        private boolean closed;
+
+        PresenceSession(long userKey, long idleTimeoutMillis, long lastSeen) {
+            this.userKey = userKey;
+            this.idleTimeoutMillis = idleTimeoutMillis;
+            this.lastSeen = lastSeen;
+        }
+
+        void touch() {
+            lastSeen = System.currentTimeMillis();
+        }
+
+        synchronized boolean addSubscription(String subscriptionId, long roomId) {
+            if (closed) {
+                return false;
+            }
+            for (int i = 0; i < subscriptions; i++) {
+                if (subscriptionIds[i].equals(subscriptionId)) {
+                    return false;
+                }
+            }
+            if (subscriptions == subscriptionIds.length) {
+                int capacity = Math.max(2, subscriptions * 2);
+                subscriptionIds = Arrays.copyOf(subscriptionIds, capacity);
+                subscriptionRooms = Arrays.copyOf(subscriptionRooms, capacity);
+            }
+            subscriptionIds[subscriptions] = subscriptionId;
+            subscriptionRooms[subscriptions] = roomId;
+            subscriptions++;
+            return true;
+        }
+
+        /**
+         * @return 구독했던 채팅방 ID, 없으면 -1
+         */
+        synchronized long removeSubscription(String subscriptionId) {
+            for (int i = 0; i < subscriptions; i++) {
+                if (subscriptionIds[i].equals(subscriptionId)) {
+                    long roomId = subscriptionRooms[i];
+                    subscriptions--;
+                    subscriptionIds[i] = subscriptionIds[subscriptions];
+                    subscriptionRooms[i] = subscriptionRooms[subscriptions];
+                    subscriptionIds[subscriptions] = null;
+                    return roomId;
+                }
+            }
+            return -1;
+        }
+
+        synchronized long[] clearSubscriptions() {
+            long[] roomIds = Arrays.copyOf(subscriptionRooms, subscriptions);
+            subscriptions = 0;
+            closed = true;
+            Arrays.fill(subscriptionIds, null);
+            return roomIds;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.study.domain.presence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.socket.RedisChatRelay;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * 노드 간 접속 상태 공유 (board.chat.broker.mode=redis)
+ * - 노드마다 Redis 해시(boardpractice:presence:node:{nodeId})에 이 노드가 가진 사용자 연결(u:{userKey})과
+ *   채팅방 구독(r:{roomId}:{userKey})을 기록하고, 살아 있는 노드 목록(boardpractice:presence:nodes)에 자신을 갱신한다.
+ * - 기록/해제와 다른 노드의 보유 여부 확인은 Lua 스크립트(redis/presence_update.lua) 한 번으로 처리한다.
+ *   여러 노드에서 동시에 연결/종료해도 ONLINE/OFFLINE, JOIN/LEAVE가 빠지지 않는다. (동시 종료 시 중복은 있을 수 있음)
+ * - 이벤트는 로컬 구독자 전달과 별도로 RedisChatRelay로 다른 노드에 발행한다.
+ * - node-ttl-ms 동안 갱신이 없는 노드는 보유 여부 확인에서 빠지고 해시도 만료된다.
+ *   (비정상 종료된 노드의 사용자에 대해서는 OFFLINE/LEAVE 이벤트를 보내지 않는다)
+ * - 스크립트가 다른 노드의 해시 키를 직접 읽으므로 단일 마스터에서만 사용할 수 있다. (RedisConfig 참고)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "board.chat.broker.mode", havingValue = "redis")
+public class RedisPresenceRegistry {
+
+    static final String NODES_KEY = "boardpractice:presence:nodes";
+
+    static final String NODE_KEY_PREFIX = "boardpractice:presence:node:";
+
+    private static final byte[] NODES_KEY_BYTES = NODES_KEY.getBytes(StandardCharsets.UTF_8);
+
+    private static final RedisScript<Long> UPDATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/presence_update.lua"), Long.class);
+
+    private static final RedisSerializer<Long> LONG_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final RedisChatRelay redisChatRelay;
+
+    private final ObjectMapper objectMapper;
+
+    private final long nodeTtlMillis;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final String nodeKey = NODE_KEY_PREFIX + nodeId;
+
+    public RedisPresenceRegistry(RedisTemplate<String, Object> redisTemplate,
+                                 RedisChatRelay redisChatRelay,
+                                 ObjectMapper objectMapper,
+                                 @Value("${board.presence.node-ttl-ms:30000}") long nodeTtlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.redisChatRelay = redisChatRelay;
+        this.objectMapper = objectMapper;
+        this.nodeTtlMillis = nodeTtlMillis;
+    }
+
+    /**
+     * 이 노드의 첫 연결(구독) 기록 또는 마지막 연결(구독) 해제
+     * - Redis 오류 시에는 다른 노드에 없는 것으로 보고 이벤트를 보내게 한다.
+     * @param userKey 사용자 고유 키
+     * @param roomId 채팅방 ID, 사용자 연결이면 -1
+     * @param held true: 기록, false: 해제
+     * @return 다른 노드에도 같은 연결(구독)이 있으면 true
+     */
+    public boolean update(long userKey, long roomId, boolean held) {
+        String field = roomId < 0 ? "u:" + userKey : "r:" + roomId + ":" + userKey;
+        try {
+            Long shared = redisTemplate.execute(UPDATE_SCRIPT,
+                    redisTemplate.getStringSerializer(), LONG_SERIALIZER,
+                    Arrays.asList(NODES_KEY, nodeKey),
+                    NODE_KEY_PREFIX, nodeId, field, held ? "1" : "0",
+                    String.valueOf(System.currentTimeMillis()), String.valueOf(nodeTtlMillis));
+            return shared != null && shared == 1L;
+        } catch (Exception e) {
+            log.warn("접속 상태 공유 실패: field={}, held={}", field, held, e);
+            return false;
+        }
+    }
+
+    /**
+     * 이벤트를 다른 노드의 구독자에게 발행
+     * @param destination 목적지
+     * @param event 이벤트
+     */
+    public void relay(String destination, PresenceEvent event) {
+        try {
+            redisChatRelay.publish(destination, MimeTypeUtils.APPLICATION_JSON, objectMapper.writeValueAsBytes(event));
+        } catch (Exception e) {
+            log.warn("접속 상태 이벤트 중계 실패: destination={}, type={}", destination, event.getType(), e);
+        }
+    }
+
+    /**
+     * 노드 목록과 이 노드 해시의 만료 시간 갱신, 만료된 노드 제거
+     */
+    @Scheduled(fixedDelayString = "${board.presence.node-heartbeat-ms:10000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        byte[] member = nodeId.getBytes(StandardCharsets.UTF_8);
+        byte[] key = nodeKey.getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.zAdd(NODES_KEY_BYTES, now, member);
+                connection.pExpire(key, nodeTtlMillis);
+                connection.zRemRangeByScore(NODES_KEY_BYTES, Double.NEGATIVE_INFINITY, now - nodeTtlMillis - 1);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("접속 상태 노드 갱신 실패: nodeId={}", nodeId, e);
+        }
+    }
+
+    @PreDestroy
+    public void unregister() {
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.zRem(NODES_KEY_BYTES, nodeId.getBytes(StandardCharsets.UTF_8));
+                connection.del(nodeKey.getBytes(StandardCharsets.UTF_8));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("접속 상태 노드 제거 실패: nodeId={}", nodeId, e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.study.domain.session;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 세션 저장소(Redis) 회로 차단기
+ * - 연속 실패가 기준 횟수에 도달하면 열림(OPEN) 상태가 되어 Redis 호출 없이 바로 로컬 저장소를 사용한다.
+ * - 열린 뒤 일정 시간이 지나면 한 요청만 시험 호출(HALF_OPEN)하고, 성공하면 닫힘(CLOSED)으로 돌아간다.
+ */
+@Slf4j
+@Component
+public class SessionStoreCircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+
+    private final long openMillis;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+
+    private volatile State state = State.CLOSED;
+
+    private volatile long openedAt;
+
+    public SessionStoreCircuitBreaker(@Value("${board.session.circuit-breaker.failure-threshold:3}") int failureThreshold,
+                                      @Value("${board.session.circuit-breaker.open-ms:5000}") long openMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    /**
+     * Redis 호출 가능 여부
+     * - 열린 상태에서 대기 시간이 지났으면 한 요청만 허용한다. (호출 결과는 반드시 record*로 알려야 한다.)
+     * @return 호출 가능 여부
+     */
+    public boolean allowRequest() {
+        State current = state;
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis
+                && trialInFlight.compareAndSet(false, true)) {
+            state = State.HALF_OPEN;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Redis 호출 성공 기록
+     */
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        if (state != State.CLOSED) {
+            state = State.CLOSED;
+            trialInFlight.set(false);
+            log.info("세션 저장소 회로 닫힘: Redis 복구");
+        }
+    }
+
+    /**
+     * Redis 호출 실패(연결 실패/시간 초과) 기록
+     */
+    public void recordFailure() {
+        if (state == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * 장애와 무관한 Redis 오류 기록 (명령 오류, 직렬화 실패 등)
+     * - 성공으로도 실패로도 세지 않는다.
+     * - 시험 호출이었다면 결과를 알 수 없으므로 열린 상태로 되돌려 다음 요청이 다시 시험 호출하게 한다.
+     */
+    public void recordIgnored() {
+        if (state == State.HALF_OPEN) {
+            state = State.OPEN;
+            trialInFlight.set(false);
+        }
+    }
+
+    /**
+     * @return 닫힘(정상) 상태 여부
+     */
+    public boolean isClosed() {
+        return state == State.CLOSED;
+    }
+
+    State getState() {
+        return state;
+    }
+
+    private synchronized void open() {
+        if (state != State.OPEN) {
+            log.warn("세션 저장소 회로 열림: {}ms 동안 로컬 저장소 사용", openMillis);
+        }
+        state = State.OPEN;
+        openedAt = System.currentTimeMillis();
+        consecutiveFailures.set(0);
+        trialInFlight.set(false);
+    }
+
+}
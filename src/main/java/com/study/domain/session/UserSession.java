@@ -61,4 +61,25 @@ public class UserSession implements Serializable {
      * 추가 메타데이터 (JSON 형식)
      */
     private String metadata;
+
+    /**
+     * 세션 복사 (로컬 캐시/저장소가 보관한 값을 호출자가 바꾸지 못하게 한다)
+     * @param userSession 사용자 세션 정보, null 허용
+     * @return 복사본, null이면 null
+     */
+    static UserSession copyOf(UserSession userSession) {
+        if (userSession == null) {
+            return null;
+        }
+        return UserSession.builder()
+                .userKey(userSession.getUserKey())
+                .username(userSession.getUsername())
+                .roles(userSession.getRoles() != null ? userSession.getRoles().clone() : null)
+                .createdAt(userSession.getCreatedAt())
+                .lastAccessedAt(userSession.getLastAccessedAt())
+                .ipAddress(userSession.getIpAddress())
+                .userAgent(userSession.getUserAgent())
+                .metadata(userSession.getMetadata())
+                .build();
+    }
 }
@@ -0,0 +1,332 @@
+package com.study.domain.session;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 세션 통계 집계
+ * - SCAN으로 세션 키를 배치 단위로 순회하고, 배치마다 MGET 한 번으로 값을 읽어 집계한다.
+ *   (KEYS처럼 Redis를 막거나 전체 키 목록을 메모리에 올리지 않는다.)
+ * - MGET은 pipeline-batches 개의 배치씩 파이프라인으로 묶어 보내므로, 왕복 지연은 배치 묶음마다 한 번만 기다린다.
+ * - 집계 결과는 refresh-interval 동안 재사용하며, 동시에 요청되어도 한 번만 집계한다.
+ * - 복제본이 설정되어 있으면 복제본에서 읽는다.
+ */
+@Slf4j
+@Component
+public class UserSessionAnalytics {
+
+    private static final String SESSION_PATTERN = "boardpractice:user:session:*";
+
+    private static final String UNKNOWN = "unknown";
+
+    private final RedisTemplate<String, Object> replicaRedisTemplate;
+
+    private final int batchSize;
+
+    private final int pipelineBatches;
+
+    private final long refreshIntervalMillis;
+
+    private final int topIpPrefixes;
+
+    private volatile UserSessionStats cached;
+
+    private volatile long cachedAt;
+
+    public UserSessionAnalytics(@Qualifier("replicaRedisTemplate") RedisTemplate<String, Object> replicaRedisTemplate,
+                                @Value("${board.session.analytics.batch-size:500}") int batchSize,
+                                @Value("${board.session.analytics.pipeline-batches:8}") int pipelineBatches,
+                                @Value("${board.session.analytics.refresh-interval-ms:60000}") long refreshIntervalMillis,
+                                @Value("${board.session.analytics.top-ip-prefixes:50}") int topIpPrefixes) {
+        this.replicaRedisTemplate = replicaRedisTemplate;
+        this.batchSize = batchSize;
+        this.pipelineBatches = Math.max(1, pipelineBatches);
+        this.refreshIntervalMillis = refreshIntervalMillis;
+        this.topIpPrefixes = topIpPrefixes;
+    }
+
+    /**
+     * 세션 통계 조회
+     * - 마지막 집계 후 refresh-interval이 지났으면 다시 집계한다.
+     * - 집계에 실패하면 이전 결과를 반환한다.
+     * @return 세션 통계, 집계한 적이 없고 실패하면 null
+     */
+    public UserSessionStats getStats() {
+        if (isFresh()) {
+            return cached;
+        }
+        synchronized (this) {
+            if (isFresh()) {
+                return cached;
+            }
+            try {
+                cached = compute();
+                cachedAt = System.currentTimeMillis();
+            } catch (Exception e) {
+                log.error("세션 통계 집계 실패", e);
+            }
+            return cached;
+        }
+    }
+
+    private boolean isFresh() {
+        return cached != null && System.currentTimeMillis() - cachedAt < refreshIntervalMillis;
+    }
+
+    private UserSessionStats compute() {
+        long startedAt = System.currentTimeMillis();
+        Aggregation aggregation = new Aggregation();
+        @SuppressWarnings("unchecked")
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) replicaRedisTemplate.getValueSerializer();
+
+        replicaRedisTemplate.execute((RedisCallback<Void>) (RedisConnection connection) -> {
+            ScanOptions options = ScanOptions.scanOptions()
+                    .match(SESSION_PATTERN)
+                    .count(batchSize)
+                    .build();
+            List<byte[][]> batches = new ArrayList<>(pipelineBatches);
+            List<byte[]> keys = new ArrayList<>(batchSize);
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext()) {
+                    keys.add(cursor.next());
+                    if (keys.size() >= batchSize) {
+                        batches.add(keys.toArray(new byte[0][]));
+                        keys.clear();
+                    }
+                    if (batches.size() >= pipelineBatches) {
+                        aggregate(batches, valueSerializer, aggregation);
+                        batches.clear();
+                    }
+                }
+            }
+            if (!keys.isEmpty()) {
+                batches.add(keys.toArray(new byte[0][]));
+            }
+            if (!batches.isEmpty()) {
+                aggregate(batches, valueSerializer, aggregation);
+            }
+            return null;
+        });
+
+        long elapsedMillis = System.currentTimeMillis() - startedAt;
+        log.info("세션 통계 집계 완료: sessions={}, elapsed={}ms", aggregation.total, elapsedMillis);
+        return new UserSessionStats(aggregation.total, sortByCount(aggregation.byRole, Integer.MAX_VALUE),
+                sortByCount(aggregation.byUserAgentFamily, Integer.MAX_VALUE),
+                sortByCount(aggregation.byIpPrefix, topIpPrefixes), LocalDateTime.now(), elapsedMillis);
+    }
+
+    /**
+     * 배치별 MGET을 파이프라인으로 보내고 결과를 집계
+     * - SCAN 커서를 쓰는 연결과 별도의 연결에서 실행된다. (파이프라인 중에는 SCAN 결과를 받을 수 없다)
+     */
+    private void aggregate(List<byte[][]> batches, RedisSerializer<Object> valueSerializer, Aggregation aggregation) {
+        // 결과 직렬화기를 null로 주어 byte[]를 그대로 받고, 값마다 해석해서 해석 실패가 전체 집계를 막지 않게 한다.
+        List<Object> results = replicaRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (byte[][] keys : batches) {
+                connection.stringCommands().mGet(keys);
+            }
+            return null;
+        }, null);
+        for (Object result : results) {
+            if (!(result instanceof List)) {
+                continue;
+            }
+            for (Object value : (List<?>) result) {
+                if (!(value instanceof byte[])) {
+                    continue; // SCAN 이후 만료된 세션
+                }
+                Object session;
+                try {
+                    session = valueSerializer.deserialize((byte[]) value);
+                } catch (Exception e) {
+                    log.debug("세션 값 해석 실패: {}", e.getMessage());
+                    continue;
+                }
+                if (session instanceof UserSession) {
+                    aggregation.add((UserSession) session);
+                }
+            }
+        }
+    }
+
+    /**
+     * 사용자 에이전트로 브라우저 종류 판별 (토큰 순서가 중요: Edge/Opera는 Chrome 토큰도 포함)
+     * @param userAgent User-Agent 헤더
+     * @return 브라우저 종류
+     */
+    static String userAgentFamily(String userAgent) {
+        if (userAgent == null || userAgent.isEmpty()) {
+            return UNKNOWN;
+        }
+        String ua = userAgent.toLowerCase(Locale.ROOT);
+        if (ua.contains("bot") || ua.contains("spider") || ua.contains("crawl")) {
+            return "Bot";
+        }
+        if (ua.contains("edg/")) {
+            return "Edge";
+        }
+        if (ua.contains("opr/") || ua.contains("opera")) {
+            return "Opera";
+        }
+        if (ua.contains("firefox/")) {
+            return "Firefox";
+        }
+        if (ua.contains("chrome/") || ua.contains("crios/")) {
+            return "Chrome";
+        }
+        if (ua.contains("safari/")) {
+            return "Safari";
+        }
+        if (ua.startsWith("curl/") || ua.contains("postman") || ua.contains("okhttp") || ua.contains("java/")) {
+            return "Client";
+        }
+        return "Other";
+    }
+
+    /**
+     * IP 대역 (IPv4: /24, IPv6: /64)
+     * @param ipAddress IP 주소 (X-Forwarded-For 형식이면 첫 번째 주소)
+     * @return IP 대역
+     */
+    static String ipPrefix(String ipAddress) {
+        if (ipAddress == null || ipAddress.isEmpty()) {
+            return UNKNOWN;
+        }
+        String ip = ipAddress;
+        int comma = ip.indexOf(',');
+        if (comma >= 0) {
+            ip = ip.substring(0, comma);
+        }
+        ip = ip.trim();
+
+        if (ip.indexOf(':') >= 0) {
+            return ipv6Prefix(ip);
+        }
+
+        int lastDot = ip.lastIndexOf('.');
+        return lastDot > 0 ? ip.substring(0, lastDot) + ".0/24" : UNKNOWN;
+    }
+
+    /**
+     * IPv6 /64 대역 (생략된 0 그룹(::)을 펼치고, 각 그룹은 앞의 0을 뺀 소문자 16진수로 맞춘다)
+     * - DNS 조회가 일어나지 않도록 InetAddress 대신 직접 해석한다.
+     * @param ip IPv6 주소 (대괄호, zone id 허용)
+     * @return IP 대역, 형식이 잘못되었으면 unknown
+     */
+    private static String ipv6Prefix(String ip) {
+        String address = ip;
+        if (address.startsWith("[")) {
+            int end = address.indexOf(']');
+            address = end > 0 ? address.substring(1, end) : address.substring(1);
+        }
+        int zone = address.indexOf('%');
+        if (zone >= 0) {
+            address = address.substring(0, zone);
+        }
+
+        List<String> groups = new ArrayList<>(8);
+        int gap = address.indexOf("::");
+        List<String> head = splitGroups(gap >= 0 ? address.substring(0, gap) : address);
+        List<String> tail = gap >= 0 ? splitGroups(address.substring(gap + 2)) : new ArrayList<>();
+        if (head == null || tail == null) {
+            return UNKNOWN;
+        }
+        int zeros = 8 - groupCount(head) - groupCount(tail);
+        if (gap >= 0 ? zeros < 1 : zeros != 0) {
+            return UNKNOWN;
+        }
+        groups.addAll(head);
+        for (int i = 0; i < zeros; i++) {
+            groups.add("0");
+        }
+        groups.addAll(tail);
+
+        StringBuilder prefix = new StringBuilder();
+        for (int i = 0; i < 4; i++) {
+            String group = groups.get(i);
+            if (group.length() > 4 || group.indexOf('.') >= 0) {
+                return UNKNOWN;
+            }
+            try {
+                prefix.append(Integer.toHexString(Integer.parseInt(group, 16))).append(':');
+            } catch (NumberFormatException e) {
+                return UNKNOWN;
+            }
+        }
+        return prefix.append(":/64").toString();
+    }
+
+    // ':' 로 구분된 그룹 목록, 빈 그룹이 있으면 null
+    private static List<String> splitGroups(String part) {
+        List<String> groups = new ArrayList<>();
+        if (part.isEmpty()) {
+            return groups;
+        }
+        for (String group : part.split(":", -1)) {
+            if (group.isEmpty()) {
+                return null;
+            }
+            groups.add(group);
+        }
+        return groups;
+    }
+
+    // 끝에 IPv4 표기(예: ::ffff:192.0.2.1)가 있으면 두 그룹으로 센다.
+    private static int groupCount(List<String> groups) {
+        if (groups.isEmpty()) {
+            return 0;
+        }
+        return groups.get(groups.size() - 1).indexOf('.') >= 0 ? groups.size() + 1 : groups.size();
+    }
+
+    private static Map<String, Long> sortByCount(Map<String, Long> counts, int limit) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(limit)
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    private static final class Aggregation {
+
+        private long total;
+
+        private final Map<String, Long> byRole = new HashMap<>();
+
+        private final Map<String, Long> byUserAgentFamily = new HashMap<>();
+
+        private final Map<String, Long> byIpPrefix = new HashMap<>();
+
+        void add(UserSession session) {
+            total++;
+            String[] roles = session.getRoles();
+            if (roles == null || roles.length == 0) {
+                byRole.merge(UNKNOWN, 1L, Long::sum);
+            } else {
+                for (String role : roles) {
+                    byRole.merge(role, 1L, Long::sum);
+                }
+            }
+            byUserAgentFamily.merge(userAgentFamily(session.getUserAgent()), 1L, Long::sum);
+            byIpPrefix.merge(ipPrefix(session.getIpAddress()), 1L, Long::sum);
+        }
+    }
+
+}
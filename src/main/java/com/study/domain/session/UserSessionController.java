@@ -9,6 +9,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,6 +25,8 @@ public class UserSessionController {
 
     private final UserSessionService userSessionService;
 
+    private final UserSessionAnalytics userSessionAnalytics;
+
     /**
      * 세션 생성 (로그인 시뮬레이션)
      * @param request HTTP 요청
@@ -87,7 +90,7 @@ public class UserSessionController {
             String sessionId = httpSession.getId();
             Optional<UserSession> userSessionOpt = userSessionService.getSession(sessionId);
 
-            if (userSessionOpt.isEmpty()) {
+            if (!userSessionOpt.isPresent()) {
                 return new GenericResponse<>(null, "세션 정보를 찾을 수 없습니다.");
             }
 
@@ -158,6 +161,50 @@ public class UserSessionController {
         }
     }
 
+    /**
+     * 여러 세션 존재 여부 일괄 확인 (관리자용)
+     * @param sessionIds 세션 ID 목록
+     * @return 세션 ID별 존재 여부
+     */
+    @PostMapping("/admin/exists")
+    public GenericResponse<Map<String, Boolean>> existsSessions(@RequestBody List<String> sessionIds) {
+        try {
+            return new GenericResponse<>(userSessionService.existsSessions(sessionIds));
+        } catch (Exception e) {
+            log.error("세션 일괄 존재 확인 실패", e);
+            return new GenericResponse<>(null, "세션 확인 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 여러 세션 일괄 연장 (관리자용)
+     * @param sessionIds 세션 ID 목록
+     * @return 연장된 세션 수
+     */
+    @PostMapping("/admin/extend")
+    public GenericResponse<Integer> extendSessions(@RequestBody List<String> sessionIds) {
+        try {
+            return new GenericResponse<>(userSessionService.extendSessions(sessionIds));
+        } catch (Exception e) {
+            log.error("세션 일괄 연장 실패", e);
+            return new GenericResponse<>(null, "세션 연장 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 세션 통계 조회 (관리자용)
+     * - 권한별, 브라우저 종류별, IP 대역별 세션 수
+     * @return 세션 통계 (refresh-interval 동안 캐시된 결과)
+     */
+    @GetMapping("/admin/stats")
+    public GenericResponse<UserSessionStats> getSessionStats() {
+        UserSessionStats stats = userSessionAnalytics.getStats();
+        if (stats == null) {
+            return new GenericResponse<>(null, "세션 통계 집계 중 오류가 발생했습니다.");
+        }
+        return new GenericResponse<>(stats);
+    }
+
     /**
      * 클라이언트 IP 주소 추출
      * @param request HTTP 요청
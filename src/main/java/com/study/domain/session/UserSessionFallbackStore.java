@@ -0,0 +1,195 @@
+package com.study.domain.session;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis 장애 시 사용하는 로컬 세션 저장소
+ * - 정상 상태에서도 최근 조회/저장한 세션 사본을 보관하여, 장애 중 기존 사용자가 로그아웃되지 않게 한다.
+ * - 장애 중 저장/삭제한 세션은 반영 대기 목록에 남겨 두고, Redis 복구 후 UserSessionService.reconcile()에서 반영한다.
+ * - 반영 대기 목록은 저장할 세션 값을 직접 들고 있으므로, 로컬 사본이 제거/만료되어도 저장이 유실되지 않는다.
+ * - 노드별 저장소이므로 장애 중 다른 노드에서 생성된 세션은 알 수 없다.
+ * - 저장/조회 시 세션을 복사하여, 호출자가 받은 세션을 바꿔도 보관한 값(반영 대기 값 포함)은 바뀌지 않게 한다.
+ */
+@Slf4j
+@Component
+public class UserSessionFallbackStore {
+
+    private final Cache<String, UserSession> sessions;
+
+    // 반영 대기 중인 세션 (세션 ID별 마지막 작업만 유지)
+    private final Map<String, PendingSession> pendingSessions = new ConcurrentHashMap<>();
+
+    // 반영 대기 작업 순번 (발생 순서대로 반영하기 위함)
+    private final AtomicLong sequence = new AtomicLong();
+
+    // 반영 대기 중인 사용자 전체 세션 삭제
+    private final Set<Long> pendingUserDeletes = ConcurrentHashMap.newKeySet();
+
+    private final int maxPending;
+
+    public UserSessionFallbackStore(@Value("${board.session.fallback.max-size:100000}") long maxSize,
+                                    @Value("${board.session.fallback.max-pending:10000}") int maxPending,
+                                    @Value("${board.session.fallback.ttl-seconds:1800}") long ttlSeconds) {
+        this.maxPending = maxPending;
+        this.sessions = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * 로컬 세션 사본 조회
+     * @param sessionId 세션 ID
+     * @return 사용자 세션 정보 (복사본), 없으면 null
+     */
+    public UserSession get(String sessionId) {
+        return UserSession.copyOf(sessions.getIfPresent(sessionId));
+    }
+
+    /**
+     * Redis에서 읽거나 저장한 세션 사본 보관
+     * @param sessionId 세션 ID
+     * @param userSession 사용자 세션 정보
+     */
+    public void put(String sessionId, UserSession userSession) {
+        sessions.put(sessionId, UserSession.copyOf(userSession));
+    }
+
+    /**
+     * 세션 사본 삭제 (다른 노드에서 변경/삭제된 경우)
+     * @param sessionId 세션 ID
+     */
+    public void remove(String sessionId) {
+        sessions.invalidate(sessionId);
+    }
+
+    /**
+     * 장애 중 세션 저장
+     * @param sessionId 세션 ID
+     * @param userSession 사용자 세션 정보
+     */
+    public void saved(String sessionId, UserSession userSession) {
+        UserSession copy = UserSession.copyOf(userSession);
+        sessions.put(sessionId, copy);
+        addPending(new PendingSession(sequence.incrementAndGet(), sessionId, copy));
+    }
+
+    /**
+     * 장애 중 세션 삭제
+     * @param sessionId 세션 ID
+     */
+    public void deleted(String sessionId) {
+        sessions.invalidate(sessionId);
+        addPending(new PendingSession(sequence.incrementAndGet(), sessionId, null));
+    }
+
+    /**
+     * 장애 중 사용자 전체 세션 삭제
+     * - 아직 반영하지 않은 이 사용자의 세션 저장은 취소한다. (사용자 전체 삭제가 먼저 반영되므로 되살아나지 않도록)
+     * @param userKey 사용자 고유 키
+     */
+    public void userDeleted(Long userKey) {
+        sessions.asMap().entrySet().removeIf(entry -> userKey.equals(entry.getValue().getUserKey()));
+        pendingSessions.values().removeIf(pending -> pending.isSave() && userKey.equals(pending.getUserSession().getUserKey()));
+        pendingUserDeletes.add(userKey);
+    }
+
+    /**
+     * 로컬 세션 사본 중 사용자 세션 ID 목록
+     * @param userKey 사용자 고유 키
+     * @return 세션 ID 목록
+     */
+    public Set<String> findSessionIds(Long userKey) {
+        Set<String> sessionIds = new HashSet<>();
+        for (Map.Entry<String, UserSession> entry : sessions.asMap().entrySet()) {
+            if (userKey.equals(entry.getValue().getUserKey())) {
+                sessionIds.add(entry.getKey());
+            }
+        }
+        return sessionIds;
+    }
+
+    /**
+     * @return 반영 대기 중인 세션 (발생 순서)
+     */
+    public List<PendingSession> pendingSessions() {
+        List<PendingSession> pending = new ArrayList<>(pendingSessions.values());
+        pending.sort(Comparator.comparingLong(PendingSession::getSequence));
+        return pending;
+    }
+
+    /**
+     * @return 반영 대기 중인 사용자 전체 세션 삭제
+     */
+    public Set<Long> pendingUserDeletes() {
+        return Collections.unmodifiableSet(new HashSet<>(pendingUserDeletes));
+    }
+
+    /**
+     * 반영 완료 처리 (그 사이에 다른 작업으로 바뀌었으면 남겨 둔다)
+     * @param pending 반영한 작업
+     * @return 제거 여부
+     */
+    public boolean completePending(PendingSession pending) {
+        return pendingSessions.remove(pending.getSessionId(), pending);
+    }
+
+    /**
+     * 사용자 전체 세션 삭제 반영 완료 처리
+     * @param userKey 사용자 고유 키
+     */
+    public void completeUserDelete(Long userKey) {
+        pendingUserDeletes.remove(userKey);
+    }
+
+    public boolean hasPending() {
+        return !pendingSessions.isEmpty() || !pendingUserDeletes.isEmpty();
+    }
+
+    private void addPending(PendingSession pending) {
+        if (pendingSessions.size() >= maxPending && !pendingSessions.containsKey(pending.getSessionId())) {
+            log.warn("세션 반영 대기 목록 초과, Redis에 반영되지 않음: sessionId={}, save={}", pending.getSessionId(), pending.isSave());
+            return;
+        }
+        pendingSessions.put(pending.getSessionId(), pending);
+    }
+
+    /**
+     * 반영 대기 중인 세션 작업 (동일성으로 비교하여 반영 중 바뀐 작업을 구분한다)
+     */
+    @Getter
+    public static class PendingSession {
+
+        private final long sequence;            // 발생 순번
+        private final String sessionId;         // 세션 ID
+        private final UserSession userSession;  // 저장할 세션 정보, 삭제면 null
+
+        PendingSession(long sequence, String sessionId, UserSession userSession) {
+            this.sequence = sequence;
+            this.sessionId = sessionId;
+            this.userSession = userSession;
+        }
+
+        public boolean isSave() {
+            return userSession != null;
+        }
+
+    }
+
+}
@@ -0,0 +1,150 @@
+package com.study.domain.session;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 세션 근거리(Near) 캐시
+ * - 같은 세션을 짧은 시간 안에 반복 조회할 때 Redis 왕복 없이 로컬에서 응답한다.
+ * - 세션이 변경/삭제되면 Redis pub/sub으로 다른 노드의 로컬 캐시를 무효화한다.
+ * - 로컬 캐시에서 응답한 조회는 Redis TTL을 연장하지 않으므로 TTL은 세션 타임아웃보다 충분히 짧게 유지한다.
+ * - 무효화 메시지를 받으면 UserSessionFallbackStore의 사본도 삭제한다.
+ * - 세션 저장소 회로가 열려 있으면 무효화 메시지를 보내지 않는다.
+ * - UserSession 은 변경 가능한 객체이므로 저장/조회 시 복사본을 사용한다. (호출 측의 수정이 캐시에 새지 않도록)
+ */
+@Slf4j
+@Component
+public class UserSessionNearCache implements MessageListener {
+
+    static final String INVALIDATION_CHANNEL = "boardpractice:user:session:invalidate";
+
+    private static final char SEPARATOR = '|';
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final SessionStoreCircuitBreaker circuitBreaker;
+
+    private final UserSessionFallbackStore fallbackStore;
+
+    private final boolean enabled;
+
+    private final Cache<String, UserSession> cache;
+
+    // 자신이 보낸 무효화 메시지를 구분하기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public UserSessionNearCache(RedisTemplate<String, Object> redisTemplate,
+                                @Qualifier("redisMessageListenerContainer") RedisMessageListenerContainer listenerContainer,
+                                SessionStoreCircuitBreaker circuitBreaker,
+                                UserSessionFallbackStore fallbackStore,
+                                @Value("${board.session.near-cache.enabled:true}") boolean enabled,
+                                @Value("${board.session.near-cache.max-size:10000}") long maxSize,
+                                @Value("${board.session.near-cache.ttl-seconds:5}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.circuitBreaker = circuitBreaker;
+        this.fallbackStore = fallbackStore;
+        this.enabled = enabled;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 로컬 캐시 조회
+     * @param sessionId 세션 ID
+     * @return 사용자 세션 정보의 복사본, 없으면 null
+     */
+    public UserSession get(String sessionId) {
+        return enabled ? UserSession.copyOf(cache.getIfPresent(sessionId)) : null;
+    }
+
+    /**
+     * Redis에서 읽은 세션을 로컬 캐시에 저장
+     * @param sessionId 세션 ID
+     * @param userSession 사용자 세션 정보
+     */
+    public void put(String sessionId, UserSession userSession) {
+        if (enabled && userSession != null) {
+            cache.put(sessionId, UserSession.copyOf(userSession));
+        }
+    }
+
+    /**
+     * 변경된 세션을 로컬 캐시에 저장하고 다른 노드의 캐시를 무효화
+     * @param sessionId 세션 ID
+     * @param userSession 사용자 세션 정보
+     */
+    public void update(String sessionId, UserSession userSession) {
+        if (enabled && userSession != null) {
+            cache.put(sessionId, UserSession.copyOf(userSession));
+        }
+        publish(sessionId);
+    }
+
+    /**
+     * 로컬 캐시 및 다른 노드의 캐시 무효화
+     * @param sessionId 세션 ID
+     */
+    public void invalidate(String sessionId) {
+        if (enabled) {
+            cache.invalidate(sessionId);
+        }
+        publish(sessionId);
+    }
+
+    /**
+     * 다른 노드에서 보낸 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (!(body instanceof String)) {
+            return;
+        }
+
+        String payload = (String) body;
+        int separatorIndex = payload.indexOf(SEPARATOR);
+        if (separatorIndex < 0 || nodeId.equals(payload.substring(0, separatorIndex))) {
+            return;
+        }
+
+        String sessionId = payload.substring(separatorIndex + 1);
+        cache.invalidate(sessionId);
+        fallbackStore.remove(sessionId);
+        log.debug("세션 캐시 무효화 수신: sessionId={}", sessionId);
+    }
+
+    private void publish(String sessionId) {
+        if (!circuitBreaker.isClosed()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + SEPARATOR + sessionId);
+        } catch (Exception e) {
+            log.error("세션 캐시 무효화 발행 실패: sessionId={}", sessionId, e);
+        }
+    }
+
+}
@@ -0,0 +1,282 @@
+package com.study.domain.session;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * UserSession 전용 바이너리 직렬화
+ * - UserSession은 압축된 바이너리 형식으로, 그 밖의 값은 위임 직렬화(JSON)로 저장한다.
+ * - 첫 바이트가 MAGIC이 아니면 기존 JSON 값으로 보고 위임 직렬화로 읽으므로 저장된 세션을 그대로 읽을 수 있다.
+ * - writeBinary=false 이면 읽기만 지원하고 JSON으로 저장한다. (모든 노드 배포 후 활성화)
+ *
+ * 형식 (버전 1)
+ * <pre>
+ * [MAGIC 1][VERSION 1][FLAGS 1][lastAccessedAt 8][createdAt 8][userKey varint]?
+ * [username][roles][ipAddress][userAgent][metadata]
+ * </pre>
+ * - 시간: UTC 기준 epoch millis (big-endian), null은 Long.MIN_VALUE
+ * - lastAccessedAt은 고정 위치(3번 바이트부터 8바이트)에 두어 redis/session_touch.lua에서 직접 갱신한다.
+ * - userKey: FLAGS의 FLAG_USER_KEY가 있을 때만 varint로 저장
+ *   - session_touch.lua는 숫자를 double로 다루므로 0 ~ 2^53 범위만 바이너리로 저장하고,
+ *     음수이거나 더 큰 userKey의 세션은 JSON으로 저장한다. (스크립트는 JSON에서 문자열 그대로 읽는다)
+ * - 문자열: varint(길이 + 1) + UTF-8, null은 0
+ * - 권한: varint(개수 + 1) 후 권한마다 varint(ROLES 번호), 목록에 없는 권한은 0 + 문자열
+ */
+public class UserSessionSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xB5;
+
+    static final byte VERSION = 1;
+
+    private static final int FLAG_USER_KEY = 1;
+
+    private static final long NULL_TIME = Long.MIN_VALUE;
+
+    // session_touch.lua에서 정확히 읽을 수 있는 최대 userKey (double의 정수 정밀도)
+    static final long MAX_BINARY_USER_KEY = 1L << 53;
+
+    // 권한 번호는 저장된 값과 호환되어야 하므로 뒤에 추가만 한다. (0은 목록에 없는 권한)
+    private static final String[] ROLES = {null, "USER", "ADMIN"};
+
+    private static final Map<String, Integer> ROLE_IDS = new HashMap<>();
+
+    static {
+        for (int i = 1; i < ROLES.length; i++) {
+            ROLE_IDS.put(ROLES[i], i);
+        }
+    }
+
+    private final RedisSerializer<Object> delegate;
+
+    private final boolean writeBinary;
+
+    public UserSessionSerializer(RedisSerializer<Object> delegate, boolean writeBinary) {
+        this.delegate = delegate;
+        this.writeBinary = writeBinary;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (writeBinary && value instanceof UserSession && isBinaryUserKey(((UserSession) value).getUserKey())) {
+            return write((UserSession) value);
+        }
+        return delegate.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes != null && bytes.length > 0 && bytes[0] == MAGIC) {
+            return read(bytes);
+        }
+        return delegate.deserialize(bytes);
+    }
+
+    private static boolean isBinaryUserKey(Long userKey) {
+        return userKey == null || (userKey >= 0 && userKey <= MAX_BINARY_USER_KEY);
+    }
+
+    private byte[] write(UserSession session) {
+        Output out = new Output();
+        out.write(MAGIC);
+        out.write(VERSION);
+        out.write(session.getUserKey() != null ? FLAG_USER_KEY : 0);
+        out.writeLong(toEpochMilli(session.getLastAccessedAt()));
+        out.writeLong(toEpochMilli(session.getCreatedAt()));
+        if (session.getUserKey() != null) {
+            out.writeVarLong(session.getUserKey());
+        }
+        out.writeString(session.getUsername());
+        writeRoles(out, session.getRoles());
+        out.writeString(session.getIpAddress());
+        out.writeString(session.getUserAgent());
+        out.writeString(session.getMetadata());
+        return out.toByteArray();
+    }
+
+    private UserSession read(byte[] bytes) {
+        Input in = new Input(bytes);
+        in.skip(1);
+        int version = in.read();
+        if (version != VERSION) {
+            throw new SerializationException("지원하지 않는 세션 형식입니다. version=" + version);
+        }
+
+        try {
+            int flags = in.read();
+            UserSession session = new UserSession();
+            session.setLastAccessedAt(toLocalDateTime(in.readLong()));
+            session.setCreatedAt(toLocalDateTime(in.readLong()));
+            if ((flags & FLAG_USER_KEY) != 0) {
+                session.setUserKey(in.readVarLong());
+            }
+            session.setUsername(in.readString());
+            session.setRoles(readRoles(in));
+            session.setIpAddress(in.readString());
+            session.setUserAgent(in.readString());
+            session.setMetadata(in.readString());
+            return session;
+        } catch (IndexOutOfBoundsException e) {
+            throw new SerializationException("세션 값이 손상되었습니다.", e);
+        }
+    }
+
+    private static void writeRoles(Output out, String[] roles) {
+        if (roles == null) {
+            out.writeVarLong(0);
+            return;
+        }
+        out.writeVarLong(roles.length + 1L);
+        for (String role : roles) {
+            Integer id = ROLE_IDS.get(role);
+            if (id != null) {
+                out.writeVarLong(id);
+            } else {
+                out.writeVarLong(0);
+                out.writeString(role);
+            }
+        }
+    }
+
+    private static String[] readRoles(Input in) {
+        int size = (int) in.readVarLong() - 1;
+        if (size < 0) {
+            return null;
+        }
+        String[] roles = new String[size];
+        for (int i = 0; i < size; i++) {
+            int id = (int) in.readVarLong();
+            if (id == 0) {
+                roles[i] = in.readString();
+            } else if (id < ROLES.length) {
+                roles[i] = ROLES[id];
+            } else {
+                throw new SerializationException("알 수 없는 권한 번호입니다. id=" + id);
+            }
+        }
+        return roles;
+    }
+
+    /**
+     * 세션 시간 값을 저장 형식(epoch millis)으로 변환
+     * @param time 시간, null 허용
+     * @return epoch millis, null이면 Long.MIN_VALUE
+     */
+    static long toEpochMilli(LocalDateTime time) {
+        return time == null ? NULL_TIME : time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMilli) {
+        return epochMilli == NULL_TIME ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneOffset.UTC);
+    }
+
+    /**
+     * 크기 확인 후 확장하는 출력 버퍼 (ByteArrayOutputStream의 동기화 비용 회피)
+     */
+    private static final class Output {
+
+        private byte[] buffer = new byte[128];
+
+        private int position;
+
+        void write(int b) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) b;
+        }
+
+        void writeLong(long value) {
+            ensureCapacity(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[position++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length + 1L);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensureCapacity(int size) {
+            if (position + size > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + size));
+            }
+        }
+    }
+
+    private static final class Input {
+
+        private final byte[] bytes;
+
+        private int position;
+
+        Input(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        void skip(int size) {
+            position += size;
+        }
+
+        int read() {
+            return bytes[position++] & 0xFF;
+        }
+
+        long readLong() {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (bytes[position++] & 0xFF);
+            }
+            return value;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new SerializationException("잘못된 varint 값입니다.");
+        }
+
+        String readString() {
+            int length = (int) readVarLong() - 1;
+            if (length < 0) {
+                return null;
+            }
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+
+}
@@ -1,29 +1,104 @@
 package com.study.domain.session;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PreDestroy;
+
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
  * 사용자 세션 관리 서비스
  * Redis를 사용한 세션 저장 및 조회
+ * - 사용자별 세션 ID 목록을 Set으로 함께 관리하여 KEYS 없이 사용자 세션을 조회/삭제한다.
+ * - 만료된 세션 ID는 사용자 세션 목록 조회 시 정리된다.
+ * - 반복 조회는 UserSessionNearCache에서 Redis 왕복 없이 응답한다.
+ * - 조회/연장은 Lua 스크립트(redis/session_touch.lua)로 1회 왕복에 처리한다.
+ * - 조회 시 TTL은 세션 시간의 일정 비율(refresh-ratio)이 지난 경우에만 연장하고,
+ *   그 사이의 마지막 접근 시간은 모아 두었다가 주기적으로 한 번에 저장한다.
+ * - 복제본이 설정되면 세션 조회/존재 확인은 복제본에서 읽고, 연장이 필요할 때만 마스터에 쓴다.
+ * - Redis 연결 실패/시간 초과가 이어지면 회로를 열고 UserSessionFallbackStore로 처리하며,
+ *   복구 후 장애 중 저장/삭제한 세션을 Redis에 반영한다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class UserSessionService {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, Object> replicaRedisTemplate;
+    private final UserSessionNearCache userSessionNearCache;
+    private final UserSessionFallbackStore fallbackStore;
+    private final SessionStoreCircuitBreaker circuitBreaker;
+
+    // 복제본 읽기 사용 여부 (복제본에 없으면 복제 지연일 수 있으므로 마스터에서 다시 확인)
+    private final boolean replicaReads;
+
+    // 반영 대기 중인 마지막 접근 시간 (세션 ID별 최신 값)
+    private final Map<String, LocalDateTime> pendingTouches = new ConcurrentHashMap<>();
+
+    @Value("${board.session.touch.refresh-ratio:0.25}")
+    private double refreshRatio;
+
+    @Value("${board.session.touch.batch-size:500}")
+    private int touchBatchSize;
 
     private static final String SESSION_PREFIX = "boardpractice:user:session:";
+    private static final String USER_SESSIONS_PREFIX = "boardpractice:user:sessions:";
     private static final long SESSION_TIMEOUT = 1800; // 30분 (초 단위)
 
+    // 세션 조회 + TTL 연장 + 마지막 접근 시간 저장 ({세션 값, 갱신 여부} 반환)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> GET_AND_TOUCH_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/session_touch.lua"), List.class);
+
+    // 세션 TTL 연장 (연장 여부 반환)
+    private static final RedisScript<Long> EXTEND_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/session_touch.lua"), Long.class);
+
+    private static final RedisSerializer<Long> LONG_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+    public UserSessionService(RedisTemplate<String, Object> redisTemplate,
+                              @Qualifier("replicaRedisTemplate") RedisTemplate<String, Object> replicaRedisTemplate,
+                              UserSessionNearCache userSessionNearCache,
+                              UserSessionFallbackStore fallbackStore,
+                              SessionStoreCircuitBreaker circuitBreaker,
+                              @Value("${board.redis.replicas:}") String replicas) {
+        this.redisTemplate = redisTemplate;
+        this.replicaRedisTemplate = replicaRedisTemplate;
+        this.userSessionNearCache = userSessionNearCache;
+        this.fallbackStore = fallbackStore;
+        this.circuitBreaker = circuitBreaker;
+        this.replicaReads = !replicas.trim().isEmpty();
+    }
+
     /**
      * 세션 키 생성
      * @param sessionId 세션 ID
@@ -33,20 +108,39 @@ public class UserSessionService {
         return SESSION_PREFIX + sessionId;
     }
 
+    /**
+     * 사용자별 세션 목록 키 생성
+     * @param userKey 사용자 고유 키
+     * @return Redis 키
+     */
+    private String getUserSessionsKey(Long userKey) {
+        return USER_SESSIONS_PREFIX + userKey;
+    }
+
     /**
      * 사용자 세션 저장
      * @param sessionId 세션 ID
      * @param userSession 사용자 세션 정보
      */
     public void saveSession(String sessionId, UserSession userSession) {
-        try {
-            String key = getSessionKey(sessionId);
-            userSession.setLastAccessedAt(LocalDateTime.now());
+        userSession.setLastAccessedAt(LocalDateTime.now());
+        if (!circuitBreaker.allowRequest()) {
+            saveToFallback(sessionId, userSession);
+            return;
+        }
 
-            redisTemplate.opsForValue().set(key, userSession, SESSION_TIMEOUT, TimeUnit.SECONDS);
+        try {
+            saveToRedis(sessionId, userSession);
+            circuitBreaker.recordSuccess();
+            fallbackStore.put(sessionId, userSession);
+            userSessionNearCache.update(sessionId, userSession);
 
             log.debug("세션 저장 완료: sessionId={}, userKey={}", sessionId, userSession.getUserKey());
         } catch (Exception e) {
+            if (handleRedisError(e)) {
+                saveToFallback(sessionId, userSession);
+                return;
+            }
             log.error("세션 저장 실패: sessionId={}", sessionId, e);
             throw new RuntimeException("세션 저장 중 오류가 발생했습니다.", e);
         }
@@ -58,54 +152,149 @@ public class UserSessionService {
      * @return 사용자 세션 정보
      */
     public Optional<UserSession> getSession(String sessionId) {
-        try {
-            String key = getSessionKey(sessionId);
-            Object value = redisTemplate.opsForValue().get(key);
-
-            if (value instanceof UserSession) {
-                UserSession session = (UserSession) value;
-                // 마지막 접근 시간 갱신
-                session.setLastAccessedAt(LocalDateTime.now());
-                redisTemplate.expire(key, SESSION_TIMEOUT, TimeUnit.SECONDS);
+        LocalDateTime now = LocalDateTime.now();
+        UserSession cached = userSessionNearCache.get(sessionId);
+        if (cached != null) {
+            cached.setLastAccessedAt(now);
+            pendingTouches.put(sessionId, now);
+            log.debug("세션 조회 완료 (near cache): sessionId={}, userKey={}", sessionId, cached.getUserKey());
+            return Optional.of(cached);
+        }
+        if (!circuitBreaker.allowRequest()) {
+            return getFromFallback(sessionId, now);
+        }
 
-                log.debug("세션 조회 완료: sessionId={}, userKey={}", sessionId, session.getUserKey());
-                return Optional.of(session);
+        try {
+            Optional<UserSession> session = getFromRedis(sessionId, now);
+            circuitBreaker.recordSuccess();
+            if (session.isPresent()) {
+                fallbackStore.put(sessionId, session.get());
+                userSessionNearCache.put(sessionId, session.get());
+                log.debug("세션 조회 완료: sessionId={}, userKey={}", sessionId, session.get().getUserKey());
+            } else {
+                fallbackStore.remove(sessionId);
+                log.debug("세션 없음: sessionId={}", sessionId);
             }
-
-            log.debug("세션 없음: sessionId={}", sessionId);
-            return Optional.empty();
+            return session;
         } catch (Exception e) {
+            if (handleRedisError(e)) {
+                return getFromFallback(sessionId, now);
+            }
             log.error("세션 조회 실패: sessionId={}", sessionId, e);
             return Optional.empty();
         }
     }
 
+    /**
+     * Redis에서 세션 조회 및 필요 시 TTL 연장
+     * @param sessionId 세션 ID
+     * @param now 접근 시간
+     * @return 사용자 세션 정보
+     */
+    private Optional<UserSession> getFromRedis(String sessionId, LocalDateTime now) {
+        if (replicaReads) {
+            UserSession session = readFromReplica(sessionId);
+            if (session != null) {
+                session.setLastAccessedAt(now);
+                pendingTouches.put(sessionId, now);
+                return Optional.of(session);
+            }
+        }
+
+        // 복제본에 없거나 연장이 필요하면 마스터에서 조회 및 연장
+        List<?> result = redisTemplate.execute(GET_AND_TOUCH_SCRIPT,
+                redisTemplate.getStringSerializer(), valueSerializer(),
+                Collections.singletonList(getSessionKey(sessionId)),
+                String.valueOf(SESSION_TIMEOUT), USER_SESSIONS_PREFIX,
+                DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(now),
+                String.valueOf(UserSessionSerializer.toEpochMilli(now)),
+                String.valueOf(refreshThresholdSeconds()));
+
+        if (result != null && result.get(0) instanceof UserSession) {
+            UserSession session = (UserSession) result.get(0);
+            if (Long.valueOf(1).equals(result.get(1))) {
+                pendingTouches.remove(sessionId);
+            } else {
+                // TTL 연장 시점이 아니면 마지막 접근 시간만 모아 두었다가 저장
+                session.setLastAccessedAt(now);
+                pendingTouches.put(sessionId, now);
+            }
+            return Optional.of(session);
+        }
+        return Optional.empty();
+    }
+
     /**
      * 사용자 세션 삭제
      * @param sessionId 세션 ID
      */
     public void deleteSession(String sessionId) {
+        userSessionNearCache.invalidate(sessionId);
+        pendingTouches.remove(sessionId);
+        if (!circuitBreaker.allowRequest()) {
+            fallbackStore.deleted(sessionId);
+            return;
+        }
+
         try {
-            String key = getSessionKey(sessionId);
-            redisTemplate.delete(key);
+            deleteFromRedis(sessionId);
+            circuitBreaker.recordSuccess();
+            fallbackStore.remove(sessionId);
             log.debug("세션 삭제 완료: sessionId={}", sessionId);
         } catch (Exception e) {
+            if (handleRedisError(e)) {
+                fallbackStore.deleted(sessionId);
+                return;
+            }
             log.error("세션 삭제 실패: sessionId={}", sessionId, e);
         }
     }
 
     /**
      * 사용자의 모든 세션 조회
+     * - 사용자 세션 목록에 남아 있는 만료된 세션 ID는 함께 정리한다.
      * @param userKey 사용자 고유 키
      * @return 세션 ID 목록
      */
     public Set<String> getUserSessions(Long userKey) {
+        if (!circuitBreaker.allowRequest()) {
+            return fallbackStore.findSessionIds(userKey);
+        }
+
         try {
-            String pattern = SESSION_PREFIX + "*";
-            return redisTemplate.keys(pattern);
+            String userSessionsKey = getUserSessionsKey(userKey);
+            Set<Object> members = redisTemplate.opsForSet().members(userSessionsKey);
+            if (members == null || members.isEmpty()) {
+                circuitBreaker.recordSuccess();
+                return Collections.emptySet();
+            }
+
+            List<String> sessionIds = new ArrayList<>(members.size());
+            for (Object member : members) {
+                sessionIds.add((String) member);
+            }
+
+            Set<String> liveSessionIds = new LinkedHashSet<>();
+            List<Object> expiredSessionIds = new ArrayList<>();
+            for (Map.Entry<String, Boolean> entry : existsInRedis(sessionIds).entrySet()) {
+                if (entry.getValue()) {
+                    liveSessionIds.add(entry.getKey());
+                } else {
+                    expiredSessionIds.add(entry.getKey());
+                }
+            }
+            if (!expiredSessionIds.isEmpty()) {
+                redisTemplate.opsForSet().remove(userSessionsKey, expiredSessionIds.toArray());
+                log.debug("만료된 세션 정리: userKey={}, count={}", userKey, expiredSessionIds.size());
+            }
+            circuitBreaker.recordSuccess();
+            return liveSessionIds;
         } catch (Exception e) {
+            if (handleRedisError(e)) {
+                return fallbackStore.findSessionIds(userKey);
+            }
             log.error("사용자 세션 목록 조회 실패: userKey={}", userKey, e);
-            return Set.of();
+            return Collections.emptySet();
         }
     }
 
@@ -114,13 +303,27 @@ public class UserSessionService {
      * @param userKey 사용자 고유 키
      */
     public void deleteAllUserSessions(Long userKey) {
+        for (String sessionId : fallbackStore.findSessionIds(userKey)) {
+            userSessionNearCache.invalidate(sessionId);
+            pendingTouches.remove(sessionId);
+        }
+        if (!circuitBreaker.allowRequest()) {
+            fallbackStore.userDeleted(userKey);
+            return;
+        }
+
         try {
-            Set<String> keys = getUserSessions(userKey);
-            if (!keys.isEmpty()) {
-                redisTemplate.delete(keys);
-                log.debug("사용자 모든 세션 삭제 완료: userKey={}, count={}", userKey, keys.size());
+            for (String sessionId : deleteAllFromRedis(userKey)) {
+                userSessionNearCache.invalidate(sessionId);
+                pendingTouches.remove(sessionId);
+                fallbackStore.remove(sessionId);
             }
+            circuitBreaker.recordSuccess();
         } catch (Exception e) {
+            if (handleRedisError(e)) {
+                fallbackStore.userDeleted(userKey);
+                return;
+            }
             log.error("사용자 세션 전체 삭제 실패: userKey={}", userKey, e);
         }
     }
@@ -130,11 +333,24 @@ public class UserSessionService {
      * @param sessionId 세션 ID
      */
     public void extendSession(String sessionId) {
+        if (!circuitBreaker.allowRequest()) {
+            log.debug("세션 저장소 장애로 연장 생략: sessionId={}", sessionId);
+            return;
+        }
+
         try {
-            String key = getSessionKey(sessionId);
-            redisTemplate.expire(key, SESSION_TIMEOUT, TimeUnit.SECONDS);
+            Long extended = redisTemplate.execute(EXTEND_SCRIPT,
+                    redisTemplate.getStringSerializer(), LONG_SERIALIZER,
+                    Collections.singletonList(getSessionKey(sessionId)),
+                    String.valueOf(SESSION_TIMEOUT), USER_SESSIONS_PREFIX, "", "");
+            circuitBreaker.recordSuccess();
+            if (extended == null) {
+                log.debug("세션 없음: sessionId={}", sessionId);
+                return;
+            }
             log.debug("세션 연장 완료: sessionId={}", sessionId);
         } catch (Exception e) {
+            handleRedisError(e);
             log.error("세션 연장 실패: sessionId={}", sessionId, e);
         }
     }
@@ -145,13 +361,384 @@ public class UserSessionService {
      * @return 세션 존재 여부
      */
     public boolean existsSession(String sessionId) {
+        if (!circuitBreaker.allowRequest()) {
+            return fallbackStore.get(sessionId) != null;
+        }
+
         try {
             String key = getSessionKey(sessionId);
-            Boolean exists = redisTemplate.hasKey(key);
-            return exists != null && exists;
+            boolean exists = replicaReads && Boolean.TRUE.equals(replicaRedisTemplate.hasKey(key))
+                    || Boolean.TRUE.equals(redisTemplate.hasKey(key));
+            circuitBreaker.recordSuccess();
+            return exists;
         } catch (Exception e) {
+            if (handleRedisError(e)) {
+                return fallbackStore.get(sessionId) != null;
+            }
             log.error("세션 존재 확인 실패: sessionId={}", sessionId, e);
             return false;
         }
     }
+
+    /**
+     * 여러 세션의 존재 여부 확인 (파이프라인, 1회 왕복)
+     * @param sessionIds 세션 ID 목록
+     * @return 세션 ID별 존재 여부
+     */
+    public Map<String, Boolean> existsSessions(Collection<String> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+        if (!circuitBreaker.allowRequest()) {
+            return existsInFallback(sessionIds);
+        }
+
+        try {
+            Map<String, Boolean> result = existsInRedis(sessionIds);
+            circuitBreaker.recordSuccess();
+            return result;
+        } catch (Exception e) {
+            if (handleRedisError(e)) {
+                return existsInFallback(sessionIds);
+            }
+            log.error("세션 일괄 존재 확인 실패: count={}", sessionIds.size(), e);
+            Map<String, Boolean> result = new LinkedHashMap<>();
+            for (String sessionId : sessionIds) {
+                result.put(sessionId, false);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 여러 세션의 타임아웃 연장 (파이프라인, 1회 왕복)
+     * @param sessionIds 세션 ID 목록
+     * @return 연장된 세션 수
+     */
+    public int extendSessions(Collection<String> sessionIds) {
+        if (sessionIds.isEmpty() || !circuitBreaker.allowRequest()) {
+            return 0;
+        }
+
+        try {
+            Map<String, LocalDateTime> touches = new LinkedHashMap<>();
+            for (String sessionId : sessionIds) {
+                touches.put(sessionId, null);
+            }
+            List<Object> results = touchPipelined(touches);
+
+            int extended = 0;
+            for (Object result : results) {
+                if (result != null) {
+                    extended++;
+                }
+            }
+            circuitBreaker.recordSuccess();
+            log.debug("세션 일괄 연장 완료: requested={}, extended={}", sessionIds.size(), extended);
+            return extended;
+        } catch (Exception e) {
+            handleRedisError(e);
+            log.error("세션 일괄 연장 실패: count={}", sessionIds.size(), e);
+            return 0;
+        }
+    }
+
+    /**
+     * 모아 둔 마지막 접근 시간을 일괄 저장
+     * - TTL은 조회와 같은 기준(refresh-ratio)이 지난 세션만 연장하고, 나머지는 남은 TTL을 유지한다.
+     * - 저장에 성공한 값만 제거하므로, 그 사이에 갱신된 접근 시간은 다음 주기에 저장된다.
+     */
+    @Scheduled(fixedDelayString = "${board.session.touch.flush-interval-ms:60000}")
+    public synchronized void flushTouches() {
+        // 장애 중에는 모아 두었다가 복구 후 저장
+        if (pendingTouches.isEmpty() || !circuitBreaker.isClosed()) {
+            return;
+        }
+
+        List<Map.Entry<String, LocalDateTime>> touches = new ArrayList<>(pendingTouches.size());
+        for (Map.Entry<String, LocalDateTime> entry : pendingTouches.entrySet()) {
+            touches.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), entry.getValue()));
+        }
+
+        int flushed = 0;
+        for (int from = 0; from < touches.size(); from += touchBatchSize) {
+            Map<String, LocalDateTime> batch = new LinkedHashMap<>();
+            for (Map.Entry<String, LocalDateTime> touch : touches.subList(from, Math.min(from + touchBatchSize, touches.size()))) {
+                batch.put(touch.getKey(), touch.getValue());
+            }
+            try {
+                touchPipelined(batch);
+                circuitBreaker.recordSuccess();
+            } catch (Exception e) {
+                log.error("세션 접근 시간 저장 실패: size={}", batch.size(), e);
+                if (handleRedisError(e)) {
+                    break;
+                }
+                continue;
+            }
+            for (Map.Entry<String, LocalDateTime> touch : batch.entrySet()) {
+                pendingTouches.remove(touch.getKey(), touch.getValue());
+            }
+            flushed += batch.size();
+        }
+        log.debug("세션 접근 시간 저장 완료: sessions={}", flushed);
+    }
+
+    @PreDestroy
+    public void flushTouchesOnShutdown() {
+        flushTouches();
+    }
+
+    /**
+     * 장애 중 저장/삭제한 세션을 Redis에 반영
+     * - 회로가 열려 있으면 Redis 복구 여부를 먼저 확인한다.
+     * - 사용자 전체 삭제를 먼저 반영하여, 그 뒤에 생성된 세션이 함께 지워지지 않게 한다.
+     * - 세션 저장/삭제는 발생 순서대로 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${board.session.fallback.reconcile-interval-ms:5000}")
+    public synchronized void reconcile() {
+        if (!fallbackStore.hasPending() || !circuitBreaker.isClosed() && !probe()) {
+            return;
+        }
+
+        int reconciled = 0;
+        try {
+            for (Long userKey : fallbackStore.pendingUserDeletes()) {
+                deleteAllFromRedis(userKey);
+                fallbackStore.completeUserDelete(userKey);
+                reconciled++;
+            }
+            for (UserSessionFallbackStore.PendingSession pending : fallbackStore.pendingSessions()) {
+                if (pending.isSave()) {
+                    saveToRedis(pending.getSessionId(), pending.getUserSession());
+                } else {
+                    deleteFromRedis(pending.getSessionId());
+                }
+                fallbackStore.completePending(pending);
+                reconciled++;
+            }
+            circuitBreaker.recordSuccess();
+        } catch (Exception e) {
+            handleRedisError(e);
+            log.error("장애 중 세션 변경 반영 실패: reconciled={}", reconciled, e);
+            return;
+        }
+        log.info("장애 중 세션 변경 반영 완료: count={}", reconciled);
+    }
+
+    /**
+     * 회로가 열린 상태에서 Redis 복구 여부 확인 (시험 호출)
+     * @return 복구 여부
+     */
+    private boolean probe() {
+        if (!circuitBreaker.allowRequest()) {
+            return false;
+        }
+        try {
+            redisTemplate.execute((RedisCallback<String>) RedisConnection::ping);
+            circuitBreaker.recordSuccess();
+            return true;
+        } catch (Exception e) {
+            handleRedisError(e);
+            return false;
+        }
+    }
+
+    /**
+     * Redis 오류를 회로 차단기에 기록
+     * @param e 예외
+     * @return 연결 실패/시간 초과(장애) 여부
+     */
+    private boolean handleRedisError(Exception e) {
+        if (e instanceof DataAccessResourceFailureException || e instanceof QueryTimeoutException) {
+            circuitBreaker.recordFailure();
+            log.warn("세션 저장소 오류: {}", e.getMessage());
+            return true;
+        }
+        // 장애는 아니지만 성공한 왕복도 아니므로 성공으로 세지 않는다.
+        circuitBreaker.recordIgnored();
+        return false;
+    }
+
+    private void saveToFallback(String sessionId, UserSession userSession) {
+        fallbackStore.saved(sessionId, userSession);
+        userSessionNearCache.update(sessionId, userSession);
+        log.debug("세션 로컬 저장 (Redis 장애): sessionId={}, userKey={}", sessionId, userSession.getUserKey());
+    }
+
+    private Optional<UserSession> getFromFallback(String sessionId, LocalDateTime now) {
+        UserSession session = fallbackStore.get(sessionId);
+        if (session == null) {
+            return Optional.empty();
+        }
+        session.setLastAccessedAt(now);
+        pendingTouches.put(sessionId, now);
+        return Optional.of(session);
+    }
+
+    private Map<String, Boolean> existsInFallback(Collection<String> sessionIds) {
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        for (String sessionId : sessionIds) {
+            result.put(sessionId, fallbackStore.get(sessionId) != null);
+        }
+        return result;
+    }
+
+    /**
+     * 세션과 사용자 세션 목록을 하나의 트랜잭션(MULTI/EXEC)으로 저장
+     */
+    private void saveToRedis(String sessionId, UserSession userSession) {
+        String key = getSessionKey(sessionId);
+        String userSessionsKey = getUserSessionsKey(userSession.getUserKey());
+        redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> List<Object> execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                ops.multi();
+                ops.opsForValue().set(key, userSession, SESSION_TIMEOUT, TimeUnit.SECONDS);
+                ops.opsForSet().add(userSessionsKey, sessionId);
+                ops.expire(userSessionsKey, SESSION_TIMEOUT, TimeUnit.SECONDS);
+                return ops.exec();
+            }
+        });
+    }
+
+    /**
+     * 세션과 사용자 세션 목록의 세션 ID를 하나의 트랜잭션(MULTI/EXEC)으로 삭제
+     */
+    private void deleteFromRedis(String sessionId) {
+        String key = getSessionKey(sessionId);
+        Object value = redisTemplate.opsForValue().get(key);
+        if (!(value instanceof UserSession)) {
+            redisTemplate.delete(key);
+            return;
+        }
+
+        String userSessionsKey = getUserSessionsKey(((UserSession) value).getUserKey());
+        redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> List<Object> execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                ops.multi();
+                ops.delete(key);
+                ops.opsForSet().remove(userSessionsKey, sessionId);
+                return ops.exec();
+            }
+        });
+    }
+
+    /**
+     * 사용자의 세션과 사용자 세션 목록을 한 번에 삭제
+     * @return 삭제한 세션 ID 목록
+     */
+    private Set<String> deleteAllFromRedis(Long userKey) {
+        String userSessionsKey = getUserSessionsKey(userKey);
+        Set<Object> members = redisTemplate.opsForSet().members(userSessionsKey);
+        Set<String> sessionIds = new LinkedHashSet<>();
+        List<String> keys = new ArrayList<>();
+        if (members != null) {
+            for (Object member : members) {
+                sessionIds.add((String) member);
+                keys.add(getSessionKey((String) member));
+            }
+        }
+        keys.add(userSessionsKey);
+
+        Long deleted = redisTemplate.delete(keys);
+        log.debug("사용자 모든 세션 삭제 완료: userKey={}, count={}", userKey, deleted);
+        return sessionIds;
+    }
+
+    /**
+     * 세션 존재 여부를 파이프라인으로 한 번에 확인
+     */
+    private Map<String, Boolean> existsInRedis(Collection<String> sessionIds) {
+        List<String> ids = new ArrayList<>(sessionIds);
+        List<Object> exists = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                for (String sessionId : ids) {
+                    ops.hasKey(getSessionKey(sessionId));
+                }
+                return null;
+            }
+        });
+
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            result.put(ids.get(i), Boolean.TRUE.equals(exists.get(i)));
+        }
+        return result;
+    }
+
+    /**
+     * 여러 세션에 세션 스크립트를 파이프라인으로 실행 (1회 왕복)
+     * @param touches 세션 ID별 마지막 접근 시간, null이면 TTL만 연장
+     * @return 세션별 스크립트 결과
+     */
+    private List<Object> touchPipelined(Map<String, LocalDateTime> touches) {
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        byte[] script = serializer.serialize(EXTEND_SCRIPT.getScriptAsString());
+        byte[] ttl = serializer.serialize(String.valueOf(SESSION_TIMEOUT));
+        byte[] prefix = serializer.serialize(USER_SESSIONS_PREFIX);
+        byte[] noTouch = serializer.serialize("");
+        byte[] threshold = serializer.serialize(String.valueOf(refreshThresholdSeconds()));
+        byte[] keepTtl = serializer.serialize("1");
+
+        // 파이프라인 안에서는 NOSCRIPT 재시도가 불가능하므로 EVALSHA 대신 EVAL 사용
+        return redisTemplate.executePipelined((RedisCallback<Object>) (RedisConnection connection) -> {
+            for (Map.Entry<String, LocalDateTime> touch : touches.entrySet()) {
+                byte[] key = serializer.serialize(getSessionKey(touch.getKey()));
+                LocalDateTime accessedAt = touch.getValue();
+                if (accessedAt == null) {
+                    connection.scriptingCommands().eval(script, ReturnType.INTEGER, 1, key, ttl, prefix, noTouch, noTouch);
+                } else {
+                    connection.scriptingCommands().eval(script, ReturnType.MULTI, 1, key, ttl, prefix,
+                            serializer.serialize(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(accessedAt)),
+                            serializer.serialize(String.valueOf(UserSessionSerializer.toEpochMilli(accessedAt))),
+                            threshold, keepTtl);
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 복제본에서 세션 조회 (값과 남은 TTL을 파이프라인으로 1회 왕복)
+     * @param sessionId 세션 ID
+     * @return TTL 연장이 필요 없는 세션, 없거나 연장이 필요하면 null
+     */
+    private UserSession readFromReplica(String sessionId) {
+        String key = getSessionKey(sessionId);
+        List<Object> result = replicaRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                ops.opsForValue().get(key);
+                ops.getExpire(key);
+                return null;
+            }
+        });
+
+        Object value = result.get(0);
+        Long ttl = (Long) result.get(1);
+        if (!(value instanceof UserSession) || ttl == null || ttl <= SESSION_TIMEOUT - refreshThresholdSeconds()) {
+            return null;
+        }
+        return (UserSession) value;
+    }
+
+    private long refreshThresholdSeconds() {
+        return (long) (SESSION_TIMEOUT * refreshRatio);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> RedisSerializer<T> valueSerializer() {
+        return (RedisSerializer<T>) redisTemplate.getValueSerializer();
+    }
 }
@@ -0,0 +1,45 @@
+package com.study.domain.session;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 세션 통계 (UserSessionAnalytics 집계 결과)
+ */
+@Getter
+@AllArgsConstructor
+public class UserSessionStats {
+
+    /**
+     * 집계한 세션 수
+     */
+    private final long totalSessions;
+
+    /**
+     * 권한별 세션 수
+     */
+    private final Map<String, Long> byRole;
+
+    /**
+     * 브라우저 종류별 세션 수
+     */
+    private final Map<String, Long> byUserAgentFamily;
+
+    /**
+     * IP 대역별 세션 수 (상위 N개)
+     */
+    private final Map<String, Long> byIpPrefix;
+
+    /**
+     * 집계 시각
+     */
+    private final LocalDateTime computedAt;
+
+    /**
+     * 집계 소요 시간 (ms)
+     */
+    private final long elapsedMillis;
+}
@@ -0,0 +1,38 @@
+package com.study.paging;
+
+import com.study.common.dto.SearchDto;
+import lombok.Getter;
+
+/**
+ * 커서(Keyset) 기반 페이지네이션 정보
+ * - OFFSET 없이 id 기준으로 이동하므로 페이지 깊이와 관계없이 조회 비용이 일정하다.
+ */
+@Getter
+public class CursorPagination {
+
+    private int recordSize;         // 페이지당 출력할 데이터 개수
+    private Long firstId;           // 현재 페이지의 첫 게시글 ID (이전 페이지 커서)
+    private Long lastId;            // 현재 페이지의 마지막 게시글 ID (다음 페이지 커서)
+    private boolean existPrevPage;  // 이전 페이지 존재 여부
+    private boolean existNextPage;  // 다음 페이지 존재 여부
+
+    public CursorPagination(Long firstId, Long lastId, boolean hasMore, SearchDto params) {
+        this.recordSize = params.getRecordSize();
+        this.firstId = firstId;
+        this.lastId = lastId;
+
+        if (firstId == null) {
+            // 빈 페이지에는 이동할 커서가 없다. (화면에서는 첫 페이지 링크만 제공)
+            existPrevPage = false;
+            existNextPage = false;
+        } else if (params.isPrevDirection()) {
+            // 이전 방향으로 이동한 경우, 초과 조회된 데이터가 있으면 더 최신 글이 남아 있다.
+            existPrevPage = hasMore;
+            existNextPage = params.getCursorId() != null;
+        } else {
+            existPrevPage = params.getCursorId() != null;
+            existNextPage = hasMore;
+        }
+    }
+
+}
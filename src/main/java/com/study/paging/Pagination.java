@@ -13,18 +13,35 @@ public class Pagination {
     private int limitStart;         // LIMIT 시작 위치
     private boolean existPrevPage;  // 이전 페이지 존재 여부
     private boolean existNextPage;  // 다음 페이지 존재 여부
+    private boolean approximate;    // 전체 데이터 수가 근사치인지 여부
 
     public Pagination(int totalRecordCount, SearchDto params) {
+        this(totalRecordCount, false, params);
+    }
+
+    public Pagination(int totalRecordCount, boolean approximate, SearchDto params) {
+        this.approximate = approximate;
+        if (totalRecordCount > 0) {
+            this.totalRecordCount = totalRecordCount;
+            this.calculation(totalRecordCount, params);
+        }
+    }
+
+    /**
+     * 페이지 이동 범위 제한
+     * - 전체 데이터 수는 그대로 표시하고, 페이지는 pageableRecordCount 건까지만 만든다. (검색 엔진 max-hits)
+     */
+    public Pagination(int totalRecordCount, int pageableRecordCount, SearchDto params) {
         if (totalRecordCount > 0) {
             this.totalRecordCount = totalRecordCount;
-            this.calculation(params);
+            this.calculation(Math.min(totalRecordCount, pageableRecordCount), params);
         }
     }
 
-    private void calculation(SearchDto params) {
+    private void calculation(int pageableRecordCount, SearchDto params) {
 
         // 전체 페이지 수 계산
-        totalPageCount = ((totalRecordCount - 1) / params.getRecordSize()) + 1;
+        totalPageCount = ((pageableRecordCount - 1) / params.getRecordSize()) + 1;
 
         // 현재 페이지 번호가 전체 페이지 수보다 큰 경우, 현재 페이지 번호에 전체 페이지 수 저장
         if (params.getPage() > totalPageCount) {
@@ -49,7 +66,7 @@ public class Pagination {
         existPrevPage = startPage != 1;
 
         // 다음 페이지 존재 여부 확인
-        existNextPage = (endPage * params.getRecordSize()) < totalRecordCount;
+        existNextPage = (endPage * params.getRecordSize()) < pageableRecordCount;
     }
 
 }
@@ -10,10 +10,16 @@ public class PagingResponse<T> {
 
     private List<T> list = new ArrayList<>();
     private Pagination pagination;
+    private CursorPagination cursor;
 
     public PagingResponse(List<T> list, Pagination pagination) {
         this.list = list;
         this.pagination = pagination;
     }
 
+    public PagingResponse(List<T> list, CursorPagination cursor) {
+        this.list = list;
+        this.cursor = cursor;
+    }
+
 }
@@ -8,34 +8,165 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 import com.auth0.jwt.interfaces.Claim;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 
 public class Jwt {
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
   private final String issuer;
 
   private final String clientSecret;
 
   private final int expirySeconds;
 
+  private final int refreshExpirySeconds;
+
   private final Algorithm algorithm;
 
   private final JWTVerifier jwtVerifier;
 
+  // 헤더는 항상 같으므로 인코딩 결과를 재사용한다.
+  private final byte[] headerBytes;
+
+  // 페이로드 앞부분("iss")도 고정값이다.
+  private final String payloadPrefix;
+
   public Jwt(String issuer, String clientSecret, int expirySeconds) {
+    this(issuer, clientSecret, expirySeconds, expirySeconds);
+  }
+
+  public Jwt(String issuer, String clientSecret, int expirySeconds, int refreshExpirySeconds) {
     this.issuer = issuer;
     this.clientSecret = clientSecret;
     this.expirySeconds = expirySeconds;
+    this.refreshExpirySeconds = refreshExpirySeconds;
     this.algorithm = Algorithm.HMAC512(clientSecret);
     this.jwtVerifier = com.auth0.jwt.JWT.require(algorithm)
         .withIssuer(issuer)
         .build();
+    this.headerBytes = ENCODER.encode(
+        ("{\"alg\":\"" + algorithm.getName() + "\",\"typ\":\"JWT\"}").getBytes(StandardCharsets.UTF_8));
+    this.payloadPrefix = appendString(new StringBuilder("{\"iss\":"), issuer).toString();
+  }
+
+  /**
+   * 액세스 토큰 발급
+   * @param claims 토큰 클레임 (userKey, name, roles)
+   * @return 서명된 토큰
+   */
+  public String sign(Claims claims) {
+    long now = System.currentTimeMillis() / 1000;
+    return sign(claims, false, now, now + expirySeconds);
+  }
+
+  /**
+   * 리프레시 토큰 발급 (refresh 클레임 포함, refreshExpirySeconds 유효)
+   * @param claims 토큰 클레임 (userKey, name, roles, sid)
+   * @return 서명된 토큰
+   */
+  public String signRefresh(Claims claims) {
+    long now = System.currentTimeMillis() / 1000;
+    return sign(claims, true, now, now + refreshExpirySeconds);
+  }
+
+  /**
+   * 만료 시각을 지정한 리프레시 토큰 발급 (갱신 시 최초 만료 시각을 유지하여 수명이 늘어나지 않게 한다)
+   * @param claims 토큰 클레임 (userKey, name, roles, sid)
+   * @param expiresAtMillis 만료 시각 (epoch millis)
+   * @return 서명된 토큰
+   */
+  public String signRefresh(Claims claims, long expiresAtMillis) {
+    return sign(claims, true, System.currentTimeMillis() / 1000, expiresAtMillis / 1000);
+  }
+
+  /**
+   * JWTCreator 대신 페이로드 JSON을 직접 만들어 서명한다.
+   * - 매 호출마다 헤더 JSON 직렬화, ObjectMapper 사용, 클레임 Map 생성을 생략한다.
+   * - 서명은 생성자에서 만든 Algorithm 인스턴스를 그대로 사용한다.
+   */
+  private String sign(Claims claims, boolean refresh, long now, long expiresAtSeconds) {
+    StringBuilder payload = new StringBuilder(payloadPrefix.length() + 96).append(payloadPrefix);
+    if (claims.userKey != null) {
+      payload.append(",\"userKey\":").append(claims.userKey.longValue());
+    }
+    if (claims.name != null) {
+      payload.append(",\"name\":");
+      appendString(payload, claims.name);
+    }
+    if (claims.roles != null) {
+      payload.append(",\"roles\":[");
+      for (int i = 0; i < claims.roles.length; i++) {
+        if (i > 0) {
+          payload.append(',');
+        }
+        appendString(payload, claims.roles[i]);
+      }
+      payload.append(']');
+    }
+    if (claims.sessionId != null) {
+      payload.append(",\"sid\":");
+      appendString(payload, claims.sessionId);
+    }
+    if (refresh) {
+      // 같은 초에 갱신해도 토큰이 서로 다르도록 jti를 붙인다.
+      payload.append(",\"refresh\":true,\"jti\":\"").append(UUID.randomUUID()).append('"');
+    }
+    payload.append(",\"iat\":").append(now)
+        .append(",\"exp\":").append(expiresAtSeconds)
+        .append('}');
+
+    byte[] payloadBytes = ENCODER.encode(payload.toString().getBytes(StandardCharsets.UTF_8));
+    byte[] signature = ENCODER.encode(algorithm.sign(headerBytes, payloadBytes));
+
+    byte[] token = new byte[headerBytes.length + payloadBytes.length + signature.length + 2];
+    System.arraycopy(headerBytes, 0, token, 0, headerBytes.length);
+    int position = headerBytes.length;
+    token[position++] = '.';
+    System.arraycopy(payloadBytes, 0, token, position, payloadBytes.length);
+    position += payloadBytes.length;
+    token[position++] = '.';
+    System.arraycopy(signature, 0, token, position, signature.length);
+    return new String(token, StandardCharsets.US_ASCII);
+  }
+
+  private static StringBuilder appendString(StringBuilder out, String value) {
+    if (value == null) {
+      return out.append("null");
+    }
+    out.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        out.append('\\').append(c);
+      } else if (c < 0x20) {
+        out.append(String.format("\\u%04x", (int) c));
+      } else {
+        out.append(c);
+      }
+    }
+    return out.append('"');
   }
 
   public Claims verify(String token) throws JWTVerificationException {
     return new Claims(jwtVerifier.verify(token));
   }
 
+  public String getIssuer() {
+    return issuer;
+  }
+
+  public int getExpirySeconds() {
+    return expirySeconds;
+  }
+
+  public int getRefreshExpirySeconds() {
+    return refreshExpirySeconds;
+  }
+
   @Override
   public String toString() {
     return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
@@ -44,7 +175,11 @@ public class Jwt {
 
   static public class Claims {
     Long userKey;
+    String name;
     String[] roles;
+    boolean refresh;
+    String sessionId;
+    String tokenId;
     Date iat;
     Date exp;
 
@@ -55,9 +190,19 @@ public class Jwt {
       Claim userKey = decodedJWT.getClaim("userKey");
       if (!userKey.isNull())
         this.userKey = userKey.asLong();
+      Claim name = decodedJWT.getClaim("name");
+      if (!name.isNull())
+        this.name = name.asString();
       Claim roles = decodedJWT.getClaim("roles");
       if (!roles.isNull())
         this.roles = roles.asArray(String.class);
+      Claim refresh = decodedJWT.getClaim("refresh");
+      if (!refresh.isNull())
+        this.refresh = refresh.asBoolean();
+      Claim sessionId = decodedJWT.getClaim("sid");
+      if (!sessionId.isNull())
+        this.sessionId = sessionId.asString();
+      this.tokenId = decodedJWT.getId();
       this.iat = decodedJWT.getIssuedAt();
       this.exp = decodedJWT.getExpiresAt();
     }
@@ -65,12 +210,29 @@ public class Jwt {
     public static Claims of(long userKey, String name, String[] roles) {
       Claims claims = new Claims();
       claims.userKey = userKey;
+      claims.name = name;
       claims.roles = roles;
       return claims;
     }
 
+    public static Claims of(long userKey, String name, String[] roles, String sessionId) {
+      Claims claims = of(userKey, name, roles);
+      claims.sessionId = sessionId;
+      return claims;
+    }
+
     public long userKey() { return userKey != null ? userKey : -1;}
 
+    public String name() { return name; }
+
+    public String[] roles() { return roles; }
+
+    public boolean refresh() { return refresh; }
+
+    public String sessionId() { return sessionId; }
+
+    public String tokenId() { return tokenId; }
+
     long iat() {
       return iat != null ? iat.getTime() : -1;
     }
@@ -91,7 +253,11 @@ public class Jwt {
     public String toString() {
       return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
           .append("userKey", userKey)
+          .append("name", name)
           .append("roles", Arrays.toString(roles))
+          .append("refresh", refresh)
+          .append("sessionId", sessionId)
+          .append("tokenId", tokenId)
           .append("iat", iat)
           .append("exp", exp)
           .toString();
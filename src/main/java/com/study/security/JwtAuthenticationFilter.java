@@ -0,0 +1,61 @@
+package com.study.security;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HTTP 요청의 JWT 액세스 토큰 인증
+ * - Authorization 헤더(Bearer 접두사 생략 가능)의 액세스 토큰을 검증하고, roles를 ROLE_ 권한으로 등록한다.
+ * - 토큰이 없거나 유효하지 않으면 인증 없이 다음 필터로 넘긴다. (권한이 필요한 경로는 WebSecurityConfigure에서 거부)
+ * - 리프레시 토큰은 인증에 사용할 수 없다.
+ */
+@Slf4j
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+  private static final String BEARER_PREFIX = "Bearer ";
+
+  private final JwtTokenCache jwtTokenCache;
+
+  public JwtAuthenticationFilter(JwtTokenCache jwtTokenCache) {
+    this.jwtTokenCache = jwtTokenCache;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    String token = request.getHeader("Authorization");
+    if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+      if (token.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+        token = token.substring(BEARER_PREFIX.length()).trim();
+      }
+      try {
+        Jwt.Claims claims = jwtTokenCache.verify(token);
+        if (!claims.refresh()) {
+          List<SimpleGrantedAuthority> authorities = new ArrayList<>();
+          if (claims.roles() != null) {
+            for (String role : claims.roles()) {
+              authorities.add(new SimpleGrantedAuthority("ROLE_" + role));
+            }
+          }
+          SecurityContextHolder.getContext().setAuthentication(
+              new UsernamePasswordAuthenticationToken(claims.userKey(), null, authorities));
+        }
+      } catch (JWTVerificationException e) {
+        log.debug("액세스 토큰 검증 실패: {}", e.getMessage());
+      }
+    }
+    chain.doFilter(request, response);
+  }
+}
@@ -0,0 +1,105 @@
+package com.study.security;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.study.common.dto.GenericResponse;
+import com.study.domain.session.UserSession;
+import com.study.domain.session.UserSessionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * JWT 발급/갱신 API
+ * - 발급: 로그인 세션(UserSession)의 userKey, roles로 액세스/리프레시 토큰 발급
+ * - 갱신: 리프레시 토큰 검증 후 새 토큰 쌍 발급
+ *   - 리프레시 토큰에는 발급 세션 ID(sid)가 들어 있고, 세션이 없으면(로그아웃, 만료) 갱신하지 않는다.
+ *   - 새 리프레시 토큰은 기존 토큰의 만료 시각을 그대로 유지한다. (갱신을 반복해도 수명이 늘어나지 않음)
+ *   - 리프레시 토큰은 한 번만 쓸 수 있다. (사용한 jti는 RefreshTokenRegistry에 만료 시각까지 기록)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/token")
+@RequiredArgsConstructor
+public class JwtController {
+
+  private final Jwt jwt;
+
+  private final UserSessionService userSessionService;
+
+  private final RefreshTokenRegistry refreshTokenRegistry;
+
+  /**
+   * 토큰 발급
+   * @param request HTTP 요청
+   * @return 액세스/리프레시 토큰
+   */
+  @PostMapping("/issue")
+  public GenericResponse<Map<String, Object>> issue(HttpServletRequest request) {
+    HttpSession httpSession = request.getSession(false);
+    if (httpSession == null) {
+      return new GenericResponse<>(null, "세션이 존재하지 않습니다.");
+    }
+
+    Optional<UserSession> userSession = userSessionService.getSession(httpSession.getId());
+    if (!userSession.isPresent() || userSession.get().getUserKey() == null) {
+      return new GenericResponse<>(null, "세션 정보를 찾을 수 없습니다.");
+    }
+
+    UserSession session = userSession.get();
+    Jwt.Claims claims = Jwt.Claims.of(session.getUserKey(), session.getUsername(), session.getRoles(), httpSession.getId());
+    return new GenericResponse<>(tokens(claims, jwt.signRefresh(claims)));
+  }
+
+  /**
+   * 토큰 갱신
+   * @param request 리프레시 토큰
+   * @return 새 액세스/리프레시 토큰
+   */
+  @PostMapping("/refresh")
+  public GenericResponse<Map<String, Object>> refresh(@RequestBody TokenRefreshRequest request) {
+    if (request.getRefreshToken() == null) {
+      return new GenericResponse<>(null, "리프레시 토큰이 필요합니다.");
+    }
+
+    Jwt.Claims claims;
+    try {
+      claims = jwt.verify(request.getRefreshToken());
+    } catch (JWTVerificationException e) {
+      log.debug("리프레시 토큰 검증 실패: {}", e.getMessage());
+      return new GenericResponse<>(null, "유효하지 않은 토큰입니다.");
+    }
+
+    if (!claims.refresh() || claims.sessionId() == null || claims.tokenId() == null || claims.exp() < 0) {
+      return new GenericResponse<>(null, "리프레시 토큰이 아닙니다.");
+    }
+    if (!userSessionService.existsSession(claims.sessionId())) {
+      log.debug("세션이 없는 리프레시 토큰: userKey={}, jti={}", claims.userKey(), claims.tokenId());
+      return new GenericResponse<>(null, "세션이 만료되었습니다. 다시 로그인해 주세요.");
+    }
+
+    if (!refreshTokenRegistry.markUsed(claims.tokenId(), claims.exp())) {
+      log.warn("이미 사용한 리프레시 토큰: userKey={}, jti={}", claims.userKey(), claims.tokenId());
+      return new GenericResponse<>(null, "이미 사용한 리프레시 토큰입니다. 다시 로그인해 주세요.");
+    }
+
+    Jwt.Claims renewed = Jwt.Claims.of(claims.userKey(), claims.name(), claims.roles(), claims.sessionId());
+    return new GenericResponse<>(tokens(renewed, jwt.signRefresh(renewed, claims.exp())));
+  }
+
+  private Map<String, Object> tokens(Jwt.Claims claims, String refreshToken) {
+    Map<String, Object> response = new HashMap<>();
+    response.put("accessToken", jwt.sign(claims));
+    response.put("refreshToken", refreshToken);
+    response.put("expiresIn", jwt.getExpirySeconds());
+    return response;
+  }
+}
@@ -0,0 +1,65 @@
+package com.study.security;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증된 JWT 캐시
+ * - 같은 토큰의 재검증(서명 확인, JSON 해석)을 생략한다. (재배포 후 재접속 폭주 대비)
+ * - 토큰 원문 대신 SHA-256 해시를 키로 사용한다.
+ * - 캐시 수명은 토큰마다 exp까지이다. (노드의 발급 설정과 무관하게, 읽을 때 exp가 지났으면 제거하고 다시 검증한다)
+ * - exp가 없거나 먼 토큰도 max-ttl-seconds 마다 다시 검증한다.
+ */
+@Component
+public class JwtTokenCache {
+
+  private final Jwt jwt;
+
+  private final Cache<String, Jwt.Claims> cache;
+
+  public JwtTokenCache(Jwt jwt,
+                       @Value("${jwt.cache.max-size:100000}") long maxSize,
+                       @Value("${jwt.cache.max-ttl-seconds:3600}") long maxTtlSeconds) {
+    this.jwt = jwt;
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(maxTtlSeconds, TimeUnit.SECONDS)
+        .build();
+  }
+
+  /**
+   * 토큰 검증 (캐시 사용)
+   * @param token JWT
+   * @return 토큰 클레임
+   * @throws JWTVerificationException 검증 실패
+   */
+  public Jwt.Claims verify(String token) throws JWTVerificationException {
+    if (token == null) {
+      return jwt.verify(token);
+    }
+
+    String key = Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
+    Jwt.Claims claims = cache.getIfPresent(key);
+    if (claims != null) {
+      if (claims.exp() < 0 || claims.exp() > System.currentTimeMillis()) {
+        return claims;
+      }
+      cache.invalidate(key);
+    }
+
+    claims = jwt.verify(token);
+    cache.put(key, claims);
+    return claims;
+  }
+
+  public long size() {
+    return cache.size();
+  }
+}
@@ -0,0 +1,43 @@
+package com.study.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 사용한 리프레시 토큰 기록
+ * - 갱신에 사용한 리프레시 토큰의 jti를 토큰 만료 시각까지 Redis에 남겨 같은 토큰으로 다시 갱신하지 못하게 한다.
+ * - 기록은 SET NX로 하므로 같은 토큰으로 동시에 갱신해도 한 요청만 성공한다.
+ * - Redis 오류 시에는 재사용 여부를 알 수 없으므로 갱신을 거부한다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenRegistry {
+
+  private static final String USED_PREFIX = "boardpractice:token:refresh:used:";
+
+  private final RedisTemplate<String, Object> redisTemplate;
+
+  public RefreshTokenRegistry(RedisTemplate<String, Object> redisTemplate) {
+    this.redisTemplate = redisTemplate;
+  }
+
+  /**
+   * 리프레시 토큰 사용 기록
+   * @param tokenId 토큰 jti
+   * @param expiresAtMillis 토큰 만료 시각 (epoch millis), 이 시각까지 기록을 유지한다.
+   * @return 처음 사용이면 true, 이미 사용했거나 기록하지 못했으면 false
+   */
+  public boolean markUsed(String tokenId, long expiresAtMillis) {
+    long ttlMillis = Math.max(1000, expiresAtMillis - System.currentTimeMillis());
+    try {
+      return Boolean.TRUE.equals(
+          redisTemplate.opsForValue().setIfAbsent(USED_PREFIX + tokenId, 1, Duration.ofMillis(ttlMillis)));
+    } catch (Exception e) {
+      log.warn("리프레시 토큰 사용 기록 실패: jti={}", tokenId, e);
+      return false;
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package com.study.security;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 토큰 갱신 요청 (쿼리 문자열/접근 로그에 남지 않도록 본문으로 받는다)
+ */
+@Getter
+@Setter
+public class TokenRefreshRequest {
+
+  private String refreshToken;
+
+}
@@ -1,14 +1,24 @@
 package com.study.security;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.builders.WebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.NullSecurityContextRepository;
 
 @Configuration
 public class WebSecurityConfigure extends WebSecurityConfigurerAdapter {
 
+  private final JwtTokenCache jwtTokenCache;
+
+  public WebSecurityConfigure(JwtTokenCache jwtTokenCache) {
+    this.jwtTokenCache = jwtTokenCache;
+  }
+
   @Override
   public void configure(WebSecurity web) {
     web.ignoring().antMatchers("/swagger-resources", "/webjars/**", "/static/**", "/templates/**", "/h2/**");
@@ -22,15 +32,24 @@ public class WebSecurityConfigure extends WebSecurityConfigurerAdapter {
         .headers()
         .disable()
         .exceptionHandling()
+        // 인증 없이 권한이 필요한 경로에 접근하면 401
+        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
         .and()
         .sessionManagement()
         // Redis 세션을 사용하는 엔드포인트를 위해 IF_REQUIRED로 변경
         // /api/session/** 경로는 세션 사용, 나머지는 JWT 사용
         .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED)
         .and()
+        // JWT 인증은 요청마다 다시 하므로 인증 정보를 HTTP 세션에 저장하지 않는다.
+        .securityContext()
+        .securityContextRepository(new NullSecurityContextRepository())
+        .and()
         .authorizeRequests()
+        // 세션 일괄 확인/연장, 세션 통계는 ADMIN 권한의 액세스 토큰이 필요
+        .antMatchers("/api/session/admin/**").hasRole("ADMIN")
         .anyRequest().permitAll()
         .and()
+        .addFilterBefore(new JwtAuthenticationFilter(jwtTokenCache), UsernamePasswordAuthenticationFilter.class)
         // JWT 인증을 사용하므로 form 로긴은 비활성처리
         .formLogin()
         .disable();
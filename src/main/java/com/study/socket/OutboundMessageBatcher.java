@@ -0,0 +1,312 @@
+package com.study.socket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 채팅 메시지 묶음 전송 (board.chat.batch.enabled=true)
+ * - clientOutboundChannel에서 구독자(세션 + 구독 ID) 및 목적지별로 /topic/chat 메시지를 모아,
+ *   window-ms 동안 모인 메시지를 하나의 MESSAGE 프레임으로 보낸다.
+ * - max-batch-size개가 모이면 기다리지 않고 바로 보낸다.
+ * - 묶음 프레임의 본문은 원래 본문들의 JSON 배열이며, batch-size 헤더에 메시지 수를 담는다.
+ * - JSON 이외의 본문은 묶지 않고 그대로 보낸다.
+ * - 구독자별 묶음 프레임은 앞 프레임 처리가 끝난 뒤에 다음 프레임을 채널에 넣어 순서를 유지한다.
+ *   (outbound 채널은 여러 스레드로 처리하므로, 완료는 afterMessageHandled로 알 수 있고 이 인터셉터가 그 채널에 등록되어 있어야 한다)
+ * - 전송에 실패한(대기열 가득 참 등) 묶음은 버리고 메시지 수를 센다.
+ * - 구독자별로 전송 대기 중인 묶음 프레임은 send-buffer-size-limit 바이트까지만 보관한다.
+ *   (느린 구독자의 대기열이 끝없이 커지지 않도록, 넘치는 묶음은 버리고 overflowBatches로 센다)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "board.chat.batch.enabled", havingValue = "true")
+public class OutboundMessageBatcher implements ExecutorChannelInterceptor {
+
+  static final String BATCH_SIZE_HEADER = "batch-size";
+
+  // 묶음 프레임 표시 (다시 묶지 않도록), 값은 구독자 버퍼 키
+  private static final String BATCHED_HEADER = "chatBatched";
+
+  private final MessageChannel outboundChannel;
+
+  private final String destinationPrefix;
+
+  private final int maxBatchSize;
+
+  private final int maxQueuedBytes;
+
+  private final Map<String, Batch> batches = new ConcurrentHashMap<>();
+
+  private final ScheduledExecutorService flusher;
+
+  private final LongAdder droppedBatches = new LongAdder();
+
+  private final LongAdder droppedMessages = new LongAdder();
+
+  private final LongAdder overflowBatches = new LongAdder();
+
+  public OutboundMessageBatcher(@Lazy @Qualifier("clientOutboundChannel") MessageChannel outboundChannel,
+                                @Value("${board.chat.relay.destination-prefix:/topic/chat}") String destinationPrefix,
+                                @Value("${board.chat.batch.window-ms:20}") long windowMs,
+                                @Value("${board.chat.batch.max-batch-size:50}") int maxBatchSize,
+                                @Value("${board.websocket.send-buffer-size-limit:524288}") int maxQueuedBytes) {
+    this.outboundChannel = outboundChannel;
+    this.destinationPrefix = destinationPrefix;
+    this.maxBatchSize = maxBatchSize;
+    this.maxQueuedBytes = maxQueuedBytes;
+    this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "chat-batch-flusher");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.flusher.scheduleWithFixedDelay(this::flush, windowMs, windowMs, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+    String destination = accessor.getDestination();
+    if (accessor.getMessageType() != SimpMessageType.MESSAGE
+        || destination == null || !destination.startsWith(destinationPrefix)
+        || accessor.getSessionId() == null || accessor.getSubscriptionId() == null
+        || accessor.getHeader(BATCHED_HEADER) != null
+        || !(message.getPayload() instanceof byte[]) || !isJson(accessor.getContentType())) {
+      return message;
+    }
+
+    String key = accessor.getSessionId() + '\n' + accessor.getSubscriptionId() + '\n' + destination;
+    add(key, accessor, (byte[]) message.getPayload());
+    return null;
+  }
+
+  private void add(String key, SimpMessageHeaderAccessor accessor, byte[] payload) {
+    while (true) {
+      Batch batch = batches.computeIfAbsent(key, k -> new Batch(k, accessor));
+      synchronized (batch) {
+        if (batch.closed) {
+          continue;
+        }
+        batch.payloads.add(payload);
+        if (batch.payloads.size() >= maxBatchSize) {
+          send(batch);
+        }
+        return;
+      }
+    }
+  }
+
+  /**
+   * 묶음 프레임 처리 완료 시 같은 구독자의 다음 프레임 전송
+   */
+  @Override
+  public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+    Object key = message.getHeaders().get(BATCHED_HEADER);
+    Batch batch = key instanceof String ? batches.get(key) : null;
+    if (batch == null) {
+      return;
+    }
+    synchronized (batch) {
+      batch.inFlight = false;
+      dispatch(batch);
+    }
+  }
+
+  /**
+   * 모인 메시지 전송 (window-ms 주기)
+   * - 비어 있고 전송 중인 프레임도 없는 구독자 버퍼는 제거하여 종료된 세션의 버퍼가 남지 않게 한다.
+   */
+  void flush() {
+    for (Map.Entry<String, Batch> entry : batches.entrySet()) {
+      Batch batch = entry.getValue();
+      synchronized (batch) {
+        if (!batch.payloads.isEmpty()) {
+          send(batch);
+        } else if (batch.frames.isEmpty() && !batch.inFlight) {
+          batch.closed = true;
+          batches.remove(entry.getKey(), batch);
+        }
+      }
+    }
+  }
+
+  /**
+   * 묶음 전송 통계
+   * @return 통계 (subscribers, queuedFrames, queuedBytes, droppedBatches, droppedMessages, overflowBatches)
+   */
+  public Map<String, Object> stats() {
+    int queuedFrames = 0;
+    long queuedBytes = 0;
+    for (Batch batch : batches.values()) {
+      synchronized (batch) {
+        queuedFrames += batch.frames.size();
+        queuedBytes += batch.queuedBytes;
+      }
+    }
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("subscribers", batches.size());
+    stats.put("queuedFrames", queuedFrames);
+    stats.put("queuedBytes", queuedBytes);
+    stats.put("droppedBatches", droppedBatches.sum());
+    stats.put("droppedMessages", droppedMessages.sum());
+    stats.put("overflowBatches", overflowBatches.sum());
+    return stats;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    flusher.shutdown();
+    flush();
+  }
+
+  /**
+   * 모인 메시지를 묶음 프레임으로 만들어 전송 대기열에 추가 (batch 잠금 안에서 호출)
+   */
+  private void send(Batch batch) {
+    List<byte[]> payloads = batch.payloads;
+    batch.payloads = new ArrayList<>();
+
+    int length = payloads.size() + 1;
+    for (byte[] payload : payloads) {
+      length += payload.length;
+    }
+    byte[] body = new byte[length];
+    int position = 0;
+    body[position++] = '[';
+    for (int i = 0; i < payloads.size(); i++) {
+      if (i > 0) {
+        body[position++] = ',';
+      }
+      byte[] payload = payloads.get(i);
+      System.arraycopy(payload, 0, body, position, payload.length);
+      position += payload.length;
+    }
+    body[position] = ']';
+
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setSessionId(batch.sessionId);
+    accessor.setSubscriptionId(batch.subscriptionId);
+    accessor.setDestination(batch.destination);
+    accessor.setContentType(batch.contentType);
+    accessor.setNativeHeader(BATCH_SIZE_HEADER, String.valueOf(payloads.size()));
+    accessor.setHeader(BATCHED_HEADER, batch.key);
+
+    // 앞 프레임이 처리 중이고 대기 중인 프레임이 한도를 넘으면 새 묶음을 버린다.
+    if (batch.inFlight && batch.queuedBytes + body.length > maxQueuedBytes) {
+      overflowBatches.increment();
+      droppedBatches.increment();
+      droppedMessages.add(payloads.size());
+      return;
+    }
+    batch.frames.add(new Frame(MessageBuilder.createMessage(body, accessor.getMessageHeaders()), payloads.size()));
+    batch.queuedBytes += body.length;
+    dispatch(batch);
+  }
+
+  /**
+   * 앞 프레임 처리가 끝났으면 다음 프레임 전송 (batch 잠금 안에서 호출)
+   * - 채널에 넣지 못한 프레임은 버리고 다음 프레임으로 넘어간다.
+   */
+  private void dispatch(Batch batch) {
+    while (!batch.inFlight) {
+      Frame frame = batch.frames.poll();
+      if (frame == null) {
+        return;
+      }
+      batch.queuedBytes -= frame.message.getPayload().length;
+      batch.inFlight = true;
+      boolean sent;
+      try {
+        sent = outboundChannel.send(frame.message);
+      } catch (Exception e) {
+        log.warn("채팅 묶음 전송 실패: sessionId={}, size={}, error={}", batch.sessionId, frame.size, e.getMessage());
+        sent = false;
+      }
+      if (!sent) {
+        batch.inFlight = false;
+        droppedBatches.increment();
+        droppedMessages.add(frame.size);
+      }
+    }
+  }
+
+  private static boolean isJson(MimeType contentType) {
+    return contentType != null
+        && ("json".equals(contentType.getSubtype()) || contentType.getSubtype().endsWith("+json"));
+  }
+
+  /**
+   * 구독자별 버퍼
+   */
+  private static final class Batch {
+
+    private final String key;
+
+    private final String sessionId;
+
+    private final String subscriptionId;
+
+    private final String destination;
+
+    private final MimeType contentType;
+
+    private List<byte[]> payloads = new ArrayList<>();
+
+    // 전송 대기 중인 묶음 프레임
+    private final Deque<Frame> frames = new ArrayDeque<>();
+
+    // frames 본문 크기 합계
+    private long queuedBytes;
+
+    // 채널에 넣고 처리 완료를 기다리는 프레임이 있는지
+    private boolean inFlight;
+
+    private boolean closed;
+
+    Batch(String key, SimpMessageHeaderAccessor accessor) {
+      this.key = key;
+      this.sessionId = accessor.getSessionId();
+      this.subscriptionId = accessor.getSubscriptionId();
+      this.destination = accessor.getDestination();
+      this.contentType = accessor.getContentType();
+    }
+  }
+
+  /**
+   * 묶음 프레임과 담긴 메시지 수
+   */
+  private static final class Frame {
+
+    private final Message<byte[]> message;
+
+    private final int size;
+
+    Frame(Message<byte[]> message, int size) {
+      this.message = message;
+      this.size = size;
+    }
+  }
+}
@@ -0,0 +1,165 @@
+package com.study.socket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * 채팅 메시지 노드 간 중계 (board.chat.broker.mode=redis)
+ * - 클라이언트가 보낸 /topic/chat 메시지는 먼저 이 노드의 SimpleBroker가 로컬 구독자에게 전달하고,
+ *   같은 메시지를 Redis 채널로 발행한다.
+ * - /app으로 받아 애플리케이션이 보낸 메시지는 publish()로 발행한다.
+ * - 다른 노드는 Redis 메시지를 받아 자신의 brokerChannel로 보내 로컬 구독자에게만 전달한다.
+ * - 자신이 발행한 메시지는 노드 식별자로 구분하여 다시 전달하지 않는다.
+ * - 따라서 노드마다 자신에게 연결된 구독자만 관리하며, 로드밸런서의 sticky 설정이 필요 없다.
+ * - Redis 발행에 실패해도 로컬 전달은 유지한다.
+ * - 수신은 캐시 무효화와 분리된 redisChatListenerContainer 에서 처리한다.
+ *
+ * 발행 형식: [nodeId]\n[destination]\n[content-type]\n[payload]
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "board.chat.broker.mode", havingValue = "redis")
+public class RedisChatRelay implements ChannelInterceptor, MessageListener {
+
+  static final String RELAY_CHANNEL = "boardpractice:chat:relay";
+
+  private static final byte[] RELAY_CHANNEL_BYTES = RELAY_CHANNEL.getBytes(StandardCharsets.UTF_8);
+
+  private static final byte SEPARATOR = '\n';
+
+  private final RedisTemplate<String, Object> redisTemplate;
+
+  private final RedisMessageListenerContainer listenerContainer;
+
+  private final MessageChannel brokerChannel;
+
+  private final String destinationPrefix;
+
+  // 자신이 발행한 메시지를 구분하기 위한 노드 식별자
+  private final byte[] nodeId = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+
+  public RedisChatRelay(RedisTemplate<String, Object> redisTemplate,
+                        @Qualifier("redisChatListenerContainer") RedisMessageListenerContainer listenerContainer,
+                        @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel,
+                        @Value("${board.chat.relay.destination-prefix:/topic/chat}") String destinationPrefix) {
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+    this.brokerChannel = brokerChannel;
+    this.destinationPrefix = destinationPrefix;
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(RELAY_CHANNEL));
+  }
+
+  /**
+   * 로컬 브로커로 전달된 클라이언트 SEND 메시지를 Redis로 발행
+   */
+  @Override
+  public void postSend(Message<?> message, MessageChannel channel, boolean sent) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+    String destination = accessor.getDestination();
+    if (!sent || accessor.getCommand() != StompCommand.SEND
+        || destination == null || !destination.startsWith(destinationPrefix)
+        || !(message.getPayload() instanceof byte[])) {
+      return;
+    }
+
+    publish(destination, accessor.getContentType(), (byte[]) message.getPayload());
+  }
+
+  /**
+   * 로컬 브로커로 보낸 메시지를 다른 노드로 발행 (애플리케이션에서 보낸 메시지용)
+   * @param destination 목적지
+   * @param contentType 본문 형식, null 허용
+   * @param payload 본문
+   */
+  public void publish(String destination, MimeType contentType, byte[] payload) {
+    byte[] frame = encode(destination, contentType != null ? contentType.toString() : "", payload);
+    try {
+      redisTemplate.execute((RedisCallback<Long>) connection -> publish(connection, frame));
+    } catch (Exception e) {
+      log.error("채팅 메시지 중계 발행 실패: destination={}", destination, e);
+    }
+  }
+
+  /**
+   * 다른 노드에서 발행한 메시지를 로컬 구독자에게 전달
+   */
+  @Override
+  public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+    byte[] frame = message.getBody();
+    int nodeEnd = indexOf(frame, 0);
+    int destinationEnd = nodeEnd < 0 ? -1 : indexOf(frame, nodeEnd + 1);
+    int contentTypeEnd = destinationEnd < 0 ? -1 : indexOf(frame, destinationEnd + 1);
+    if (contentTypeEnd < 0) {
+      log.warn("잘못된 채팅 중계 메시지: {} bytes", frame.length);
+      return;
+    }
+    if (nodeEnd == nodeId.length && Arrays.equals(Arrays.copyOf(frame, nodeEnd), nodeId)) {
+      return;
+    }
+
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setDestination(new String(frame, nodeEnd + 1, destinationEnd - nodeEnd - 1, StandardCharsets.UTF_8));
+    if (contentTypeEnd > destinationEnd + 1) {
+      accessor.setContentType(MimeTypeUtils.parseMimeType(
+          new String(frame, destinationEnd + 1, contentTypeEnd - destinationEnd - 1, StandardCharsets.UTF_8)));
+    }
+    byte[] payload = Arrays.copyOfRange(frame, contentTypeEnd + 1, frame.length);
+    brokerChannel.send(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+  }
+
+  private static Long publish(RedisConnection connection, byte[] frame) {
+    return connection.publish(RELAY_CHANNEL_BYTES, frame);
+  }
+
+  private byte[] encode(String destination, String contentType, byte[] payload) {
+    byte[] destinationBytes = destination.getBytes(StandardCharsets.UTF_8);
+    byte[] contentTypeBytes = contentType.getBytes(StandardCharsets.UTF_8);
+    byte[] frame = new byte[nodeId.length + destinationBytes.length + contentTypeBytes.length + payload.length + 3];
+    int position = 0;
+    for (byte[] part : new byte[][]{nodeId, destinationBytes, contentTypeBytes}) {
+      System.arraycopy(part, 0, frame, position, part.length);
+      position += part.length;
+      frame[position++] = SEPARATOR;
+    }
+    System.arraycopy(payload, 0, frame, position, payload.length);
+    return frame;
+  }
+
+  private static int indexOf(byte[] frame, int from) {
+    for (int i = from; i < frame.length; i++) {
+      if (frame[i] == SEPARATOR) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -1,27 +1,98 @@
 package com.study.socket;
 
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.study.domain.presence.PresenceService;
 import com.study.security.Jwt;
+import com.study.security.JwtTokenCache;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Autowired;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
+import java.util.Map;
+
+@Slf4j
 @Component
+@RequiredArgsConstructor
 public class StompHandler implements ChannelInterceptor {
 
+  // CONNECT 시 세션 속성에 저장 (시간 초과로 정리된 세션을 다시 등록할 때 사용)
+  static final String USER_KEY_ATTRIBUTE = "presence.userKey";
+
+  static final String HEARTBEAT_ATTRIBUTE = "presence.heartbeat";
+
+  // CONNECT 시 세션 속성에 저장 (SUBSCRIBE 권한 확인에 사용)
+  static final String ROLES_ATTRIBUTE = "auth.roles";
+
+  private final JwtTokenCache jwtTokenCache;
+
+  private final PresenceService presenceService; // 접속 상태
+
+  // 전체 사용자 접속 상태(/topic/chat/presence) 구독에 필요한 역할
+  @Value("${board.presence.events.subscribe-role:ADMIN}")
+  private String presenceSubscribeRole;
+
   @Override
   public Message<?> preSend(Message<?> message, MessageChannel channel) {
     StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
-    if(accessor.getCommand() == StompCommand.CONNECT) {
-      Jwt jwt = new Jwt("BoardTest", "clientSecret", 20);
-      Jwt.Claims claims = jwt.verify(accessor.getFirstNativeHeader("Authorization"));
+    StompCommand command = accessor.getCommand();
+    String sessionId = accessor.getSessionId();
+    if(command == StompCommand.CONNECT) {
+      Jwt.Claims claims = jwtTokenCache.verify(accessor.getFirstNativeHeader("Authorization"));
+      if (claims.refresh()) {
+        throw new JWTVerificationException("리프레시 토큰으로는 연결할 수 없습니다.");
+      }
       long userKey = claims.userKey();
-      System.out.println("UserKey: " + userKey + "!!");
+      long clientHeartbeat = accessor.getHeartbeat()[0];
+      log.debug("UserKey: {}", userKey);
+      Map<String, Object> attributes = accessor.getSessionAttributes();
+      if (attributes != null) {
+        attributes.put(USER_KEY_ATTRIBUTE, userKey);
+        attributes.put(HEARTBEAT_ATTRIBUTE, clientHeartbeat);
+        attributes.put(ROLES_ATTRIBUTE, claims.roles() != null ? claims.roles() : new String[0]);
+      }
+      presenceService.connect(sessionId, userKey, clientHeartbeat);
+    } else if (accessor.getMessageType() == SimpMessageType.DISCONNECT) {
+      // 클라이언트 DISCONNECT 및 연결 끊김(StompSubProtocolHandler가 보내는 DISCONNECT)
+      presenceService.disconnect(sessionId);
+    } else if (sessionId != null) {
+      // SUBSCRIBE, UNSUBSCRIBE, SEND, 하트비트 (시간 초과로 정리된 세션이면 다시 등록)
+      touch(accessor, sessionId);
+      if (command == StompCommand.SUBSCRIBE) {
+        if (PresenceService.USER_EVENT_DESTINATION.equals(accessor.getDestination()) && !hasRole(accessor, presenceSubscribeRole)) {
+          throw new AccessDeniedException("접속 상태 구독 권한이 없습니다.");
+        }
+        presenceService.subscribe(sessionId, accessor.getSubscriptionId(), accessor.getDestination());
+      } else if (command == StompCommand.SEND && PresenceService.isEventDestination(accessor.getDestination())) {
+        // 접속 상태 이벤트는 서버만 보낸다.
+        throw new AccessDeniedException("접속 상태 목적지로 보낼 수 없습니다.");
+      } else if (command == StompCommand.UNSUBSCRIBE) {
+        presenceService.unsubscribe(sessionId, accessor.getSubscriptionId());
+      }
     }
     return message;
   }
+
+  private static boolean hasRole(StompHeaderAccessor accessor, String role) {
+    Map<String, Object> attributes = accessor.getSessionAttributes();
+    Object roles = attributes != null ? attributes.get(ROLES_ATTRIBUTE) : null;
+    return roles instanceof String[] && Arrays.asList((String[]) roles).contains(role);
+  }
+
+  private void touch(StompHeaderAccessor accessor, String sessionId) {
+    Map<String, Object> attributes = accessor.getSessionAttributes();
+    Object userKey = attributes != null ? attributes.get(USER_KEY_ATTRIBUTE) : null;
+    Object heartbeat = attributes != null ? attributes.get(HEARTBEAT_ATTRIBUTE) : null;
+    presenceService.touch(sessionId,
+        userKey instanceof Long ? (Long) userKey : -1,
+        heartbeat instanceof Long ? (Long) heartbeat : 0);
+  }
 }
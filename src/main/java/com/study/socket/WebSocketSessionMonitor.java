@@ -0,0 +1,136 @@
+package com.study.socket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WebSocket 세션/채널 실행기 모니터링
+ * - 연결 중인 세션 수와 느린 소비자로 종료된 세션 수를 센다.
+ * - 느린 소비자: 전송 시간(send-time-limit) 또는 전송 버퍼(send-buffer-size-limit)를 넘겨
+ *   SESSION_NOT_RELIABLE(1011)로 종료된 세션 (ConcurrentWebSocketSessionDecorator의 TERMINATE 정책)
+ * - inbound/outbound 실행기의 활성 스레드 수와 대기열 길이를 함께 제공한다.
+ * - 대기열이 가득 차 거부된 메시지 수를 센다. (WebSocketConfig가 실행기에 거부 핸들러를 등록)
+ */
+@Slf4j
+@Component
+public class WebSocketSessionMonitor implements WebSocketHandlerDecoratorFactory {
+
+  private final ThreadPoolTaskExecutor inboundExecutor;
+
+  private final ThreadPoolTaskExecutor outboundExecutor;
+
+  private final AtomicInteger activeSessions = new AtomicInteger();
+
+  private final AtomicLong totalSessions = new AtomicLong();
+
+  private final AtomicLong slowConsumerSessions = new AtomicLong();
+
+  private final AtomicLong transportErrorSessions = new AtomicLong();
+
+  private final LongAdder inboundRejected = new LongAdder();
+
+  private final LongAdder outboundRejected = new LongAdder();
+
+  public WebSocketSessionMonitor(@Lazy @Qualifier("clientInboundChannelExecutor") ThreadPoolTaskExecutor inboundExecutor,
+                                 @Lazy @Qualifier("clientOutboundChannelExecutor") ThreadPoolTaskExecutor outboundExecutor) {
+    this.inboundExecutor = inboundExecutor;
+    this.outboundExecutor = outboundExecutor;
+  }
+
+  @Override
+  public WebSocketHandler decorate(WebSocketHandler handler) {
+    return new WebSocketHandlerDecorator(handler) {
+      @Override
+      public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        activeSessions.incrementAndGet();
+        totalSessions.incrementAndGet();
+        super.afterConnectionEstablished(session);
+      }
+
+      @Override
+      public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+        transportErrorSessions.incrementAndGet();
+        super.handleTransportError(session, exception);
+      }
+
+      @Override
+      public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        activeSessions.decrementAndGet();
+        if (closeStatus.equalsCode(CloseStatus.SESSION_NOT_RELIABLE)) {
+          slowConsumerSessions.incrementAndGet();
+          log.warn("느린 소비자 세션 종료: sessionId={}, reason={}", session.getId(), closeStatus.getReason());
+        }
+        super.afterConnectionClosed(session, closeStatus);
+      }
+    };
+  }
+
+  /**
+   * inbound 실행기 거부 핸들러 (거부 수를 세고 AbortPolicy와 같이 예외를 던진다)
+   */
+  public RejectedExecutionHandler inboundRejectedHandler() {
+    return countingRejectedHandler(inboundRejected, "clientInboundChannel");
+  }
+
+  /**
+   * outbound 실행기 거부 핸들러 (거부 수를 세고 AbortPolicy와 같이 예외를 던진다)
+   */
+  public RejectedExecutionHandler outboundRejectedHandler() {
+    return countingRejectedHandler(outboundRejected, "clientOutboundChannel");
+  }
+
+  /**
+   * 세션 및 실행기 통계
+   * @return 통계 (sessions, inbound, outbound)
+   */
+  public Map<String, Object> stats() {
+    Map<String, Object> sessions = new LinkedHashMap<>();
+    sessions.put("active", activeSessions.get());
+    sessions.put("total", totalSessions.get());
+    sessions.put("slowConsumerClosed", slowConsumerSessions.get());
+    sessions.put("transportError", transportErrorSessions.get());
+
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("sessions", sessions);
+    stats.put("inbound", executorStats(inboundExecutor, inboundRejected));
+    stats.put("outbound", executorStats(outboundExecutor, outboundRejected));
+    return stats;
+  }
+
+  // 호출한 쪽(채널 send)이 실패를 알 수 있도록 예외는 그대로 던진다.
+  private static RejectedExecutionHandler countingRejectedHandler(LongAdder counter, String channelName) {
+    return (task, pool) -> {
+      counter.increment();
+      throw new RejectedExecutionException(channelName + " 대기열이 가득 찼습니다. (queueSize=" + pool.getQueue().size() + ")");
+    };
+  }
+
+  private static Map<String, Object> executorStats(ThreadPoolTaskExecutor executor, LongAdder rejected) {
+    ThreadPoolExecutor pool = executor.getThreadPoolExecutor();
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("poolSize", pool.getPoolSize());
+    stats.put("activeThreads", pool.getActiveCount());
+    stats.put("queueSize", pool.getQueue().size());
+    stats.put("queueRemainingCapacity", pool.getQueue().remainingCapacity());
+    stats.put("completedTasks", pool.getCompletedTaskCount());
+    stats.put("rejectedTasks", rejected.sum());
+    return stats;
+  }
+}
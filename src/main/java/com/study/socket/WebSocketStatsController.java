@@ -0,0 +1,29 @@
+package com.study.socket;
+
+import com.study.config.RedisListenerMonitor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+public class WebSocketStatsController {
+
+  private final WebSocketSessionMonitor webSocketSessionMonitor;
+
+  private final ObjectProvider<OutboundMessageBatcher> outboundMessageBatcher; // board.chat.batch.enabled=true 일 때만 등록
+
+  private final RedisListenerMonitor redisListenerMonitor;
+
+  // WebSocket 세션/채널 실행기 통계 (묶음 전송 사용 시 batch 포함, Redis pub/sub 실행기 통계 포함)
+  @GetMapping("/websocket/stats.json")
+  public Map<String, Object> findStats() {
+    Map<String, Object> stats = webSocketSessionMonitor.stats();
+    outboundMessageBatcher.ifAvailable(batcher -> stats.put("batch", batcher.stats()));
+    stats.put("redisListener", redisListenerMonitor.stats());
+    return stats;
+  }
+}
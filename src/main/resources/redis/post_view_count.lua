@@ -0,0 +1,27 @@
+-- 캐시된 게시글(JSON) 조회 수를 그 자리에서 증가 (남은 만료 시간 유지)
+-- KEYS[1] : 게시글 캐시 키
+-- ARGV[1] : 증가분 (DB에 반영된 값)
+-- 반환값  : 갱신하면 1, 값이 없으면 0, 조회 수 속성을 찾지 못하면 값을 지우고 0
+-- 문자열 값 안의 따옴표는 \" 로 이스케이프되므로 최상위 "viewCnt" 속성만 일치한다.
+
+local value = redis.call('GET', KEYS[1])
+if not value then
+    return 0
+end
+
+local delta = tonumber(ARGV[1])
+local updated, count = string.gsub(value, '([,{]"viewCnt":)(%-?%d+)', function(prefix, viewCnt)
+    return prefix .. string.format('%d', tonumber(viewCnt) + delta)
+end, 1)
+if count == 0 then
+    redis.call('DEL', KEYS[1])
+    return 0
+end
+
+local ttl = redis.call('PTTL', KEYS[1])
+if ttl > 0 then
+    redis.call('SET', KEYS[1], updated, 'PX', ttl)
+else
+    redis.call('SET', KEYS[1], updated)
+end
+return 1
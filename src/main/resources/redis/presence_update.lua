@@ -0,0 +1,29 @@
+-- 노드 접속 상태 기록/해제 및 다른 노드 보유 여부 확인 (원자적으로 처리하여 노드 간 ONLINE/OFFLINE 누락 방지)
+-- KEYS[1] : 살아 있는 노드 목록 (sorted set, 점수: 마지막 갱신 시각 ms)
+-- KEYS[2] : 이 노드의 해시 키
+-- ARGV[1] : 노드 해시 키 접두사 (다른 노드의 해시 키 = 접두사 + 노드 ID)
+-- ARGV[2] : 이 노드 ID
+-- ARGV[3] : 필드 (u:{userKey} 또는 r:{roomId}:{userKey})
+-- ARGV[4] : '1' 이면 기록, 그 외 해제
+-- ARGV[5] : 현재 시각 (epoch millis)
+-- ARGV[6] : 노드 TTL (ms), 이 시간 동안 갱신이 없는 노드는 보유 여부 확인에서 제외
+-- 반환값  : 다른 살아 있는 노드가 같은 필드를 가지고 있으면 1, 아니면 0
+-- 다른 노드의 해시 키를 직접 읽으므로 Redis Cluster에서는 사용할 수 없다.
+
+local now = tonumber(ARGV[5])
+local ttl = tonumber(ARGV[6])
+
+if ARGV[4] == '1' then
+    redis.call('HSET', KEYS[2], ARGV[3], '1')
+    redis.call('PEXPIRE', KEYS[2], ttl)
+    redis.call('ZADD', KEYS[1], now, ARGV[2])
+else
+    redis.call('HDEL', KEYS[2], ARGV[3])
+end
+
+for _, node in ipairs(redis.call('ZRANGEBYSCORE', KEYS[1], now - ttl, '+inf')) do
+    if node ~= ARGV[2] and redis.call('HEXISTS', ARGV[1] .. node, ARGV[3]) == 1 then
+        return 1
+    end
+end
+return 0
@@ -0,0 +1,96 @@
+-- 세션 조회 및 만료 시간 연장 (1회 왕복)
+-- KEYS[1] : 세션 키
+-- ARGV[1] : TTL (초)
+-- ARGV[2] : 사용자 세션 목록 키 접두사
+-- ARGV[3] : 마지막 접근 시간 (ISO-8601, JSON 값용), 빈 문자열이면 TTL만 연장
+-- ARGV[4] : 마지막 접근 시간 (epoch millis, 바이너리 값용)
+-- ARGV[5] : (선택) 연장 기준 경과 시간 (초), 마지막 연장 후 이보다 적게 지났으면 값만 반환
+-- ARGV[6] : (선택) '1' 이면 ARGV[5] 기준으로 연장하지 않는 경우에도 마지막 접근 시간은 남은 TTL 그대로 저장
+-- 반환값  : {세션 값, TTL 연장 여부(1/0)}, TTL만 연장한 경우 1, 세션이 없으면 nil
+-- 값 형식은 UserSessionSerializer 참고 (첫 바이트 0xB5: 바이너리, 그 외: JSON)
+-- 바이너리 값의 userKey는 0 ~ 2^53 범위만 저장되므로(그 밖은 JSON) double 로 정확히 읽을 수 있다.
+
+local MAGIC = 0xB5
+local FLAGS_POS = 3
+local LAST_ACCESSED_AT_POS = 4
+local USER_KEY_POS = 20
+
+local value = redis.call('GET', KEYS[1])
+if not value then
+    return false
+end
+
+local binary = string.byte(value, 1) == MAGIC
+
+local function read_user_key()
+    if not binary then
+        return string.match(value, '"userKey":(%-?%d+)')
+    end
+    if string.byte(value, FLAGS_POS) % 2 == 0 then
+        return nil
+    end
+    local result, multiplier, pos = 0, 1, USER_KEY_POS
+    while true do
+        local b = string.byte(value, pos)
+        result = result + (b % 128) * multiplier
+        if b < 128 then
+            return string.format('%.0f', result)
+        end
+        multiplier = multiplier * 128
+        pos = pos + 1
+        -- 8바이트(56비트)를 넘는 varint는 음수 등 정확히 읽을 수 없는 값이므로 목록 연장을 건너뛴다. (변경 전 저장된 값)
+        if pos - USER_KEY_POS >= 8 then
+            return nil
+        end
+    end
+end
+
+local function int64_be(n)
+    local bytes = {}
+    for i = 8, 1, -1 do
+        bytes[i] = n % 256
+        n = math.floor(n / 256)
+    end
+    return string.char(unpack(bytes))
+end
+
+local ttl = tonumber(ARGV[1])
+
+-- 만료 시간이 충분히 남았으면 연장하지 않는다. (ARGV[6] 이 '1' 이면 남은 TTL 로 접근 시간만 저장)
+local remaining = nil
+if ARGV[3] ~= '' and ARGV[5] and ARGV[5] ~= '' then
+    local pttl = redis.call('PTTL', KEYS[1])
+    if pttl > (ttl - tonumber(ARGV[5])) * 1000 then
+        if ARGV[6] ~= '1' then
+            return {value, 0}
+        end
+        remaining = pttl
+    end
+end
+
+-- 사용자 세션 목록도 세션과 함께 만료 시간을 연장한다.
+local userKey = nil
+if not remaining then
+    userKey = read_user_key()
+end
+if userKey then
+    redis.call('EXPIRE', ARGV[2] .. userKey, ttl)
+end
+
+if ARGV[3] == '' then
+    redis.call('EXPIRE', KEYS[1], ttl)
+    return 1
+end
+
+if binary then
+    value = string.sub(value, 1, LAST_ACCESSED_AT_POS - 1) .. int64_be(tonumber(ARGV[4]))
+            .. string.sub(value, LAST_ACCESSED_AT_POS + 8)
+else
+    value = string.gsub(value, '"lastAccessedAt":[^,}]*', '"lastAccessedAt":"' .. ARGV[3] .. '"', 1)
+end
+if remaining then
+    redis.call('SET', KEYS[1], value, 'PX', remaining)
+    return {value, 0}
+end
+redis.call('SET', KEYS[1], value, 'EX', ttl)
+return {value, 1}
@@ -3,6 +3,7 @@ package com.study;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.study.common.dto.SearchDto;
 import com.study.domain.post.PostMapper;
 import com.study.domain.post.PostRequest;
 import com.study.domain.post.PostResponse;
@@ -10,8 +11,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 @SpringBootTest
 public class PostMapperTest {
 
@@ -67,6 +72,38 @@ public class PostMapperTest {
         }
     }
 
+    @Test
+    void findAllByCursor() {
+        // 다음 방향으로 끝까지 이동하며 id 내림차순, 중복 없음 확인
+        SearchDto params = new SearchDto();
+        List<Long> ids = new ArrayList<>();
+        List<PostResponse> page = postMapper.findAllByCursor(params);
+        while (!page.isEmpty()) {
+            List<PostResponse> current = page.size() > params.getRecordSize() ? page.subList(0, params.getRecordSize()) : page;
+            current.forEach(post -> ids.add(post.getId()));
+            if (page.size() <= params.getRecordSize()) {
+                break;
+            }
+            params.setCursorId(current.get(current.size() - 1).getId());
+            params.setDirection("next");
+            page = postMapper.findAllByCursor(params);
+        }
+
+        assertThat(new HashSet<>(ids)).hasSameSizeAs(ids);
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(ids.get(i)).isLessThan(ids.get(i - 1));
+        }
+
+        // 두 번째 페이지의 첫 ID에서 이전 방향은 첫 페이지를 id 오름차순으로 조회
+        if (ids.size() > params.getRecordSize()) {
+            SearchDto prev = new SearchDto();
+            prev.setCursorId(ids.get(params.getRecordSize()));
+            prev.setDirection("prev");
+            List<PostResponse> firstPage = postMapper.findAllByCursor(prev);
+            assertThat(firstPage.get(0).getId()).isEqualTo(ids.get(params.getRecordSize() - 1));
+        }
+    }
+
 //    @Test
 //    void delete() {
 //        System.out.println("삭제 이전의 전체 게시글 개수는 : " + postMapper.findAll().size() + "개입니다.");
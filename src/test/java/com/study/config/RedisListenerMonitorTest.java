@@ -0,0 +1,58 @@
+package com.study.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RedisListenerMonitor 테스트")
+class RedisListenerMonitorTest {
+
+    @Test
+    @DisplayName("대기열이 가득 차면 메시지를 버리고 실행기별로 센다")
+    @SuppressWarnings("unchecked")
+    void countsDroppedMessages() throws InterruptedException {
+        // given
+        RedisListenerMonitor monitor = new RedisListenerMonitor();
+        ThreadPoolTaskExecutor chat = monitor.newExecutor("chat", 1);
+        ThreadPoolTaskExecutor invalidation = monitor.newExecutor("invalidation", 1);
+        chat.initialize();
+        invalidation.initialize();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            // when: 처리 중 1건, 대기 1건, 나머지 2건은 버린다.
+            chat.execute(() -> {
+                started.countDown();
+                awaitQuietly(release);
+            });
+            started.await();
+            for (int i = 0; i < 3; i++) {
+                chat.execute(() -> { });
+            }
+
+            // then
+            assertThat(monitor.dropped("chat")).isEqualTo(2);
+            assertThat(monitor.dropped("invalidation")).isZero();
+            Map<String, Object> chatStats = (Map<String, Object>) monitor.stats().get("chat");
+            assertThat(chatStats).containsEntry("queued", 1).containsEntry("dropped", 2L);
+        } finally {
+            release.countDown();
+            chat.shutdown();
+            invalidation.shutdown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
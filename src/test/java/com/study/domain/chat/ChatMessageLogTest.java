@@ -0,0 +1,162 @@
+package com.study.domain.chat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChatMessageLog 테스트")
+class ChatMessageLogTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("채팅방별 최근 메시지를 오래된 순으로 조회")
+    void findRecentPerRoom() throws IOException {
+        // given
+        ChatMessageLog chatMessageLog = new ChatMessageLog(dir.toString(), 4096, 16);
+        for (int i = 1; i <= 10; i++) {
+            chatMessageLog.append(1L, i, bytes("room1-" + i));
+            chatMessageLog.append(2L, i, bytes("room2-" + i));
+        }
+
+        // when
+        List<ChatMessage> messages = chatMessageLog.findRecent(1L, 3);
+
+        // then
+        assertThat(messages).extracting(ChatMessage::getMessage).containsExactly("room1-8", "room1-9", "room1-10");
+        assertThat(chatMessageLog.findRecent(3L, 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("세그먼트를 넘겨 기록하고 여러 세그먼트에서 조회")
+    void rollsOverSegments() throws IOException {
+        // given (레코드 48바이트, 세그먼트당 4건)
+        ChatMessageLog chatMessageLog = new ChatMessageLog(dir.toString(), 200, 16);
+
+        // when
+        for (int i = 0; i < 12; i++) {
+            chatMessageLog.append(1L, i, bytes(String.format("message-%012d", i)));
+        }
+
+        // then
+        assertThat(segmentCount()).isEqualTo(3);
+        List<ChatMessage> messages = chatMessageLog.findRecent(1L, 8);
+        assertThat(messages).hasSize(8);
+        assertThat(messages.get(0).getMessage()).endsWith("4");
+        assertThat(messages.get(7).getMessage()).endsWith("11");
+    }
+
+    @Test
+    @DisplayName("오래된 세그먼트는 max-segments를 넘으면 삭제")
+    void deletesOldSegments() throws IOException {
+        // given
+        ChatMessageLog chatMessageLog = new ChatMessageLog(dir.toString(), 200, 2);
+
+        // when
+        for (int i = 0; i < 12; i++) {
+            chatMessageLog.append(1L, i, bytes(String.format("message-%012d", i)));
+        }
+
+        chatMessageLog.flush();
+
+        // then (삭제 대기 세그먼트는 flush 주기에 매핑 해제 후 삭제)
+        assertThat(segmentCount()).isEqualTo(2);
+        assertThat(chatMessageLog.findRecent(1L, 100)).hasSize(8);
+    }
+
+    @Test
+    @DisplayName("다시 열면 기록된 끝 위치부터 이어서 기록")
+    void reopensAtEndOfLog() throws IOException {
+        // given
+        ChatMessageLog chatMessageLog = new ChatMessageLog(dir.toString(), 4096, 16);
+        chatMessageLog.append(1L, 1, bytes("first"));
+        chatMessageLog.close();
+
+        // when
+        ChatMessageLog reopened = new ChatMessageLog(dir.toString(), 4096, 16);
+        reopened.append(1L, 2, bytes("second"));
+
+        // then
+        assertThat(reopened.findRecent(1L, 10)).extracting(ChatMessage::getMessage).containsExactly("first", "second");
+    }
+
+    @Test
+    @DisplayName("다시 열 때 crc가 맞지 않는 레코드부터는 버림")
+    void stopsAtCorruptedRecord() throws IOException {
+        // given (두 번째 레코드의 본문이 디스크에 반영되지 않은 상황)
+        ChatMessageLog chatMessageLog = new ChatMessageLog(dir.toString(), 4096, 16);
+        chatMessageLog.append(1L, 1, bytes("first"));
+        chatMessageLog.append(1L, 2, bytes("second"));
+        chatMessageLog.append(1L, 3, bytes("third"));
+        chatMessageLog.close();
+        Path segment = onlySegment();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[6]), 33 + 28);
+        }
+
+        // when
+        ChatMessageLog reopened = new ChatMessageLog(dir.toString(), 4096, 16);
+        reopened.append(1L, 4, bytes("fourth"));
+        reopened.close();
+
+        // then (손상 이후 영역은 지워져 다시 열어도 이어지지 않음)
+        assertThat(reopened.findRecent(1L, 10)).extracting(ChatMessage::getMessage).containsExactly("first", "fourth");
+        assertThat(new ChatMessageLog(dir.toString(), 4096, 16).findRecent(1L, 10))
+                .extracting(ChatMessage::getMessage).containsExactly("first", "fourth");
+    }
+
+    @Test
+    @DisplayName("다시 열어도 여러 방이 섞인 세그먼트에서 방별 메시지만 이어서 조회")
+    void followsRoomChainAfterReopen() throws IOException {
+        // given
+        ChatMessageLog chatMessageLog = new ChatMessageLog(dir.toString(), 4096, 16);
+        for (int i = 1; i <= 5; i++) {
+            chatMessageLog.append(1L, i, bytes("room1-" + i));
+            chatMessageLog.append(2L, i, bytes("room2-" + i));
+            chatMessageLog.append(3L, i, bytes("room3-" + i));
+        }
+        chatMessageLog.close();
+
+        // when
+        ChatMessageLog reopened = new ChatMessageLog(dir.toString(), 4096, 16);
+        reopened.append(2L, 6, bytes("room2-6"));
+
+        // then
+        assertThat(reopened.findRecent(2L, 4)).extracting(ChatMessage::getMessage)
+                .containsExactly("room2-3", "room2-4", "room2-5", "room2-6");
+        assertThat(reopened.findRecent(1L, 10)).extracting(ChatMessage::getMessage)
+                .containsExactly("room1-1", "room1-2", "room1-3", "room1-4", "room1-5");
+    }
+
+    private Path onlySegment() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            List<Path> segments = files.collect(Collectors.toList());
+            assertThat(segments).hasSize(1);
+            return segments.get(0);
+        }
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.collect(Collectors.toList()).size();
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
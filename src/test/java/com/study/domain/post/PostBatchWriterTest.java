@@ -0,0 +1,143 @@
+package com.study.domain.post;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 게시글 대량 저장 테스트 (배치 크기 2, 커밋 단위 2배치)
+ */
+@DisplayName("PostBatchWriter 테스트")
+class PostBatchWriterTest {
+
+    private SqlSessionTemplate batchSqlSession;
+    private PostMapper batchPostMapper;
+    private PlatformTransactionManager transactionManager;
+    private PostBatchWriter postBatchWriter;
+    private List<Integer> committedSizes;
+
+    @BeforeEach
+    void setUp() {
+        batchSqlSession = mock(SqlSessionTemplate.class);
+        batchPostMapper = mock(PostMapper.class);
+        when(batchSqlSession.getMapper(PostMapper.class)).thenReturn(batchPostMapper);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+
+        postBatchWriter = new PostBatchWriter(batchSqlSession, transactionManager, 2, 2);
+        committedSizes = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("배치 크기마다 flush 하고 커밋 단위마다 커밋한다")
+    void testBatchAndCommitBoundaries() {
+        // when
+        PostBulkResult result = postBatchWriter.write(posts(5).iterator(), committed -> committedSizes.add(committed.size()));
+
+        // then
+        verify(batchPostMapper, times(5)).save(any());
+        verify(batchSqlSession, times(3)).flushStatements();
+        verify(transactionManager, times(2)).commit(any());
+        assertThat(committedSizes).containsExactly(4, 1);
+        assertThat(result.getTotalCount()).isEqualTo(5);
+        assertThat(result.getSavedCount()).isEqualTo(5);
+        assertThat(result.getFailedCount()).isZero();
+        assertThat(result.getAbortedRowNo()).isNull();
+        assertThat(result.getBatches())
+                .extracting(PostBulkResult.Batch::getBatchNo, PostBulkResult.Batch::getFromRowNo, PostBulkResult.Batch::getToRowNo)
+                .containsExactly(tuple(1, 1, 2), tuple(2, 3, 4), tuple(3, 5, 5));
+    }
+
+    @Test
+    @DisplayName("실패한 커밋 단위만 롤백하고 실패한 배치와 행 범위를 남긴다")
+    void testFailedCommitUnit() {
+        // given - 3번째 행(2번 배치)에서 실패
+        doThrow(new RuntimeException("duplicate"))
+                .when(batchPostMapper).save(argThat(post -> post != null && "제목3".equals(post.getTitle())));
+
+        // when
+        PostBulkResult result = postBatchWriter.write(posts(6).iterator(), committed -> committedSizes.add(committed.size()));
+
+        // then
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+        assertThat(committedSizes).containsExactly(2);
+        assertThat(result.getTotalCount()).isEqualTo(6);
+        assertThat(result.getSavedCount()).isEqualTo(2);
+        assertThat(result.getFailedCount()).isEqualTo(4);
+        assertThat(result.getBatches())
+                .extracting(PostBulkResult.Batch::getBatchNo, PostBulkResult.Batch::getFromRowNo,
+                        PostBulkResult.Batch::getToRowNo, PostBulkResult.Batch::getError)
+                .containsExactly(tuple(2, 1, 4, "duplicate"), tuple(3, 5, 6, null));
+    }
+
+    @Test
+    @DisplayName("입력 오류가 나면 이전 행까지 저장하고 중단 위치를 남긴다")
+    void testAbortOnInputError() {
+        // given - 4번째 행을 읽다가 실패
+        Iterator<PostRequest> delegate = posts(3).iterator();
+        Iterator<PostRequest> posts = new Iterator<PostRequest>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public PostRequest next() {
+                if (!delegate.hasNext()) {
+                    throw new IllegalStateException("Unexpected character");
+                }
+                return delegate.next();
+            }
+        };
+
+        // when
+        PostBulkResult result = postBatchWriter.write(posts, committed -> committedSizes.add(committed.size()));
+
+        // then
+        assertThat(committedSizes).containsExactly(3);
+        assertThat(result.getSavedCount()).isEqualTo(3);
+        assertThat(result.getAbortedRowNo()).isEqualTo(4);
+        assertThat(result.getError()).isEqualTo("Unexpected character");
+    }
+
+    @Test
+    @DisplayName("빈 입력은 커밋하지 않는다")
+    void testEmptyInput() {
+        PostBulkResult result = postBatchWriter.write(new ArrayList<PostRequest>().iterator(), committed -> committedSizes.add(committed.size()));
+
+        verify(transactionManager, times(0)).getTransaction(any());
+        assertThat(committedSizes).isEmpty();
+        assertThat(result.getTotalCount()).isZero();
+        assertThat(result.getBatches()).isEmpty();
+    }
+
+    private List<PostRequest> posts(int count) {
+        List<PostRequest> posts = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            PostRequest post = new PostRequest();
+            post.setTitle("제목" + i);
+            post.setContent("내용" + i);
+            post.setWriter("작성자");
+            posts.add(post);
+        }
+        return posts;
+    }
+}
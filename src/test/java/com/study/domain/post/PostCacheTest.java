@@ -0,0 +1,139 @@
+package com.study.domain.post;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 게시글 상세정보 캐시 테스트
+ */
+@DisplayName("PostCache 테스트")
+class PostCacheTest {
+
+    private PostCache postCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        postCache = new PostCache(mock(RedisTemplate.class), 100, 60, false, 300);
+    }
+
+    @Test
+    @DisplayName("한 번 로딩한 게시글은 캐시에서 반환한다")
+    void testReadThrough() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        Function<Long, PostResponse> loader = id -> {
+            loads.incrementAndGet();
+            return post(id, "제목");
+        };
+
+        // when
+        PostResponse first = postCache.get(1L, loader);
+        PostResponse second = postCache.get(1L, loader);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글은 캐싱하지 않는다")
+    void testMissingPostIsNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+        Function<Long, PostResponse> loader = id -> {
+            loads.incrementAndGet();
+            return null;
+        };
+
+        assertThat(postCache.get(1L, loader)).isNull();
+        assertThat(postCache.get(1L, loader)).isNull();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("삭제 이후에는 다시 로딩한다")
+    void testInvalidate() {
+        postCache.get(1L, id -> post(id, "수정 전"));
+
+        postCache.invalidate(1L);
+
+        assertThat(postCache.get(1L, id -> post(id, "수정 후")).getTitle()).isEqualTo("수정 후");
+    }
+
+    @Test
+    @DisplayName("로딩 중에 삭제되면 로딩한 값을 캐시에 남기지 않는다")
+    void testInvalidateDuringLoad() {
+        // given - DB 에서 수정 전 값을 읽은 직후 다른 요청이 수정하고 캐시를 삭제한다.
+        Function<Long, PostResponse> staleLoader = id -> {
+            PostResponse stale = post(id, "수정 전");
+            postCache.invalidate(id);
+            return stale;
+        };
+
+        // when
+        PostResponse loaded = postCache.get(1L, staleLoader);
+        PostResponse next = postCache.get(1L, id -> post(id, "수정 후"));
+
+        // then
+        assertThat(loaded.getTitle()).isEqualTo("수정 전");
+        assertThat(next.getTitle()).isEqualTo("수정 후");
+    }
+
+    @Test
+    @DisplayName("다른 게시글의 삭제는 로딩한 값에 영향을 주지 않는다")
+    void testInvalidateOtherPostDuringLoad() {
+        AtomicInteger loads = new AtomicInteger();
+        Function<Long, PostResponse> loader = id -> {
+            loads.incrementAndGet();
+            postCache.invalidate(id + 1);
+            return post(id, "제목");
+        };
+
+        postCache.get(1L, loader);
+        postCache.get(1L, loader);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("조회 수 반영 시 Redis 캐시는 지우지 않고 그 자리에서 증가시킨다")
+    @SuppressWarnings("unchecked")
+    void testAddViewCountKeepsRedisEntry() {
+        // given
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        PostCache redisCache = new PostCache(redisTemplate, 100, 60, true, 300);
+        redisCache.get(1L, id -> post(id, "제목"));
+
+        // when
+        redisCache.addViewCount(1L, 3);
+
+        // then
+        assertThat(redisCache.get(1L, id -> post(id, "다시 로딩")).getViewCnt()).isEqualTo(3);
+        verify(redisTemplate).execute(any(RedisScript.class), any(), any(),
+                eq(Collections.singletonList("boardpractice:post:1")), eq("3"));
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    private PostResponse post(Long id, String title) {
+        PostResponse post = new PostResponse();
+        ReflectionTestUtils.setField(post, "id", id);
+        ReflectionTestUtils.setField(post, "title", title);
+        return post;
+    }
+}
@@ -0,0 +1,118 @@
+package com.study.domain.post;
+
+import com.study.common.dto.SearchDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 게시글 수 캐시 테스트
+ */
+@DisplayName("PostCountCache 테스트")
+class PostCountCacheTest {
+
+    private PostMapper postMapper;
+    private PostCountCache postCountCache;
+
+    @BeforeEach
+    void setUp() {
+        postMapper = mock(PostMapper.class);
+        postCountCache = new PostCountCache(postMapper, 100, 60);
+    }
+
+    @Test
+    @DisplayName("같은 검색 조건은 한 번만 카운팅한다")
+    void testCountIsCached() {
+        // given
+        when(postMapper.count(any())).thenReturn(42);
+
+        // when
+        int first = postCountCache.count(search("제목", "title"));
+        int second = postCountCache.count(search("제목", "title"));
+
+        // then
+        assertThat(first).isEqualTo(42);
+        assertThat(second).isEqualTo(42);
+        verify(postMapper, times(1)).count(any());
+    }
+
+    @Test
+    @DisplayName("키워드가 없으면 검색 유형과 관계없이 같은 키를 사용한다")
+    void testCacheKeyWithoutKeyword() {
+        assertThat(PostCountCache.cacheKey(search(null, "title")))
+                .isEqualTo(PostCountCache.cacheKey(search("", "writer")));
+        assertThat(PostCountCache.cacheKey(search("a", "title")))
+                .isNotEqualTo(PostCountCache.cacheKey(search("a", "writer")));
+    }
+
+    @Test
+    @DisplayName("무효화 이후에는 다시 카운팅한다")
+    void testInvalidateAll() {
+        // given
+        when(postMapper.count(any())).thenReturn(1, 2);
+        postCountCache.count(search(null, null));
+
+        // when
+        postCountCache.invalidateAll();
+
+        // then
+        assertThat(postCountCache.count(search(null, null))).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("근사치 모드는 키워드가 없을 때만 테이블 통계를 사용한다")
+    void testApproximateCount() {
+        // given
+        when(postMapper.approximateCount()).thenReturn(1000);
+        when(postMapper.count(any())).thenReturn(7);
+
+        SearchDto all = search(null, null);
+        all.setApproximateCount(true);
+        SearchDto filtered = search("공지", null);
+        filtered.setApproximateCount(true);
+
+        // when & then
+        assertThat(postCountCache.count(all)).isEqualTo(1000);
+        assertThat(postCountCache.isApproximate(filtered)).isFalse();
+        assertThat(postCountCache.count(filtered)).isEqualTo(7);
+        verify(postMapper, times(1)).approximateCount();
+    }
+
+    @Test
+    @DisplayName("통계가 없으면 정확한 값으로 대체한다")
+    void testApproximateCountFallback() {
+        // given
+        when(postMapper.approximateCount()).thenReturn(null);
+        when(postMapper.count(any())).thenReturn(3);
+        SearchDto all = search(null, null);
+        all.setApproximateCount(true);
+
+        // when & then
+        assertThat(postCountCache.count(all)).isEqualTo(3);
+        assertThat(postCountCache.isApproximate(all)).isFalse();
+        verify(postMapper, never()).findAll(any());
+
+        // 통계가 없다는 결과도 캐싱되어, 다음 요청도 정확한 값(캐시)을 사용하고 근사치 표시를 하지 않음
+        SearchDto next = search(null, null);
+        next.setApproximateCount(true);
+        assertThat(postCountCache.count(next)).isEqualTo(3);
+        assertThat(postCountCache.isApproximate(next)).isFalse();
+        verify(postMapper, times(1)).approximateCount();
+        verify(postMapper, times(1)).count(any());
+    }
+
+    private SearchDto search(String keyword, String searchType) {
+        SearchDto params = new SearchDto();
+        params.setKeyword(keyword);
+        params.setSearchType(searchType);
+        return params;
+    }
+}
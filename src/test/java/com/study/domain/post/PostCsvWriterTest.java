@@ -0,0 +1,55 @@
+package com.study.domain.post;
+
+import org.apache.ibatis.session.ResultContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 게시글 CSV 작성 테스트
+ */
+@DisplayName("PostCsvWriter 테스트")
+class PostCsvWriterTest {
+
+    @Test
+    @DisplayName("쉼표, 따옴표, 줄바꿈이 있는 값은 따옴표로 감싼다")
+    void testQuote() throws IOException {
+        assertThat(row("제목, \"인용\"", "작성자", "줄\n바꿈"))
+                .isEqualTo("1,\"제목, \"\"인용\"\"\",작성자,\"줄\n바꿈\",0,N,\r\n");
+    }
+
+    @Test
+    @DisplayName("수식으로 시작하는 값은 앞에 ' 를 붙인다")
+    void testFormulaInjection() throws IOException {
+        assertThat(row("=HYPERLINK(\"http://evil\")", "+1", "-2"))
+                .isEqualTo("1,\"'=HYPERLINK(\"\"http://evil\"\")\",'+1,'-2,0,N,\r\n");
+        assertThat(row("@SUM(A1)", "\t탭", "일반 내용"))
+                .isEqualTo("1,'@SUM(A1),'\t탭,일반 내용,0,N,\r\n");
+    }
+
+    @SuppressWarnings("unchecked")
+    private String row(String title, String writer, String content) throws IOException {
+        PostResponse post = new PostResponse();
+        ReflectionTestUtils.setField(post, "id", 1L);
+        ReflectionTestUtils.setField(post, "title", title);
+        ReflectionTestUtils.setField(post, "writer", writer);
+        ReflectionTestUtils.setField(post, "content", content);
+
+        ResultContext<PostResponse> context = mock(ResultContext.class);
+        doReturn(post).when(context).getResultObject();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PostCsvWriter writer = new PostCsvWriter(out, written -> { });
+        writer.handleResult(context);
+        writer.finish();
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,188 @@
+package com.study.domain.post;
+
+import com.study.common.dto.SearchDto;
+import com.study.domain.post.search.PostSearchEngine;
+import com.study.paging.CursorPagination;
+import com.study.paging.PagingResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 커서 기반 페이징 테스트
+ * - PostMapper.findAllByCursor는 XML 쿼리와 같은 조건(id 비교, 방향별 정렬, fetchSize)으로 메모리에서 흉내 낸다.
+ */
+@DisplayName("커서 기반 페이징 테스트")
+class PostCursorPagingTest {
+
+    private static final long TOTAL = 25;
+
+    private PostService postService;
+
+    @BeforeEach
+    void setUp() {
+        // 모든 게시글의 생성일시가 같아도 정렬 키(id)는 유일하므로 페이지 경계가 흔들리지 않아야 한다.
+        LocalDateTime createdDate = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<PostResponse> table = LongStream.rangeClosed(1, TOTAL)
+                .mapToObj(id -> post(id, createdDate))
+                .collect(Collectors.toList());
+
+        PostMapper postMapper = mock(PostMapper.class);
+        when(postMapper.findAllByCursor(any())).thenAnswer(invocation -> {
+            SearchDto params = invocation.getArgument(0);
+            Long cursorId = params.getCursorId();
+            boolean prev = params.isPrevDirection();
+            return table.stream()
+                    .filter(post -> cursorId == null || (prev ? post.getId() > cursorId : post.getId() < cursorId))
+                    .sorted(prev ? Comparator.comparing(PostResponse::getId) : Comparator.comparing(PostResponse::getId).reversed())
+                    .limit(params.getFetchSize())
+                    .collect(Collectors.toList());
+        });
+
+        postService = new PostService(postMapper, mock(PostCountCache.class), mock(PostSearchEngine.class),
+                mock(PostCache.class), mock(PostViewCounter.class), mock(PostBatchWriter.class));
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 최신 글부터 조회하고 이전 페이지가 없다")
+    void firstPage() {
+        // when
+        PagingResponse<PostResponse> response = postService.findAllPostByCursor(search(null, null));
+
+        // then
+        assertThat(ids(response)).containsExactly(25L, 24L, 23L, 22L, 21L, 20L, 19L, 18L, 17L, 16L);
+        CursorPagination cursor = response.getCursor();
+        assertThat(cursor.getFirstId()).isEqualTo(25L);
+        assertThat(cursor.getLastId()).isEqualTo(16L);
+        assertThat(cursor.isExistPrevPage()).isFalse();
+        assertThat(cursor.isExistNextPage()).isTrue();
+    }
+
+    @Test
+    @DisplayName("다음 커서는 마지막 ID 이후를 조회한다")
+    void nextPage() {
+        // when
+        PagingResponse<PostResponse> response = postService.findAllPostByCursor(search(16L, "next"));
+
+        // then
+        assertThat(ids(response)).containsExactly(15L, 14L, 13L, 12L, 11L, 10L, 9L, 8L, 7L, 6L);
+        assertThat(response.getCursor().isExistPrevPage()).isTrue();
+        assertThat(response.getCursor().isExistNextPage()).isTrue();
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 남은 건수만 조회하고 다음 페이지가 없다")
+    void lastPage() {
+        // when
+        PagingResponse<PostResponse> response = postService.findAllPostByCursor(search(6L, "next"));
+
+        // then
+        assertThat(ids(response)).containsExactly(5L, 4L, 3L, 2L, 1L);
+        assertThat(response.getCursor().isExistPrevPage()).isTrue();
+        assertThat(response.getCursor().isExistNextPage()).isFalse();
+    }
+
+    @Test
+    @DisplayName("이전 커서는 첫 ID 이전 페이지를 화면 정렬(id 내림차순)로 조회한다")
+    void prevPage() {
+        // when (두 번째 페이지의 첫 ID에서 이전으로)
+        PagingResponse<PostResponse> response = postService.findAllPostByCursor(search(15L, "prev"));
+
+        // then
+        assertThat(ids(response)).containsExactly(25L, 24L, 23L, 22L, 21L, 20L, 19L, 18L, 17L, 16L);
+        assertThat(response.getCursor().isExistPrevPage()).isFalse();
+        assertThat(response.getCursor().isExistNextPage()).isTrue();
+
+        // 중간 페이지에서 이전으로 이동하면 더 최신 글이 남아 있다.
+        PagingResponse<PostResponse> middle = postService.findAllPostByCursor(search(5L, "prev"));
+        assertThat(ids(middle)).containsExactly(15L, 14L, 13L, 12L, 11L, 10L, 9L, 8L, 7L, 6L);
+        assertThat(middle.getCursor().isExistPrevPage()).isTrue();
+    }
+
+    @Test
+    @DisplayName("생성일시가 같은 글도 앞뒤로 이동하며 빠짐없이 한 번씩 조회된다")
+    void walksAllPagesWithoutDuplicates() {
+        // when (끝까지 다음으로)
+        List<Long> forward = new ArrayList<>();
+        PagingResponse<PostResponse> page = postService.findAllPostByCursor(search(null, null));
+        forward.addAll(ids(page));
+        while (page.getCursor().isExistNextPage()) {
+            page = postService.findAllPostByCursor(search(page.getCursor().getLastId(), "next"));
+            forward.addAll(ids(page));
+        }
+
+        // when (처음까지 이전으로)
+        List<Long> backward = new ArrayList<>(ids(page));
+        while (page.getCursor().isExistPrevPage()) {
+            page = postService.findAllPostByCursor(search(page.getCursor().getFirstId(), "prev"));
+            backward.addAll(0, ids(page));
+        }
+
+        // then
+        List<Long> expected = LongStream.iterate(TOTAL, id -> id - 1).limit(TOTAL).boxed().collect(Collectors.toList());
+        assertThat(forward).containsExactlyElementsOf(expected);
+        assertThat(backward).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("커서 없이 방향만 지정하면 커서 모드의 첫 페이지를 조회한다")
+    void directionOnlyStartsCursorMode() {
+        // when
+        PagingResponse<PostResponse> response = postService.findAllPost(search(null, "next"));
+
+        // then
+        assertThat(response.getPagination()).isNull();
+        assertThat(ids(response)).startsWith(25L).hasSize(10);
+        assertThat(response.getCursor().isExistPrevPage()).isFalse();
+        assertThat(response.getCursor().isExistNextPage()).isTrue();
+    }
+
+    @Test
+    @DisplayName("빈 페이지는 커서가 없으므로 이전/다음 페이지가 없다")
+    void emptyPageHasNoCursorLinks() {
+        // when
+        PagingResponse<PostResponse> next = postService.findAllPostByCursor(search(1L, "next"));
+        PagingResponse<PostResponse> prev = postService.findAllPostByCursor(search(TOTAL, "prev"));
+
+        // then
+        for (PagingResponse<PostResponse> response : Arrays.asList(next, prev)) {
+            assertThat(response.getList()).isEmpty();
+            assertThat(response.getCursor().getFirstId()).isNull();
+            assertThat(response.getCursor().isExistPrevPage()).isFalse();
+            assertThat(response.getCursor().isExistNextPage()).isFalse();
+        }
+    }
+
+    private static SearchDto search(Long cursorId, String direction) {
+        SearchDto params = new SearchDto();
+        params.setCursorId(cursorId);
+        params.setDirection(direction);
+        return params;
+    }
+
+    private static List<Long> ids(PagingResponse<PostResponse> response) {
+        return response.getList().stream().map(PostResponse::getId).collect(Collectors.toList());
+    }
+
+    private static PostResponse post(long id, LocalDateTime createdDate) {
+        PostResponse post = new PostResponse();
+        ReflectionTestUtils.setField(post, "id", id);
+        ReflectionTestUtils.setField(post, "title", id + "번 게시글 제목");
+        ReflectionTestUtils.setField(post, "createdDate", createdDate);
+        return post;
+    }
+}
@@ -0,0 +1,166 @@
+package com.study.domain.post;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.study.common.dto.SearchDto;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 게시글 내보내기 형식별 성능 비교 (rows/s, 최대 힙 사용량)
+ * DB 없이 같은 게시글을 반복해서 전달하므로 순수 직렬화 비용만 측정한다.
+ * TEST_ENV=LOCAL 인 경우에만 실행
+ */
+@DisplayName("게시글 내보내기 벤치마크")
+class PostExportBenchmarkTest {
+
+    private static final int ROWS = 200_000;
+
+    private PostExportService postExportService;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue("LOCAL".equalsIgnoreCase(System.getenv("TEST_ENV")));
+
+        PostResponse prototype = samplePost();
+        PostMapper postMapper = mock(PostMapper.class);
+        doAnswer(invocation -> {
+            ResultHandler<PostResponse> handler = invocation.getArgument(1);
+            DefaultResultContext<PostResponse> context = new DefaultResultContext<>();
+            for (int i = 0; i < ROWS; i++) {
+                context.nextResultObject(prototype);
+                handler.handleResult(context);
+            }
+            return null;
+        }).when(postMapper).findAllForStream(any(), any());
+        when(postMapper.findAllForExport(any())).thenAnswer(invocation -> repeat(prototype, ROWS));
+
+        postExportService = new PostExportService(postMapper, mock(PlatformTransactionManager.class), 100);
+    }
+
+    @Test
+    void compareFormats() throws Exception {
+        // 워밍업
+        postExportService.writeCsv(new SearchDto(), new CountingOutputStream(), post -> { });
+        postExportService.writeNdjson(new SearchDto(), new CountingOutputStream(), post -> { });
+
+        measure("xlsx", out -> postExportService.writeXlsx(new SearchDto(), out));
+        measure("csv", out -> postExportService.writeCsv(new SearchDto(), out, post -> { }));
+        measure("ndjson", out -> postExportService.writeNdjson(new SearchDto(), out, post -> { }));
+    }
+
+    private void measure(String format, ExportTask task) throws Exception {
+        System.gc();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            pool.resetPeakUsage();
+        }
+
+        CountingOutputStream out = new CountingOutputStream();
+        long startedAt = System.nanoTime();
+        long rows = task.write(out);
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        long peakHeap = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peakHeap += pool.getPeakUsage().getUsed();
+            }
+        }
+
+        System.out.printf("%-6s rows=%d, rows/s=%,d, bytes=%,d, peakHeap=%,dKB%n",
+                format, rows, rows * 1_000_000_000L / elapsedNanos, out.count, peakHeap / 1024);
+    }
+
+    private static PostResponse samplePost() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", 123456L);
+        values.put("title", "벤치마크용 게시글 제목, \"따옴표\" 포함");
+        values.put("content", "게시글 내용입니다.\n두 번째 줄입니다. Lorem ipsum dolor sit amet.");
+        values.put("writer", "테스터");
+        values.put("viewCnt", 42);
+        values.put("noticeYn", false);
+        values.put("deleteYn", false);
+        values.put("createdDate", LocalDateTime.of(2024, 1, 1, 12, 0));
+        return new ObjectMapper().registerModule(new JavaTimeModule()).convertValue(values, PostResponse.class);
+    }
+
+    private static Cursor<PostResponse> repeat(PostResponse post, int rows) {
+        return new Cursor<PostResponse>() {
+            private int index = -1;
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public boolean isConsumed() {
+                return index + 1 >= rows;
+            }
+
+            @Override
+            public int getCurrentIndex() {
+                return index;
+            }
+
+            @Override
+            public Iterator<PostResponse> iterator() {
+                return new Iterator<PostResponse>() {
+                    @Override
+                    public boolean hasNext() {
+                        return index + 1 < rows;
+                    }
+
+                    @Override
+                    public PostResponse next() {
+                        index++;
+                        return post;
+                    }
+                };
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface ExportTask {
+        long write(OutputStream out) throws Exception;
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
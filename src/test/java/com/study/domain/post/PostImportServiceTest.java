@@ -0,0 +1,149 @@
+package com.study.domain.post;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 게시글 엑셀 가져오기 테스트
+ */
+@DisplayName("PostImportService 테스트")
+class PostImportServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private List<PostRequest> saved;
+    private PostImportService postImportService;
+
+    @BeforeEach
+    void setUp() {
+        saved = new ArrayList<>();
+        PostService postService = mock(PostService.class);
+        when(postService.savePosts(any())).thenAnswer(invocation -> {
+            Iterator<PostRequest> posts = invocation.getArgument(0);
+            List<PostBulkResult.Batch> batches = new ArrayList<>();
+            int size = 0;
+            while (posts.hasNext()) {
+                saved.add(posts.next());
+                size++;
+            }
+            batches.add(new PostBulkResult.Batch(1, 1, size, size, 0, 0, null));
+            PostBulkResult result = new PostBulkResult();
+            result.addSaved(batches);
+            return result;
+        });
+        postImportService = new PostImportService(postService, 2, 10);
+    }
+
+    @Test
+    @DisplayName("머리글 이름으로 열을 찾고 chunk 단위로 저장한다")
+    void testImport() throws IOException {
+        // given - 열 순서가 달라도 머리글로 찾는다.
+        File file = workbook(sheet -> {
+            row(sheet, 0, "작성자", "제목", "내용", "공지글 여부");
+            row(sheet, 1, "홍길동", "제목1", "내용1", "Y");
+            row(sheet, 2, "홍길동", "제목2", "내용2", "n");
+            row(sheet, 3, "홍길동", "제목3", "내용3", "");
+        });
+
+        // when
+        PostImportResult result = postImportService.importXlsx(file);
+
+        // then
+        assertThat(result.getTotalRows()).isEqualTo(3);
+        assertThat(result.getSavedCount()).isEqualTo(3);
+        assertThat(saved).extracting(PostRequest::getTitle, PostRequest::getWriter, PostRequest::getNoticeYn)
+                .containsExactly(tuple("제목1", "홍길동", true), tuple("제목2", "홍길동", false), tuple("제목3", "홍길동", false));
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 행은 건너뛰고 행 번호와 사유를 남긴다")
+    void testRejectedRows() throws IOException {
+        File file = workbook(sheet -> {
+            row(sheet, 0, "title", "content", "writer", "noticeYn");
+            row(sheet, 1, "제목1", "내용1", "홍길동", "N");
+            row(sheet, 2, "", "내용2", "홍길동", "N");
+            row(sheet, 3, "제목3", "내용3", "홍길동", "maybe");
+        });
+
+        PostImportResult result = postImportService.importXlsx(file);
+
+        assertThat(result.getSavedCount()).isEqualTo(1);
+        assertThat(result.getRejectedCount()).isEqualTo(2);
+        assertThat(result.getRejectedRows())
+                .extracting(PostImportResult.RejectedRow::getSheetName, PostImportResult.RejectedRow::getRowNo)
+                .containsExactly(tuple("게시글1", 3), tuple("게시글1", 4));
+    }
+
+    @Test
+    @DisplayName("필수 열이 없는 시트는 건너뛰고 다음 시트를 계속 가져온다")
+    void testSkipSheetWithoutRequiredColumns() throws IOException {
+        // given
+        File file = workbook(
+                sheet -> {
+                    row(sheet, 0, "제목", "내용", "작성자");
+                    row(sheet, 1, "제목1", "내용1", "홍길동");
+                },
+                sheet -> {
+                    row(sheet, 0, "제목", "내용");
+                    row(sheet, 1, "제목2", "내용2");
+                },
+                sheet -> {
+                },
+                sheet -> {
+                    row(sheet, 0, "제목", "내용", "작성자");
+                    row(sheet, 1, "제목4", "내용4", "홍길동");
+                });
+
+        // when
+        PostImportResult result = postImportService.importXlsx(file);
+
+        // then
+        assertThat(saved).extracting(PostRequest::getTitle).containsExactly("제목1", "제목4");
+        assertThat(result.getSkippedSheets())
+                .extracting(PostImportResult.SkippedSheet::getSheetName)
+                .containsExactly("게시글2", "게시글3");
+    }
+
+    private interface SheetWriter {
+        void write(Sheet sheet);
+    }
+
+    private File workbook(SheetWriter... sheets) throws IOException {
+        File file = tempDir.resolve("posts.xlsx").toFile();
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = new FileOutputStream(file)) {
+            for (int i = 0; i < sheets.length; i++) {
+                sheets[i].write(workbook.createSheet("게시글" + (i + 1)));
+            }
+            workbook.write(out);
+        }
+        return file;
+    }
+
+    private void row(Sheet sheet, int rowNum, String... values) {
+        Row row = sheet.createRow(rowNum);
+        for (int i = 0; i < values.length; i++) {
+            row.createCell(i).setCellValue(values[i]);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.study.domain.post;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 게시글 조회 수 카운터 테스트
+ */
+@DisplayName("PostViewCounter 테스트")
+class PostViewCounterTest {
+
+    // 캐시에 없으면 실패 (flush 이후에도 캐시가 유지되는지 확인용)
+    private static final Function<Long, PostResponse> NO_LOAD = id -> {
+        throw new AssertionError("캐시에서 제거되었습니다: id=" + id);
+    };
+
+    private PostMapper postMapper;
+    private PostCache postCache;
+    private PostViewCounter postViewCounter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        postMapper = mock(PostMapper.class);
+        postCache = new PostCache(mock(RedisTemplate.class), 100, 60, false, 300);
+        postViewCounter = new PostViewCounter(postMapper, postCache, 500);
+    }
+
+    @Test
+    @DisplayName("반영된 증가분은 캐시된 조회 수에 더하고 캐시는 유지한다")
+    void testFlushUpdatesCachedViewCount() {
+        // given
+        postCache.get(1L, id -> post(id, 10));
+        postViewCounter.increment(1L);
+        postViewCounter.increment(1L);
+        postViewCounter.increment(1L);
+
+        // when
+        postViewCounter.flush();
+
+        // then
+        verify(postMapper).updateViewCounts(anyList());
+        assertThat(postViewCounter.pending(1L)).isZero();
+        assertThat(postCache.get(1L, NO_LOAD).getViewCnt()).isEqualTo(13);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 게시글은 증가분만 차감한다")
+    void testFlushWithoutCachedPost() {
+        postViewCounter.increment(2L);
+
+        postViewCounter.flush();
+
+        assertThat(postViewCounter.pending(2L)).isZero();
+        assertThat(postCache.get(2L, id -> post(id, 1)).getViewCnt()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 증가분과 캐시를 그대로 둔다")
+    void testFlushFailureKeepsPending() {
+        // given
+        postCache.get(1L, id -> post(id, 10));
+        postViewCounter.increment(1L);
+        doThrow(new RuntimeException("db down")).when(postMapper).updateViewCounts(anyList());
+
+        // when
+        postViewCounter.flush();
+
+        // then
+        assertThat(postViewCounter.pending(1L)).isEqualTo(1);
+        assertThat(postCache.get(1L, NO_LOAD).getViewCnt()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("캐시된 조회 수와 반영 대기 증가분의 합은 flush 전후로 같다")
+    void testDisplayedCountIsStable() {
+        postCache.get(1L, id -> post(id, 10));
+        postViewCounter.increment(1L);
+        postViewCounter.increment(1L);
+        long before = postCache.get(1L, NO_LOAD).getViewCnt() + postViewCounter.pending(1L);
+
+        postViewCounter.flush();
+
+        long after = postCache.get(1L, NO_LOAD).getViewCnt() + postViewCounter.pending(1L);
+        assertThat(after).isEqualTo(before).isEqualTo(12);
+    }
+
+    private PostResponse post(Long id, int viewCnt) {
+        PostResponse post = new PostResponse();
+        ReflectionTestUtils.setField(post, "id", id);
+        ReflectionTestUtils.setField(post, "viewCnt", viewCnt);
+        return post;
+    }
+}
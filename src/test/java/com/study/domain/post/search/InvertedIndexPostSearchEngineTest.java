@@ -0,0 +1,197 @@
+package com.study.domain.post.search;
+
+import com.study.common.dto.SearchDto;
+import com.study.domain.post.PostMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 메모리 역색인 검색 엔진 테스트
+ */
+@DisplayName("InvertedIndexPostSearchEngine 테스트")
+class InvertedIndexPostSearchEngineTest {
+
+    private InvertedIndexPostSearchEngine searchEngine;
+
+    // 내용 후보 LIKE 확인용 (게시글 ID -> 내용)
+    private final Map<Long, String> contents = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        PostMapper postMapper = mock(PostMapper.class);
+        given(postMapper.findIdsByContentKeyword(anyList(), anyString())).willAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            String keyword = invocation.getArgument(1);
+            return ids.stream()
+                    .filter(id -> contents.get(id).toLowerCase().contains(keyword.toLowerCase()))
+                    .collect(Collectors.toList());
+        });
+        searchEngine = new InvertedIndexPostSearchEngine(postMapper, true, 100, 64);
+        searchEngine.build();
+
+        index(1L, "공지사항 안내", "게시판 이용 규칙입니다.", "관리자");
+        index(2L, "공지 사항 모음", "공지사항은 위에 있습니다.", "홍길동");
+        index(3L, "Spring Boot 질문", "MyBatis 설정 질문입니다.", "김개발");
+    }
+
+    @Test
+    @DisplayName("2-gram 토큰화")
+    void testTokenizer() {
+        assertThat(NGramTokenizer.queryTokens("공지사항")).containsExactly("공지", "지사", "사항");
+        assertThat(NGramTokenizer.queryTokens("Boot boot")).containsExactly("bo", "oo", "ot");
+        assertThat(NGramTokenizer.queryTokens("가")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색 유형의 필드만 검색한다")
+    void testSearchByType() {
+        assertThat(searchEngine.search(search("공지사항", "title")).getIds()).containsExactly(1L);
+        assertThat(searchEngine.search(search("개발", "writer")).getIds()).containsExactly(3L);
+        assertThat(searchEngine.search(search("spring", "title")).getIds()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("LIKE 와 같이 검색어가 연속으로 나타나는 게시글만 반환한다")
+    void testSearchMatchesLikeSemantics() {
+        // 'abba' 는 'abab' 의 2-gram(ab, ba)을 모두 포함하지만 'abab' 가 연속으로 나타나지 않는다.
+        index(4L, "abba 노래 모음", "내용", "작성자");
+        assertThat(searchEngine.search(search("abab", "title")).getIds()).isEmpty();
+        assertThat(searchEngine.search(search("abba", "title")).getIds()).containsExactly(4L);
+        assertThat(searchEngine.search(search("공지사항", "title")).getIds()).containsExactly(1L);
+        // 공백이 포함된 검색어는 공백까지 일치해야 한다.
+        assertThat(searchEngine.search(search("공지 사항", "title")).getIds()).containsExactly(2L);
+        // 한 글자 단어가 섞여 있어도 원문으로 재확인한다.
+        assertThat(searchEngine.search(search("g boot", "title")).getIds()).containsExactly(3L);
+        assertThat(searchEngine.search(search("x boot", "title")).getIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정/삭제가 색인에 반영된다")
+    void testIncrementalUpdate() {
+        index(1L, "운영 안내", "게시판 이용 규칙입니다.", "관리자");
+        searchEngine.remove(2L);
+
+        assertThat(searchEngine.search(search("공지", "title")).getIds()).isEmpty();
+        assertThat(searchEngine.search(search("운영", "title")).getIds()).containsExactly(1L);
+        assertThat(searchEngine.search(search("공지사항", "content")).getIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("내용 후보는 LIKE 로 재확인한 게시글만 반환한다")
+    void testSearchContent() {
+        index(4L, "질문", "사항 공지 순서가 바뀐 글", "작성자");
+
+        assertThat(searchEngine.search(search("공지사항", "content")).getIds()).containsExactly(2L);
+        assertThat(searchEngine.search(search("mybatis", "content")).getIds()).containsExactly(3L);
+        assertThat(searchEngine.search(search("질문", "content")).getIds()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("전체 검색은 제목/내용/작성자 중 하나라도 일치하는 게시글을 반환한다")
+    void testSearchAll() {
+        assertThat(searchEngine.search(search("공지사항", null)).getIds()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(searchEngine.search(search("질문", "")).getIds()).containsExactly(3L);
+        assertThat(searchEngine.search(search("홍길동", null)).getIds()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("내용 후보가 max-hits 를 넘으면 SQL 검색으로 대체한다")
+    void testTooManyContentCandidates() {
+        InvertedIndexPostSearchEngine capped = new InvertedIndexPostSearchEngine(mock(PostMapper.class), true, 10, 64);
+        capped.build();
+        for (long id = 1; id <= 25; id++) {
+            capped.index(id, "안내 " + id, "정기 점검 안내", "관리자");
+        }
+
+        assertThat(capped.search(search("점검", "content"))).isNull();
+        assertThat(capped.search(search("안내", "title")).getIds()).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("수정이 반복되어 문서 번호를 다시 써도 검색 결과가 유지된다")
+    void testCompactAfterManyUpdates() {
+        for (int i = 0; i < 3000; i++) {
+            index(3L, "Spring Boot 질문 " + i, "MyBatis 설정 질문입니다. " + i, "김개발");
+        }
+        index(3L, "Spring Boot 질문 완료", "MyBatis 설정 질문입니다.", "김개발");
+
+        assertThat(searchEngine.search(search("spring", "title")).getIds()).containsExactly(3L);
+        assertThat(searchEngine.search(search("완료", "title")).getIds()).containsExactly(3L);
+        assertThat(searchEngine.search(search("2999", "title")).getIds()).isEmpty();
+        assertThat(searchEngine.search(search("공지사항", null)).getIds()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(searchEngine.search(search("mybatis", "content")).getIds()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("max-hits 로 잘려도 전체 일치 건수를 반환한다")
+    void testTotalCountIsNotCapped() {
+        InvertedIndexPostSearchEngine capped = new InvertedIndexPostSearchEngine(mock(PostMapper.class), true, 10, 64);
+        capped.build();
+        for (long id = 1; id <= 25; id++) {
+            capped.index(id, "정기 점검 안내 " + id, "내용", "관리자");
+        }
+
+        PostSearchResult result = capped.search(search("점검", "title"));
+
+        assertThat(result.getIds()).hasSize(10);
+        assertThat(result.getTotalCount()).isEqualTo(25);
+        assertThat(result.isTruncated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("메모리 한도를 넘으면 색인을 버리고 SQL 검색으로 대체한다")
+    void testDiscardWhenOverBudget() {
+        InvertedIndexPostSearchEngine tiny = new InvertedIndexPostSearchEngine(mock(PostMapper.class), true, 100, 0);
+        tiny.build();
+        assertThat(tiny.supports(search("공지", "title"))).isTrue();
+
+        tiny.index(1L, "공지사항 안내", "내용", "관리자");
+
+        assertThat(tiny.supports(search("공지", "title"))).isFalse();
+        assertThat(tiny.estimatedBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("처리할 수 없는 검색 조건은 SQL 검색으로 대체한다")
+    void testSupports() {
+        assertThat(searchEngine.supports(search("공지", "title"))).isTrue();
+        assertThat(searchEngine.supports(search("공지", "writer"))).isTrue();
+        assertThat(searchEngine.supports(search("공", "title"))).isFalse();
+        assertThat(searchEngine.supports(search("공지%", "title"))).isFalse();
+        assertThat(searchEngine.supports(search("공_지", "title"))).isFalse();
+        assertThat(searchEngine.supports(search("공지", null))).isTrue();
+        assertThat(searchEngine.supports(search("공지", "content"))).isTrue();
+        assertThat(searchEngine.supports(search("공지", "unknown"))).isFalse();
+
+        SearchDto cursor = search("공지", "title");
+        cursor.setCursorId(10L);
+        assertThat(searchEngine.supports(cursor)).isFalse();
+
+        InvertedIndexPostSearchEngine disabled = new InvertedIndexPostSearchEngine(mock(PostMapper.class), false, 100, 64);
+        assertThat(disabled.supports(search("공지", "title"))).isFalse();
+    }
+
+    private void index(Long id, String title, String content, String writer) {
+        contents.put(id, content);
+        searchEngine.index(id, title, content, writer);
+    }
+
+    private SearchDto search(String keyword, String searchType) {
+        SearchDto params = new SearchDto();
+        params.setKeyword(keyword);
+        params.setSearchType(searchType);
+        return params;
+    }
+}
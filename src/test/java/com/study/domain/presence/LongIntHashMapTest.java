@@ -0,0 +1,68 @@
+package com.study.domain.presence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LongIntHashMap 테스트")
+class LongIntHashMapTest {
+
+    @Test
+    @DisplayName("무작위 증감 결과가 HashMap과 일치")
+    void matchesHashMap() {
+        // given
+        LongIntHashMap map = new LongIntHashMap(4);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // when (좁은 키 범위로 충돌과 삭제 후 당김이 자주 일어나게 함)
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(2_000) - 1_000;
+            int delta = random.nextBoolean() ? 1 : -1;
+            int value = expected.getOrDefault(key, 0) + delta;
+            if (value > 0) {
+                expected.put(key, value);
+            } else if (expected.containsKey(key)) {
+                expected.remove(key);
+            } else {
+                value = delta;
+            }
+            assertThat(map.add(key, delta)).isEqualTo(value);
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = -1_000; key < 1_000; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.getOrDefault(key, 0));
+            assertThat(map.containsKey(key)).isEqualTo(expected.containsKey(key));
+        }
+        assertThat(map.keys(Integer.MAX_VALUE)).hasSize(expected.size());
+    }
+
+    @Test
+    @DisplayName("LongObjectHashMap 추가/삭제")
+    void longObjectHashMap() {
+        // given
+        LongObjectHashMap<String> map = new LongObjectHashMap<>(4);
+
+        // when
+        for (long key = 0; key < 100; key++) {
+            map.put(key, "room-" + key);
+        }
+        for (long key = 0; key < 100; key += 2) {
+            map.remove(key);
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(50);
+        assertThat(map.get(0)).isNull();
+        assertThat(map.get(1)).isEqualTo("room-1");
+        assertThat(map.get(98)).isNull();
+        assertThat(map.get(99)).isEqualTo("room-99");
+    }
+}
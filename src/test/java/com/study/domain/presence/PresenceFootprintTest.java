@@ -0,0 +1,56 @@
+package com.study.domain.presence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 접속 상태 메모리 사용량 측정
+ * - 세션마다 연결 1건과 채팅방 구독 1건을 등록하고, 등록 전후 힙 사용량 차이로 세션당 바이트를 계산한다.
+ * - 세션 ID 문자열은 WebSocket 세션이 이미 가지고 있으므로 측정 전에 만들어 두고 제외한다.
+ * - 구독 ID는 프레임마다 새 문자열이므로 포함한다.
+ * TEST_ENV=LOCAL 인 경우에만 실행
+ */
+@DisplayName("접속 상태 메모리 사용량 측정")
+class PresenceFootprintTest {
+
+    private static final int SESSIONS = 1_000_000;
+
+    private static final int USERS = 500_000;
+
+    private static final int ROOMS = 1_000;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue("LOCAL".equalsIgnoreCase(System.getenv("TEST_ENV")));
+    }
+
+    @Test
+    void measureFootprint() {
+        String[] sessionIds = new String[SESSIONS];
+        for (int i = 0; i < SESSIONS; i++) {
+            sessionIds[i] = Integer.toHexString(0x10000000 + i);
+        }
+        long before = usedHeap();
+
+        PresenceService presenceService = new PresenceService(null, null, 60_000, 10_000, false, USERS);
+        for (int i = 0; i < SESSIONS; i++) {
+            presenceService.connect(sessionIds[i], i % USERS, 10_000);
+            presenceService.subscribe(sessionIds[i], new String("sub-0"), "/topic/chat/" + (i % ROOMS));
+        }
+
+        long used = usedHeap() - before;
+        System.out.printf("sessions=%,d, users=%,d, rooms=%,d : %,d bytes (%,d bytes/session), %s%n",
+                SESSIONS, USERS, ROOMS, used, used / SESSIONS, presenceService.stats());
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,171 @@
+package com.study.domain.presence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("PresenceService 테스트")
+class PresenceServiceTest {
+
+    private SimpMessagingTemplate messagingTemplate;
+
+    private PresenceService presenceService;
+
+    @BeforeEach
+    void setUp() {
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        presenceService = new PresenceService(messagingTemplate, null, 50, 10, true, 16);
+    }
+
+    @Test
+    @DisplayName("여러 연결 중 마지막 연결이 끊겨야 오프라인")
+    void onlineUntilLastConnectionCloses() {
+        // given
+        presenceService.connect("s1", 100L, 0);
+        presenceService.connect("s2", 100L, 0);
+
+        // when
+        presenceService.disconnect("s1");
+
+        // then
+        assertThat(presenceService.isOnline(100L)).isTrue();
+        presenceService.disconnect("s2");
+        assertThat(presenceService.isOnline(100L)).isFalse();
+
+        ArgumentCaptor<PresenceEvent> captor = ArgumentCaptor.forClass(PresenceEvent.class);
+        verify(messagingTemplate, times(2)).convertAndSend(eq(PresenceService.USER_EVENT_DESTINATION), captor.capture());
+        assertThat(captor.getAllValues()).extracting(PresenceEvent::getType)
+                .containsExactly(PresenceEvent.Type.ONLINE, PresenceEvent.Type.OFFLINE);
+    }
+
+    @Test
+    @DisplayName("채팅방 구독자 조회 및 입장/퇴장 이벤트")
+    void tracksRoomMembers() {
+        // given
+        presenceService.connect("s1", 100L, 0);
+        presenceService.connect("s2", 200L, 0);
+        presenceService.subscribe("s1", "sub-1", "/topic/chat/7");
+        presenceService.subscribe("s2", "sub-1", "/topic/chat/7");
+        presenceService.subscribe("s2", "sub-2", "/topic/chat/presence");
+
+        // when
+        presenceService.unsubscribe("s1", "sub-1");
+
+        // then
+        assertThat(presenceService.countRoomMembers(7L)).isEqualTo(1);
+        assertThat(presenceService.findRoomMembers(7L, 10)).containsExactly(200L);
+
+        ArgumentCaptor<PresenceEvent> captor = ArgumentCaptor.forClass(PresenceEvent.class);
+        verify(messagingTemplate, times(3)).convertAndSend(eq("/topic/chat/7/presence"), captor.capture());
+        assertThat(captor.getAllValues()).extracting(PresenceEvent::getType)
+                .containsExactly(PresenceEvent.Type.JOIN, PresenceEvent.Type.JOIN, PresenceEvent.Type.LEAVE);
+
+        // 연결 종료 시 남은 구독도 정리
+        presenceService.disconnect("s2");
+        assertThat(presenceService.countRoomMembers(7L)).isZero();
+        assertThat(presenceService.stats()).containsEntry("rooms", 0).containsEntry("onlineUsers", 0);
+    }
+
+    @Test
+    @DisplayName("하트비트를 협상한 세션만 시간 초과로 정리")
+    void evictsIdleSessions() throws InterruptedException {
+        // given (listener는 하트비트 없이 구독만 하는 세션)
+        presenceService.connect("idle", 100L, 10);
+        presenceService.connect("active", 200L, 10);
+        presenceService.connect("listener", 300L, 0);
+        Thread.sleep(40);
+        presenceService.touch("active", 200L, 10);
+        Thread.sleep(20);
+        clearInvocations(messagingTemplate);
+
+        // when
+        presenceService.evictIdleSessions();
+
+        // then
+        assertThat(presenceService.isOnline(Arrays.asList(100L, 200L, 300L)))
+                .containsEntry(100L, false)
+                .containsEntry(200L, true)
+                .containsEntry(300L, true);
+        verify(messagingTemplate).convertAndSend(eq(PresenceService.USER_EVENT_DESTINATION), any(PresenceEvent.class));
+    }
+
+    @Test
+    @DisplayName("정리된 세션에서 메시지가 오면 다시 등록")
+    void reRegistersEvictedSession() throws InterruptedException {
+        // given
+        presenceService.connect("s1", 100L, 10);
+        Thread.sleep(60);
+        presenceService.evictIdleSessions();
+        assertThat(presenceService.isOnline(100L)).isFalse();
+
+        // when
+        presenceService.touch("s1", 100L, 10);
+        presenceService.subscribe("s1", "sub-1", "/topic/chat/7");
+
+        // then
+        assertThat(presenceService.isOnline(100L)).isTrue();
+        assertThat(presenceService.findRoomMembers(7L, 10)).containsExactly(100L);
+        assertThat(presenceService.stats()).containsEntry("sessions", 1);
+
+        // 사용자 키를 모르는 세션은 등록하지 않음
+        presenceService.touch("unknown", -1, 0);
+        assertThat(presenceService.stats()).containsEntry("sessions", 1);
+    }
+
+    @Test
+    @DisplayName("redis 모드에서 다른 노드에 연결이 남아 있으면 오프라인/퇴장 이벤트를 보내지 않음")
+    void suppressesEventsWhileOtherNodeHoldsConnection() {
+        // given (사용자 100은 다른 노드에도 연결되어 있음)
+        RedisPresenceRegistry registry = mock(RedisPresenceRegistry.class);
+        given(registry.update(eq(100L), anyLong(), anyBoolean())).willReturn(true);
+        PresenceService clustered = new PresenceService(messagingTemplate, registry, 50, 10, true, 16);
+        clustered.connect("s1", 100L, 0);
+        clustered.connect("s2", 200L, 0);
+        clustered.subscribe("s1", "sub-1", "/topic/chat/7");
+
+        // when
+        clustered.disconnect("s1");
+        clustered.disconnect("s2");
+
+        // then
+        verify(registry).update(100L, -1, true);
+        verify(registry).update(100L, 7L, true);
+        verify(registry).update(100L, 7L, false);
+        verify(registry).update(100L, -1, false);
+        ArgumentCaptor<PresenceEvent> captor = ArgumentCaptor.forClass(PresenceEvent.class);
+        verify(messagingTemplate, times(2)).convertAndSend(eq(PresenceService.USER_EVENT_DESTINATION), captor.capture());
+        assertThat(captor.getAllValues()).extracting(PresenceEvent::getUserKey).containsOnly(200L);
+        verify(registry, times(2)).relay(eq(PresenceService.USER_EVENT_DESTINATION), any(PresenceEvent.class));
+        verify(messagingTemplate, never()).convertAndSend(eq("/topic/chat/7/presence"), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("채팅방 목적지 해석")
+    void parsesRoomId() {
+        assertThat(PresenceService.roomId("/topic/chat/123")).isEqualTo(123L);
+        assertThat(PresenceService.roomId("/topic/chat/presence")).isEqualTo(-1L);
+        assertThat(PresenceService.roomId("/topic/chat/1/presence")).isEqualTo(-1L);
+        assertThat(PresenceService.roomId("/topic/chat/")).isEqualTo(-1L);
+        assertThat(PresenceService.roomId("/topic/notice/1")).isEqualTo(-1L);
+        assertThat(PresenceService.isEventDestination("/topic/chat/presence")).isTrue();
+        assertThat(PresenceService.isEventDestination("/topic/chat/1/presence")).isTrue();
+        assertThat(PresenceService.isEventDestination("/topic/chat/1")).isFalse();
+        verify(messagingTemplate, never()).convertAndSend(any(String.class), any(Object.class));
+    }
+}
@@ -0,0 +1,84 @@
+package com.study.domain.session;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SessionStoreCircuitBreaker 테스트")
+class SessionStoreCircuitBreakerTest {
+
+    @Test
+    @DisplayName("연속 실패 시 열림")
+    void opensAfterConsecutiveFailures() {
+        // given
+        SessionStoreCircuitBreaker circuitBreaker = new SessionStoreCircuitBreaker(3, 60_000);
+
+        // when
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordSuccess();
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+
+        // then
+        assertThat(circuitBreaker.allowRequest()).isTrue();
+
+        circuitBreaker.recordFailure();
+        assertThat(circuitBreaker.getState()).isEqualTo(SessionStoreCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.allowRequest()).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기 시간 후 한 요청만 시험 호출")
+    void allowsSingleTrialAfterOpenPeriod() throws InterruptedException {
+        // given
+        SessionStoreCircuitBreaker circuitBreaker = new SessionStoreCircuitBreaker(1, 10);
+        circuitBreaker.recordFailure();
+        Thread.sleep(20);
+
+        // when & then
+        assertThat(circuitBreaker.allowRequest()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(SessionStoreCircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.allowRequest()).isFalse();
+
+        circuitBreaker.recordSuccess();
+        assertThat(circuitBreaker.isClosed()).isTrue();
+        assertThat(circuitBreaker.allowRequest()).isTrue();
+    }
+
+    @Test
+    @DisplayName("장애와 무관한 오류는 성공으로 세지 않고, 시험 호출이었다면 다음 요청이 다시 시험 호출")
+    void ignoredErrorDoesNotClose() throws InterruptedException {
+        // given
+        SessionStoreCircuitBreaker circuitBreaker = new SessionStoreCircuitBreaker(1, 10);
+        circuitBreaker.recordFailure();
+        Thread.sleep(20);
+        assertThat(circuitBreaker.allowRequest()).isTrue();
+
+        // when
+        circuitBreaker.recordIgnored();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(SessionStoreCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.allowRequest()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(SessionStoreCircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    @DisplayName("시험 호출 실패 시 다시 열림")
+    void reopensWhenTrialFails() throws InterruptedException {
+        // given
+        SessionStoreCircuitBreaker circuitBreaker = new SessionStoreCircuitBreaker(1, 10);
+        circuitBreaker.recordFailure();
+        Thread.sleep(20);
+        assertThat(circuitBreaker.allowRequest()).isTrue();
+
+        // when
+        circuitBreaker.recordFailure();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(SessionStoreCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.allowRequest()).isFalse();
+    }
+}
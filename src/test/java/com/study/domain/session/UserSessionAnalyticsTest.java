@@ -0,0 +1,48 @@
+package com.study.domain.session;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UserSessionAnalytics 테스트")
+class UserSessionAnalyticsTest {
+
+    @Test
+    @DisplayName("브라우저 종류 판별")
+    void userAgentFamily() {
+        assertThat(UserSessionAnalytics.userAgentFamily(
+                "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0 Safari/537.36 Edg/120.0"))
+                .isEqualTo("Edge");
+        assertThat(UserSessionAnalytics.userAgentFamily(
+                "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0 Safari/537.36"))
+                .isEqualTo("Chrome");
+        assertThat(UserSessionAnalytics.userAgentFamily(
+                "Mozilla/5.0 (iPhone; CPU iPhone OS 17_0 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.0 Mobile/15E148 Safari/604.1"))
+                .isEqualTo("Safari");
+        assertThat(UserSessionAnalytics.userAgentFamily("Mozilla/5.0 (X11; Linux x86_64; rv:120.0) Gecko/20100101 Firefox/120.0"))
+                .isEqualTo("Firefox");
+        assertThat(UserSessionAnalytics.userAgentFamily("Googlebot/2.1 (+http://www.google.com/bot.html)")).isEqualTo("Bot");
+        assertThat(UserSessionAnalytics.userAgentFamily("curl/8.0.1")).isEqualTo("Client");
+        assertThat(UserSessionAnalytics.userAgentFamily(null)).isEqualTo("unknown");
+    }
+
+    @Test
+    @DisplayName("IP 대역 계산")
+    void ipPrefix() {
+        assertThat(UserSessionAnalytics.ipPrefix("192.168.1.23")).isEqualTo("192.168.1.0/24");
+        assertThat(UserSessionAnalytics.ipPrefix("10.0.0.5, 172.16.0.1")).isEqualTo("10.0.0.0/24");
+        assertThat(UserSessionAnalytics.ipPrefix("2001:db8:85a3:8d3:1319:8a2e:370:7348")).isEqualTo("2001:db8:85a3:8d3::/64");
+        assertThat(UserSessionAnalytics.ipPrefix("2001:db8::1")).isEqualTo("2001:db8:0:0::/64");
+        assertThat(UserSessionAnalytics.ipPrefix("2001:DB8:0:0:1::1")).isEqualTo("2001:db8:0:0::/64");
+        assertThat(UserSessionAnalytics.ipPrefix("2001:0db8:0000:0042::8a2e")).isEqualTo("2001:db8:0:42::/64");
+        assertThat(UserSessionAnalytics.ipPrefix("::1")).isEqualTo("0:0:0:0::/64");
+        assertThat(UserSessionAnalytics.ipPrefix("::")).isEqualTo("0:0:0:0::/64");
+        assertThat(UserSessionAnalytics.ipPrefix("fe80::1%eth0")).isEqualTo("fe80:0:0:0::/64");
+        assertThat(UserSessionAnalytics.ipPrefix("[2001:db8::1]")).isEqualTo("2001:db8:0:0::/64");
+        assertThat(UserSessionAnalytics.ipPrefix("::ffff:192.0.2.1")).isEqualTo("0:0:0:0::/64");
+        assertThat(UserSessionAnalytics.ipPrefix("2001:db8::1::2")).isEqualTo("unknown");
+        assertThat(UserSessionAnalytics.ipPrefix("2001:db8:1")).isEqualTo("unknown");
+        assertThat(UserSessionAnalytics.ipPrefix("")).isEqualTo("unknown");
+    }
+}
@@ -0,0 +1,129 @@
+package com.study.domain.session;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("UserSessionFallbackStore 테스트")
+class UserSessionFallbackStoreTest {
+
+    private UserSessionFallbackStore fallbackStore;
+
+    @BeforeEach
+    void setUp() {
+        fallbackStore = new UserSessionFallbackStore(100, 100, 1800);
+    }
+
+    @Test
+    @DisplayName("장애 중 저장/삭제한 세션은 발생 순서대로 반영 대기 목록에 남는다")
+    void tracksPendingChangesInOrder() {
+        // given
+        UserSession session = UserSession.builder().userKey(1L).username("user").build();
+
+        // when
+        fallbackStore.deleted("session-3");
+        fallbackStore.saved("session-1", session);
+        fallbackStore.put("session-2", UserSession.builder().userKey(1L).build());
+
+        // then
+        assertThat(fallbackStore.get("session-1")).isNotSameAs(session).extracting(UserSession::getUsername).isEqualTo("user");
+        assertThat(fallbackStore.findSessionIds(1L)).containsExactlyInAnyOrder("session-1", "session-2");
+        assertThat(fallbackStore.pendingSessions())
+                .extracting(UserSessionFallbackStore.PendingSession::getSessionId, UserSessionFallbackStore.PendingSession::isSave)
+                .containsExactly(tuple("session-3", false), tuple("session-1", true));
+    }
+
+    @Test
+    @DisplayName("로컬 사본이 제거되어도 반영 대기 중인 저장은 세션 값을 유지한다")
+    void pendingSaveSurvivesCopyRemoval() {
+        // given
+        UserSession session = UserSession.builder().userKey(1L).username("user").build();
+        fallbackStore.saved("session-1", session);
+
+        // when - 다른 노드의 무효화 메시지 또는 크기 제한으로 사본이 제거된다.
+        fallbackStore.remove("session-1");
+
+        // then
+        assertThat(fallbackStore.get("session-1")).isNull();
+        List<UserSessionFallbackStore.PendingSession> pending = fallbackStore.pendingSessions();
+        assertThat(pending).hasSize(1);
+        assertThat(pending.get(0).getUserSession().getUsername()).isEqualTo("user");
+    }
+
+    @Test
+    @DisplayName("저장한 세션이나 조회한 세션을 바꿔도 보관한 값은 바뀌지 않는다")
+    void keepsCopies() {
+        // given
+        UserSession session = UserSession.builder().userKey(1L).username("user").roles(new String[]{"USER"}).build();
+        fallbackStore.saved("session-1", session);
+
+        // when
+        session.setUsername("changed");
+        session.getRoles()[0] = "ADMIN";
+        fallbackStore.get("session-1").setUserKey(2L);
+
+        // then
+        UserSession stored = fallbackStore.get("session-1");
+        assertThat(stored.getUserKey()).isEqualTo(1L);
+        assertThat(stored.getUsername()).isEqualTo("user");
+        assertThat(stored.getRoles()).containsExactly("USER");
+        assertThat(fallbackStore.pendingSessions().get(0).getUserSession().getUsername()).isEqualTo("user");
+    }
+
+    @Test
+    @DisplayName("반영 중 같은 세션에 새 작업이 생기면 완료 처리하지 않는다")
+    void completePendingKeepsNewerChange() {
+        // given
+        fallbackStore.saved("session-1", UserSession.builder().userKey(1L).build());
+        UserSessionFallbackStore.PendingSession replayed = fallbackStore.pendingSessions().get(0);
+
+        // when
+        fallbackStore.deleted("session-1");
+
+        // then
+        assertThat(fallbackStore.completePending(replayed)).isFalse();
+        List<UserSessionFallbackStore.PendingSession> pending = fallbackStore.pendingSessions();
+        assertThat(pending).hasSize(1);
+        assertThat(pending.get(0).isSave()).isFalse();
+        assertThat(fallbackStore.completePending(pending.get(0))).isTrue();
+        assertThat(fallbackStore.hasPending()).isFalse();
+    }
+
+    @Test
+    @DisplayName("사용자 전체 삭제는 사본과 아직 반영하지 않은 세션 저장을 함께 취소한다")
+    void userDeletedCancelsPendingSaves() {
+        // given
+        fallbackStore.saved("session-1", UserSession.builder().userKey(1L).build());
+        fallbackStore.saved("session-2", UserSession.builder().userKey(2L).build());
+        fallbackStore.deleted("session-3");
+
+        // when
+        fallbackStore.userDeleted(1L);
+
+        // then
+        assertThat(fallbackStore.findSessionIds(1L)).isEmpty();
+        assertThat(fallbackStore.pendingUserDeletes()).containsExactly(1L);
+        assertThat(fallbackStore.pendingSessions())
+                .extracting(UserSessionFallbackStore.PendingSession::getSessionId)
+                .containsExactly("session-2", "session-3");
+    }
+
+    @Test
+    @DisplayName("반영 대기 목록이 가득 차면 새 세션은 기록하지 않는다")
+    void dropsWhenPendingIsFull() {
+        UserSessionFallbackStore small = new UserSessionFallbackStore(100, 1, 1800);
+
+        small.saved("session-1", UserSession.builder().userKey(1L).build());
+        small.saved("session-2", UserSession.builder().userKey(1L).build());
+        small.deleted("session-1");
+
+        assertThat(small.pendingSessions())
+                .extracting(UserSessionFallbackStore.PendingSession::getSessionId, UserSessionFallbackStore.PendingSession::isSave)
+                .containsExactly(tuple("session-1", false));
+    }
+}
@@ -0,0 +1,130 @@
+package com.study.domain.session;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 사용자 세션 근거리 캐시 테스트
+ */
+@DisplayName("UserSessionNearCache 테스트")
+class UserSessionNearCacheTest {
+
+    private RedisTemplate<String, Object> redisTemplate;
+    private SessionStoreCircuitBreaker circuitBreaker;
+    private UserSessionFallbackStore fallbackStore;
+    private UserSessionNearCache nearCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        doReturn(new StringRedisSerializer()).when(redisTemplate).getValueSerializer();
+        circuitBreaker = new SessionStoreCircuitBreaker(1, 60_000);
+        fallbackStore = mock(UserSessionFallbackStore.class);
+        nearCache = new UserSessionNearCache(redisTemplate, mock(RedisMessageListenerContainer.class),
+                circuitBreaker, fallbackStore, true, 100, 60);
+    }
+
+    @Test
+    @DisplayName("조회 결과를 수정해도 캐시된 세션은 바뀌지 않는다")
+    void testGetReturnsCopy() {
+        // given
+        nearCache.put("s1", session("USER"));
+
+        // when
+        UserSession first = nearCache.get("s1");
+        first.setUsername("changed");
+        first.getRoles()[0] = "ADMIN";
+
+        // then
+        UserSession second = nearCache.get("s1");
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getUsername()).isEqualTo("testuser");
+        assertThat(second.getRoles()).containsExactly("USER");
+    }
+
+    @Test
+    @DisplayName("저장한 객체를 나중에 수정해도 캐시된 세션은 바뀌지 않는다")
+    void testPutStoresCopy() {
+        UserSession userSession = session("USER");
+        nearCache.update("s1", userSession);
+
+        userSession.setIpAddress("10.0.0.1");
+
+        assertThat(nearCache.get("s1").getIpAddress()).isEqualTo("127.0.0.1");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 로컬 캐시와 대체 저장소 사본을 지운다")
+    void testInvalidationFromOtherNode() {
+        // given
+        nearCache.put("s1", session("USER"));
+
+        // when
+        nearCache.onMessage(message("other-node|s1"), null);
+
+        // then
+        assertThat(nearCache.get("s1")).isNull();
+        verify(fallbackStore).remove("s1");
+    }
+
+    @Test
+    @DisplayName("자신이 보낸 무효화 메시지는 무시한다")
+    void testIgnoresOwnInvalidation() {
+        // given - update 가 발행한 메시지를 그대로 되돌려 받는다.
+        nearCache.update("s1", session("USER"));
+        ArgumentCaptor<Object> published = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate).convertAndSend(eq(UserSessionNearCache.INVALIDATION_CHANNEL), published.capture());
+
+        // when
+        nearCache.onMessage(message((String) published.getValue()), null);
+
+        // then
+        assertThat(nearCache.get("s1")).isNotNull();
+        verify(fallbackStore, never()).remove(anyString());
+    }
+
+    @Test
+    @DisplayName("세션 저장소 회로가 열려 있으면 무효화 메시지를 보내지 않는다")
+    void testNoPublishWhileCircuitOpen() {
+        circuitBreaker.recordFailure();
+
+        nearCache.invalidate("s1");
+
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+    }
+
+    private DefaultMessage message(String payload) {
+        return new DefaultMessage(UserSessionNearCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private UserSession session(String role) {
+        return UserSession.builder()
+                .userKey(1L)
+                .username("testuser")
+                .roles(new String[]{role})
+                .createdAt(LocalDateTime.now())
+                .lastAccessedAt(LocalDateTime.now())
+                .ipAddress("127.0.0.1")
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.study.domain.session;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 복제본 읽기 구성 테스트
+ * 로컬 Redis 하나를 마스터와 복제본으로 함께 지정하여 마스터/복제본 연결 및 읽기 경로를 확인한다.
+ */
+@SpringBootTest(properties = "board.redis.replicas=${spring.redis.host}:${spring.redis.port}")
+@DisplayName("UserSessionService 복제본 읽기 테스트")
+class UserSessionReplicaReadTest {
+
+    @Autowired
+    private UserSessionService userSessionService;
+
+    @Autowired
+    private UserSessionNearCache userSessionNearCache;
+
+    @Test
+    @DisplayName("복제본 구성에서 세션 조회/존재 확인")
+    void readsThroughReplica() {
+        // given
+        String sessionId = "test-session-" + UUID.randomUUID();
+        userSessionService.saveSession(sessionId, UserSession.builder()
+                .userKey(12345L)
+                .username("testuser")
+                .roles(new String[]{"USER"})
+                .createdAt(LocalDateTime.now())
+                .build());
+        userSessionNearCache.invalidate(sessionId);
+
+        // when
+        Optional<UserSession> session = userSessionService.getSession(sessionId);
+
+        // then
+        assertThat(session).isPresent();
+        assertThat(session.get().getUsername()).isEqualTo("testuser");
+        assertThat(userSessionService.existsSession(sessionId)).isTrue();
+        assertThat(userSessionService.existsSession("non-existent-" + UUID.randomUUID())).isFalse();
+
+        // cleanup
+        userSessionService.deleteSession(sessionId);
+    }
+}
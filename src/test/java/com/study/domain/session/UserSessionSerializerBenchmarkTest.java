@@ -0,0 +1,59 @@
+package com.study.domain.session;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * UserSession 직렬화 형식별 비교 (bytes, ns/op)
+ * TEST_ENV=LOCAL 인 경우에만 실행
+ */
+@DisplayName("UserSession 직렬화 벤치마크")
+class UserSessionSerializerBenchmarkTest {
+
+    private static final int WARMUP = 200_000;
+
+    private static final int ITERATIONS = 1_000_000;
+
+    private UserSession session;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue("LOCAL".equalsIgnoreCase(System.getenv("TEST_ENV")));
+        session = UserSessionSerializerTest.sampleSession();
+    }
+
+    @Test
+    void compareFormats() {
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer(UserSessionSerializerTest.objectMapper());
+        measure("json", json);
+        measure("binary", new UserSessionSerializer(json, true));
+    }
+
+    private void measure(String format, RedisSerializer<Object> serializer) {
+        byte[] bytes = serializer.serialize(session);
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += serializer.deserialize(serializer.serialize(session)).hashCode();
+        }
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += serializer.serialize(session).length;
+        }
+        long serializeNanos = System.nanoTime() - startedAt;
+
+        startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += serializer.deserialize(bytes).hashCode();
+        }
+        long deserializeNanos = System.nanoTime() - startedAt;
+
+        System.out.printf("%-6s : %4d bytes, serialize %6.1f ns/op, deserialize %6.1f ns/op (sink=%d)%n",
+                format, bytes.length, (double) serializeNanos / ITERATIONS, (double) deserializeNanos / ITERATIONS, sink);
+    }
+}
@@ -0,0 +1,128 @@
+package com.study.domain.session;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UserSessionSerializer 테스트")
+class UserSessionSerializerTest {
+
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer(objectMapper());
+
+    private final UserSessionSerializer serializer = new UserSessionSerializer(json, true);
+
+    @Test
+    @DisplayName("바이너리 형식 저장/조회")
+    void roundTrip() {
+        // given
+        UserSession session = sampleSession();
+
+        // when
+        byte[] bytes = serializer.serialize(session);
+        UserSession restored = (UserSession) serializer.deserialize(bytes);
+
+        // then
+        assertThat(bytes[0]).isEqualTo(UserSessionSerializer.MAGIC);
+        assertThat(bytes.length).isLessThan(json.serialize(session).length / 2);
+        assertThat(restored).usingRecursiveComparison().isEqualTo(session);
+    }
+
+    @Test
+    @DisplayName("null 필드와 목록에 없는 권한")
+    void nullFieldsAndUnknownRole() {
+        // given
+        UserSession session = UserSession.builder()
+                .roles(new String[]{"USER", "MANAGER"})
+                .build();
+
+        // when
+        UserSession restored = (UserSession) serializer.deserialize(serializer.serialize(session));
+
+        // then
+        assertThat(restored.getUserKey()).isNull();
+        assertThat(restored.getCreatedAt()).isNull();
+        assertThat(restored.getUsername()).isNull();
+        assertThat(restored.getRoles()).containsExactly("USER", "MANAGER");
+    }
+
+    @Test
+    @DisplayName("기존 JSON 세션 값 조회")
+    void readsLegacyJson() {
+        // given
+        UserSession session = sampleSession();
+        byte[] legacy = json.serialize(session);
+
+        // when
+        Object restored = serializer.deserialize(legacy);
+
+        // then
+        assertThat(restored).isInstanceOf(UserSession.class);
+        assertThat(restored).usingRecursiveComparison().isEqualTo(session);
+    }
+
+    @Test
+    @DisplayName("UserSession 이외의 값은 JSON으로 저장")
+    void delegatesOtherValues() {
+        assertThat(serializer.serialize("value")).isEqualTo(json.serialize("value"));
+        assertThat(serializer.deserialize(json.serialize("value"))).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("Lua 스크립트가 정확히 읽을 수 없는 userKey(음수, 2^53 초과)는 JSON으로 저장")
+    void writesJsonForUserKeysOutsideLuaRange() {
+        for (long userKey : new long[]{-1L, UserSessionSerializer.MAX_BINARY_USER_KEY + 1, Long.MAX_VALUE}) {
+            UserSession session = sampleSession();
+            session.setUserKey(userKey);
+
+            byte[] bytes = serializer.serialize(session);
+
+            assertThat(bytes).isEqualTo(json.serialize(session));
+            assertThat(((UserSession) serializer.deserialize(bytes)).getUserKey()).isEqualTo(userKey);
+        }
+        UserSession session = sampleSession();
+        session.setUserKey(UserSessionSerializer.MAX_BINARY_USER_KEY);
+        assertThat(serializer.serialize(session)[0]).isEqualTo(UserSessionSerializer.MAGIC);
+    }
+
+    @Test
+    @DisplayName("바이너리 저장 비활성화 시 JSON으로 저장")
+    void writesJsonWhenDisabled() {
+        UserSessionSerializer readOnly = new UserSessionSerializer(json, false);
+        assertThat(readOnly.serialize(sampleSession())).isEqualTo(json.serialize(sampleSession()));
+    }
+
+    static UserSession sampleSession() {
+        LocalDateTime time = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_000_000);
+        return UserSession.builder()
+                .userKey(12345L)
+                .username("testuser")
+                .roles(new String[]{"USER", "ADMIN"})
+                .createdAt(time)
+                .lastAccessedAt(time.plusMinutes(5))
+                .ipAddress("127.0.0.1")
+                .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
+                .metadata("{\"device\":\"desktop\"}")
+                .build();
+    }
+
+    /**
+     * RedisConfig의 값 직렬화 설정과 동일
+     */
+    static ObjectMapper objectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance,
+                ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        return objectMapper;
+    }
+}
@@ -7,11 +7,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.RedisTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 /**
  * 사용자 세션 서비스 테스트
@@ -24,9 +30,18 @@ class UserSessionServiceTest {
     @Autowired
     private UserSessionService userSessionService;
 
+    @Autowired
+    private UserSessionNearCache userSessionNearCache;
+
     @Autowired
     private RedisTemplate<String, Object> redisTemplate;
 
+    @Autowired
+    private SessionStoreCircuitBreaker circuitBreaker;
+
+    @Autowired
+    private UserSessionFallbackStore fallbackStore;
+
     private String testSessionId;
     private UserSession testUserSession;
 
@@ -187,4 +202,174 @@ class UserSessionServiceTest {
         userSessionService.deleteSession(sessionId1);
         userSessionService.deleteSession(sessionId2);
     }
+
+    @Test
+    @DisplayName("사용자별 세션 목록 조회 테스트")
+    void testGetUserSessions() {
+        // given
+        Long userKey = 900000L + (long) (Math.random() * 100000);
+        String sessionId1 = "test-session-1-" + UUID.randomUUID();
+        String sessionId2 = "test-session-2-" + UUID.randomUUID();
+        String otherSessionId = "test-session-other-" + UUID.randomUUID();
+
+        userSessionService.saveSession(sessionId1, UserSession.builder().userKey(userKey).username("user").build());
+        userSessionService.saveSession(sessionId2, UserSession.builder().userKey(userKey).username("user").build());
+        userSessionService.saveSession(otherSessionId, UserSession.builder().userKey(userKey + 1).username("other").build());
+
+        // when
+        Set<String> sessionIds = userSessionService.getUserSessions(userKey);
+
+        // then
+        assertThat(sessionIds).containsExactlyInAnyOrder(sessionId1, sessionId2);
+
+        // cleanup
+        userSessionService.deleteAllUserSessions(userKey);
+        userSessionService.deleteAllUserSessions(userKey + 1);
+    }
+
+    @Test
+    @DisplayName("만료된 세션 ID 정리 테스트")
+    void testGetUserSessionsRemovesExpired() {
+        // given
+        Long userKey = testUserSession.getUserKey();
+        userSessionService.saveSession(testSessionId, testUserSession);
+        redisTemplate.delete("boardpractice:user:session:" + testSessionId); // TTL 만료와 동일한 상태
+
+        // when
+        Set<String> sessionIds = userSessionService.getUserSessions(userKey);
+
+        // then
+        assertThat(sessionIds).doesNotContain(testSessionId);
+        assertThat(redisTemplate.opsForSet().isMember("boardpractice:user:sessions:" + userKey, testSessionId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("사용자 모든 세션 삭제 테스트")
+    void testDeleteAllUserSessions() {
+        // given
+        Long userKey = 800000L + (long) (Math.random() * 100000);
+        String sessionId = "test-session-" + UUID.randomUUID();
+        String otherSessionId = "test-session-other-" + UUID.randomUUID();
+        userSessionService.saveSession(sessionId, UserSession.builder().userKey(userKey).username("user").build());
+        userSessionService.saveSession(otherSessionId, UserSession.builder().userKey(userKey + 1).username("other").build());
+
+        // when
+        userSessionService.deleteAllUserSessions(userKey);
+
+        // then
+        assertThat(userSessionService.existsSession(sessionId)).isFalse();
+        assertThat(userSessionService.getUserSessions(userKey)).isEmpty();
+        assertThat(userSessionService.existsSession(otherSessionId)).isTrue();
+
+        // cleanup
+        userSessionService.deleteAllUserSessions(userKey + 1);
+    }
+
+    @Test
+    @DisplayName("세션 조회 시 마지막 접근 시간 저장 테스트")
+    void testGetSessionPersistsLastAccessedAt() {
+        // given
+        LocalDateTime before = LocalDateTime.now().minusMinutes(10);
+        userSessionService.saveSession(testSessionId, testUserSession);
+        testUserSession.setLastAccessedAt(before);
+        redisTemplate.opsForValue().set("boardpractice:user:session:" + testSessionId, testUserSession);
+        userSessionNearCache.invalidate(testSessionId);
+
+        // when
+        Optional<UserSession> session = userSessionService.getSession(testSessionId);
+        userSessionService.flushTouches();
+
+        // then
+        assertThat(session).isPresent();
+        UserSession stored = (UserSession) redisTemplate.opsForValue().get("boardpractice:user:session:" + testSessionId);
+        assertThat(stored.getLastAccessedAt()).isAfter(before);
+        assertThat(stored.getUsername()).isEqualTo("testuser");
+        assertThat(redisTemplate.getExpire("boardpractice:user:session:" + testSessionId)).isPositive();
+
+        // cleanup
+        userSessionService.deleteSession(testSessionId);
+    }
+
+    @Test
+    @DisplayName("여러 세션 일괄 확인/연장 테스트")
+    void testBulkExistsAndExtend() {
+        // given
+        userSessionService.saveSession(testSessionId, testUserSession);
+        String missingSessionId = "non-existent-" + UUID.randomUUID();
+
+        // when
+        Map<String, Boolean> exists = userSessionService.existsSessions(Arrays.asList(testSessionId, missingSessionId));
+        int extended = userSessionService.extendSessions(Arrays.asList(testSessionId, missingSessionId));
+
+        // then
+        assertThat(exists).containsEntry(testSessionId, true).containsEntry(missingSessionId, false);
+        assertThat(extended).isEqualTo(1);
+
+        // cleanup
+        userSessionService.deleteSession(testSessionId);
+    }
+
+    @Test
+    @DisplayName("TTL이 충분히 남은 세션 조회 시 쓰기 생략 테스트")
+    void testGetSessionSkipsFreshTouch() {
+        // given
+        userSessionService.saveSession(testSessionId, testUserSession);
+        String key = "boardpractice:user:session:" + testSessionId;
+        redisTemplate.expire(key, Duration.ofSeconds(1700));
+        userSessionNearCache.invalidate(testSessionId);
+
+        // when
+        Optional<UserSession> session = userSessionService.getSession(testSessionId);
+
+        // then
+        assertThat(session).isPresent();
+        assertThat(redisTemplate.getExpire(key)).isLessThanOrEqualTo(1700);
+
+        // 모아 둔 접근 시간은 저장하되, 연장 기준이 지나지 않았으므로 TTL은 그대로 둔다.
+        userSessionService.flushTouches();
+        assertThat(redisTemplate.getExpire(key)).isLessThanOrEqualTo(1700).isPositive();
+        UserSession stored = (UserSession) redisTemplate.opsForValue().get(key);
+        assertThat(stored.getLastAccessedAt()).isCloseTo(session.get().getLastAccessedAt(), within(1, ChronoUnit.MILLIS));
+
+        // cleanup
+        userSessionService.deleteSession(testSessionId);
+    }
+
+    @Test
+    @DisplayName("장애 중 세션 변경은 로컬에 보관했다가 복구 후 순서대로 반영 테스트")
+    void testReconcileAfterOutage() {
+        // given - Redis 장애로 회로가 열린 상태
+        String savedThenDeleted = testSessionId + "-a";
+        String savedOnly = testSessionId + "-b";
+        String copyEvicted = testSessionId + "-c";
+        while (circuitBreaker.isClosed()) {
+            circuitBreaker.recordFailure();
+        }
+
+        // when - 장애 중 저장/삭제
+        userSessionService.saveSession(savedThenDeleted, testUserSession);
+        userSessionService.saveSession(savedOnly, testUserSession);
+        userSessionService.saveSession(copyEvicted, testUserSession);
+        userSessionService.deleteSession(savedThenDeleted);
+        fallbackStore.remove(copyEvicted);  // 다른 노드의 무효화 메시지 등으로 로컬 사본만 사라진 경우
+
+        // then - Redis에는 아직 반영되지 않는다.
+        assertThat(userSessionService.getSession(savedOnly)).isPresent();
+        assertThat(redisTemplate.hasKey("boardpractice:user:session:" + savedOnly)).isFalse();
+
+        // when - Redis 복구 후 반영
+        circuitBreaker.recordSuccess();
+        userSessionService.reconcile();
+
+        // then
+        assertThat(fallbackStore.hasPending()).isFalse();
+        assertThat(redisTemplate.hasKey("boardpractice:user:session:" + savedThenDeleted)).isFalse();
+        assertThat(redisTemplate.hasKey("boardpractice:user:session:" + savedOnly)).isTrue();
+        assertThat(redisTemplate.hasKey("boardpractice:user:session:" + copyEvicted)).isTrue();
+        assertThat(userSessionService.getUserSessions(12345L)).contains(savedOnly, copyEvicted).doesNotContain(savedThenDeleted);
+
+        // cleanup
+        userSessionService.deleteSession(savedOnly);
+        userSessionService.deleteSession(copyEvicted);
+    }
 }
@@ -0,0 +1,71 @@
+package com.study.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JwtAuthenticationFilter 테스트")
+class JwtAuthenticationFilterTest {
+
+  private final Jwt jwt = new Jwt("BoardTest", "clientSecret", 20, 3600);
+
+  private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(new JwtTokenCache(jwt, 100, 3600));
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  @DisplayName("액세스 토큰의 roles를 ROLE_ 권한으로 등록")
+  void authenticatesAccessToken() throws Exception {
+    // given
+    String token = jwt.sign(Jwt.Claims.of(1L, "admin", new String[]{"ADMIN"}));
+
+    // when
+    Authentication authentication = filter("Bearer " + token);
+
+    // then
+    assertThat(authentication).isNotNull();
+    assertThat(authentication.getPrincipal()).isEqualTo(1L);
+    assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+  }
+
+  @Test
+  @DisplayName("리프레시 토큰과 유효하지 않은 토큰은 인증하지 않음")
+  void ignoresRefreshAndInvalidTokens() throws Exception {
+    String refreshToken = jwt.signRefresh(Jwt.Claims.of(1L, "admin", new String[]{"ADMIN"}, "session-1"));
+
+    assertThat(filter("Bearer " + refreshToken)).isNull();
+    assertThat(filter("Bearer invalid")).isNull();
+    assertThat(filter(null)).isNull();
+  }
+
+  // 필터를 실행하고, 다음 필터에서 보이는 인증 정보를 반환
+  private Authentication filter(String authorization) throws Exception {
+    SecurityContextHolder.clearContext();
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/session/admin/stats");
+    if (authorization != null) {
+      request.addHeader("Authorization", authorization);
+    }
+    Authentication[] seen = new Authentication[1];
+    filter.doFilter(request, new MockHttpServletResponse(),
+        new MockFilterChain() {
+          @Override
+          public void doFilter(ServletRequest req, ServletResponse res) {
+            seen[0] = SecurityContextHolder.getContext().getAuthentication();
+          }
+        });
+    return seen[0];
+  }
+}
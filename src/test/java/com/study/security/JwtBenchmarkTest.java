@@ -0,0 +1,94 @@
+package com.study.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Date;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * JWT 서명/검증 알고리즘별 비교 (ops/sec)
+ * TEST_ENV=LOCAL 인 경우에만 실행
+ */
+@DisplayName("JWT 서명/검증 벤치마크")
+class JwtBenchmarkTest {
+
+  private static final long WARMUP_MILLIS = 2_000;
+
+  private static final long MEASURE_MILLIS = 3_000;
+
+  private static final String[] ROLES = {"USER"};
+
+  @BeforeEach
+  void setUp() {
+    assumeTrue("LOCAL".equalsIgnoreCase(System.getenv("TEST_ENV")));
+  }
+
+  @Test
+  void compareAlgorithms() throws Exception {
+    Jwt jwt = new Jwt("BoardTest", "clientSecret", 3600);
+    Jwt.Claims claims = Jwt.Claims.of(12345L, "tester", ROLES);
+    String token = jwt.sign(claims);
+    measure("Jwt.sign (HS512)", () -> jwt.sign(claims));
+    measure("Jwt.verify (HS512)", () -> jwt.verify(token));
+
+    measure("HS256", Algorithm.HMAC256("clientSecret"));
+    measure("HS512", Algorithm.HMAC512("clientSecret"));
+
+    KeyPairGenerator rsa = KeyPairGenerator.getInstance("RSA");
+    rsa.initialize(2048);
+    KeyPair rsaKeys = rsa.generateKeyPair();
+    measure("RS256", Algorithm.RSA256((RSAPublicKey) rsaKeys.getPublic(), (RSAPrivateKey) rsaKeys.getPrivate()));
+
+    KeyPairGenerator ec = KeyPairGenerator.getInstance("EC");
+    ec.initialize(256);
+    KeyPair ecKeys = ec.generateKeyPair();
+    measure("ES256", Algorithm.ECDSA256((ECPublicKey) ecKeys.getPublic(), (ECPrivateKey) ecKeys.getPrivate()));
+  }
+
+  /**
+   * JWTCreator로 발급/검증 (라이브러리 기본 경로)
+   */
+  private void measure(String name, Algorithm algorithm) {
+    JWTVerifier verifier = JWT.require(algorithm).withIssuer("BoardTest").build();
+    Supplier<String> sign = () -> JWT.create()
+        .withIssuer("BoardTest")
+        .withClaim("userKey", 12345L)
+        .withArrayClaim("roles", ROLES)
+        .withIssuedAt(new Date())
+        .withExpiresAt(new Date(System.currentTimeMillis() + 3_600_000L))
+        .sign(algorithm);
+    String token = sign.get();
+    measure("JWTCreator.sign (" + name + ")", sign);
+    measure("JWTVerifier.verify (" + name + ")", () -> verifier.verify(token));
+  }
+
+  private void measure(String name, Supplier<?> operation) {
+    long sink = run(operation, WARMUP_MILLIS)[1];
+    long[] result = run(operation, MEASURE_MILLIS);
+    System.out.printf("%-32s : %,10.0f ops/sec (sink=%d)%n", name, result[0] * 1000.0 / MEASURE_MILLIS, sink + result[1]);
+  }
+
+  private static long[] run(Supplier<?> operation, long millis) {
+    long deadline = System.nanoTime() + millis * 1_000_000L;
+    long count = 0;
+    long sink = 0;
+    while (System.nanoTime() < deadline) {
+      sink += operation.get().hashCode();
+      count++;
+    }
+    return new long[]{count, sink};
+  }
+}
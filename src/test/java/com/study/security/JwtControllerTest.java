@@ -0,0 +1,111 @@
+package com.study.security;
+
+import com.study.common.dto.GenericResponse;
+import com.study.domain.session.UserSessionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("JwtController 테스트")
+class JwtControllerTest {
+
+  private final Jwt jwt = new Jwt("BoardTest", "clientSecret", 20, 3600);
+
+  private UserSessionService userSessionService;
+
+  private RefreshTokenRegistry refreshTokenRegistry;
+
+  private JwtController jwtController;
+
+  @BeforeEach
+  void setUp() {
+    userSessionService = mock(UserSessionService.class);
+    refreshTokenRegistry = mock(RefreshTokenRegistry.class);
+    when(refreshTokenRegistry.markUsed(anyString(), anyLong())).thenReturn(true);
+    jwtController = new JwtController(jwt, userSessionService, refreshTokenRegistry);
+  }
+
+  @Test
+  @DisplayName("세션이 살아 있으면 갱신하고, 새 리프레시 토큰은 기존 만료 시각을 유지")
+  void refreshKeepsOriginalExpiry() {
+    // given
+    String refreshToken = jwt.signRefresh(Jwt.Claims.of(12345L, "tester", new String[]{"USER"}, "session-1"));
+    when(userSessionService.existsSession("session-1")).thenReturn(true);
+
+    // when
+    GenericResponse<Map<String, Object>> response = jwtController.refresh(request(refreshToken));
+
+    // then
+    Jwt.Claims original = jwt.verify(refreshToken);
+    Jwt.Claims renewed = jwt.verify((String) response.getData().get("refreshToken"));
+    Jwt.Claims access = jwt.verify((String) response.getData().get("accessToken"));
+    assertThat(renewed.exp()).isEqualTo(original.exp());
+    assertThat(renewed.sessionId()).isEqualTo("session-1");
+    assertThat(access.refresh()).isFalse();
+    assertThat(access.userKey()).isEqualTo(12345L);
+    assertThat(access.name()).isEqualTo("tester");
+    assertThat(renewed.name()).isEqualTo("tester");
+    verify(refreshTokenRegistry).markUsed(original.tokenId(), original.exp());
+  }
+
+  @Test
+  @DisplayName("이미 사용한 리프레시 토큰으로는 다시 갱신하지 않음")
+  void rejectsReusedRefreshToken() {
+    // given
+    String refreshToken = jwt.signRefresh(Jwt.Claims.of(12345L, "tester", new String[]{"USER"}, "session-1"));
+    when(userSessionService.existsSession("session-1")).thenReturn(true);
+    when(refreshTokenRegistry.markUsed(anyString(), anyLong())).thenReturn(true, false);
+
+    // when
+    GenericResponse<Map<String, Object>> first = jwtController.refresh(request(refreshToken));
+    GenericResponse<Map<String, Object>> reused = jwtController.refresh(request(refreshToken));
+
+    // then
+    assertThat(first.getData()).isNotNull();
+    assertThat(reused.getData()).isNull();
+    assertThat(reused.getError()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("세션이 없으면(로그아웃, 만료) 갱신하지 않음")
+  void rejectsWhenSessionIsGone() {
+    // given
+    String refreshToken = jwt.signRefresh(Jwt.Claims.of(12345L, "tester", null, "session-1"));
+    when(userSessionService.existsSession("session-1")).thenReturn(false);
+
+    // when
+    GenericResponse<Map<String, Object>> response = jwtController.refresh(request(refreshToken));
+
+    // then
+    assertThat(response.getData()).isNull();
+    assertThat(response.getError()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("액세스 토큰이나 세션 ID가 없는 토큰으로는 갱신하지 않음")
+  void rejectsNonRefreshTokens() {
+    when(userSessionService.existsSession("session-1")).thenReturn(true);
+
+    String accessToken = jwt.sign(Jwt.Claims.of(12345L, "tester", null, "session-1"));
+    String withoutSession = jwt.signRefresh(Jwt.Claims.of(12345L, "tester", null));
+
+    assertThat(jwtController.refresh(request(accessToken)).getData()).isNull();
+    assertThat(jwtController.refresh(request(withoutSession)).getData()).isNull();
+    assertThat(jwtController.refresh(request(null)).getData()).isNull();
+  }
+
+  private static TokenRefreshRequest request(String refreshToken) {
+    TokenRefreshRequest request = new TokenRefreshRequest();
+    request.setRefreshToken(refreshToken);
+    return request;
+  }
+}
@@ -0,0 +1,101 @@
+package com.study.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Jwt 발급 테스트")
+class JwtTest {
+
+  private final Jwt jwt = new Jwt("BoardTest", "clientSecret", 20, 3600);
+
+  @Test
+  @DisplayName("발급한 액세스 토큰을 검증")
+  void signAndVerify() {
+    // given
+    Jwt.Claims claims = Jwt.Claims.of(12345L, "tester", new String[]{"USER", "ADMIN"});
+
+    // when
+    Jwt.Claims verified = jwt.verify(jwt.sign(claims));
+
+    // then
+    assertThat(verified.userKey()).isEqualTo(12345L);
+    assertThat(verified.name()).isEqualTo("tester");
+    assertThat(verified.roles()).containsExactly("USER", "ADMIN");
+    assertThat(verified.refresh()).isFalse();
+    assertThat(verified.exp() - verified.iat()).isEqualTo(20_000L);
+  }
+
+  @Test
+  @DisplayName("리프레시 토큰은 refresh 클레임과 별도 만료 시간을 가짐")
+  void signRefresh() {
+    // given
+    Jwt.Claims claims = Jwt.Claims.of(12345L, "tester", new String[]{"USER"});
+
+    // when
+    Jwt.Claims verified = jwt.verify(jwt.signRefresh(claims));
+
+    // then
+    assertThat(verified.refresh()).isTrue();
+    assertThat(verified.exp() - verified.iat()).isEqualTo(3_600_000L);
+  }
+
+  @Test
+  @DisplayName("리프레시 토큰은 세션 ID와 토큰마다 다른 jti를 가짐")
+  void refreshCarriesSessionAndTokenId() {
+    // given
+    Jwt.Claims claims = Jwt.Claims.of(12345L, "tester", new String[]{"USER"}, "session-1");
+
+    // when
+    Jwt.Claims first = jwt.verify(jwt.signRefresh(claims));
+    Jwt.Claims second = jwt.verify(jwt.signRefresh(claims));
+
+    // then
+    assertThat(first.sessionId()).isEqualTo("session-1");
+    assertThat(first.tokenId()).isNotNull().isNotEqualTo(second.tokenId());
+  }
+
+  @Test
+  @DisplayName("만료 시각을 지정한 리프레시 토큰은 그 시각에 만료")
+  void signRefreshWithFixedExpiry() {
+    // given
+    Jwt.Claims original = jwt.verify(jwt.signRefresh(Jwt.Claims.of(12345L, "tester", null, "session-1")));
+
+    // when
+    Jwt.Claims renewed = jwt.verify(jwt.signRefresh(original, original.exp()));
+
+    // then
+    assertThat(renewed.exp()).isEqualTo(original.exp());
+  }
+
+  @Test
+  @DisplayName("헤더와 문자열 이스케이프가 표준 JWT 형식과 일치")
+  void compatibleWithJwtLibrary() {
+    // given
+    Jwt.Claims claims = Jwt.Claims.of(1L, "tester", new String[]{"ROLE \"quoted\" \\ \n"});
+
+    // when
+    DecodedJWT decoded = JWT.decode(jwt.sign(claims));
+
+    // then
+    assertThat(decoded.getAlgorithm()).isEqualTo("HS512");
+    assertThat(decoded.getType()).isEqualTo("JWT");
+    assertThat(decoded.getIssuer()).isEqualTo("BoardTest");
+    assertThat(decoded.getClaim("roles").asArray(String.class)).containsExactly("ROLE \"quoted\" \\ \n");
+  }
+
+  @Test
+  @DisplayName("다른 비밀키로 발급한 토큰은 거부")
+  void rejectsOtherSecret() {
+    // given
+    String token = new Jwt("BoardTest", "otherSecret", 20).sign(Jwt.Claims.of(1L, "tester", null));
+
+    // when & then
+    assertThatThrownBy(() -> jwt.verify(token)).isInstanceOf(SignatureVerificationException.class);
+  }
+}
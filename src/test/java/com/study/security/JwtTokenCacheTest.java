@@ -0,0 +1,88 @@
+package com.study.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtTokenCache 테스트")
+class JwtTokenCacheTest {
+
+  private final Jwt jwt = new Jwt("BoardTest", "clientSecret", 20);
+
+  private final JwtTokenCache jwtTokenCache = new JwtTokenCache(jwt, 100, 3600);
+
+  @Test
+  @DisplayName("같은 토큰은 캐시된 클레임을 반환")
+  void returnsCachedClaims() {
+    // given
+    String token = token("clientSecret", 10_000);
+
+    // when
+    Jwt.Claims first = jwtTokenCache.verify(token);
+    Jwt.Claims second = jwtTokenCache.verify(token);
+
+    // then
+    assertThat(first.userKey()).isEqualTo(12345L);
+    assertThat(second).isSameAs(first);
+    assertThat(jwtTokenCache.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("캐시 수명은 노드의 발급 만료 시간이 아니라 토큰의 exp를 따름")
+  void keepsTokenUntilItsOwnExpiry() throws InterruptedException {
+    // given - 이 노드는 1초짜리 토큰을 발급하지만, 토큰 자체는 10초 뒤 만료된다.
+    JwtTokenCache shortIssuerCache = new JwtTokenCache(new Jwt("BoardTest", "clientSecret", 1), 100, 3600);
+    String token = token("clientSecret", 10_000);
+    Jwt.Claims first = shortIssuerCache.verify(token);
+
+    // when
+    Thread.sleep(1_100);
+
+    // then
+    assertThat(shortIssuerCache.verify(token)).isSameAs(first);
+  }
+
+  @Test
+  @DisplayName("exp가 지난 토큰은 다시 검증하여 거부")
+  void rejectsExpiredCachedToken() throws InterruptedException {
+    // given
+    String token = token("clientSecret", 1_000);
+    jwtTokenCache.verify(token);
+
+    // when
+    Thread.sleep(1_100);
+
+    // then
+    assertThatThrownBy(() -> jwtTokenCache.verify(token)).isInstanceOf(TokenExpiredException.class);
+    assertThat(jwtTokenCache.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("서명이 다른 토큰은 캐시하지 않음")
+  void doesNotCacheInvalidToken() {
+    // given
+    String token = token("otherSecret", 10_000);
+
+    // when & then
+    assertThatThrownBy(() -> jwtTokenCache.verify(token)).isInstanceOf(SignatureVerificationException.class);
+    assertThat(jwtTokenCache.size()).isZero();
+  }
+
+  private static String token(String secret, long expiresInMillis) {
+    return JWT.create()
+        .withIssuer("BoardTest")
+        .withClaim("userKey", 12345L)
+        .withArrayClaim("roles", new String[]{"USER"})
+        .withIssuedAt(new Date())
+        .withExpiresAt(new Date(System.currentTimeMillis() + expiresInMillis))
+        .sign(Algorithm.HMAC512(secret));
+  }
+}
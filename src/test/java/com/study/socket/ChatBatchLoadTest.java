@@ -0,0 +1,125 @@
+package com.study.socket;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.MimeTypeUtils;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 채팅 전송 부하 비교 (메시지별 전송 vs 묶음 전송)
+ * - SimpleBroker가 구독자마다 보내는 MESSAGE를 clientOutboundChannel에 넣고, 구독자 핸들러에서 STOMP 프레임으로 인코딩한다.
+ * - frames/sec, messages/sec, 프로세스 CPU 시간을 출력
+ * TEST_ENV=LOCAL 인 경우에만 실행
+ */
+@DisplayName("채팅 묶음 전송 부하 테스트")
+class ChatBatchLoadTest {
+
+  private static final int SUBSCRIBERS = 500;
+
+  private static final int MESSAGES = 2_000;
+
+  private static final byte[] PAYLOAD = "{\"roomId\":1,\"userKey\":12345,\"message\":\"안녕하세요, 부하 테스트 메시지입니다.\"}"
+      .getBytes(StandardCharsets.UTF_8);
+
+  @BeforeEach
+  void setUp() {
+    assumeTrue("LOCAL".equalsIgnoreCase(System.getenv("TEST_ENV")));
+  }
+
+  @Test
+  void compareDelivery() throws InterruptedException {
+    run("per-message", false);
+    run("batched", true);
+  }
+
+  private void run(String name, boolean batched) throws InterruptedException {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(Runtime.getRuntime().availableProcessors());
+    executor.setQueueCapacity(Integer.MAX_VALUE);
+    executor.initialize();
+
+    ExecutorSubscribableChannel outboundChannel = new ExecutorSubscribableChannel(executor);
+    StompEncoder encoder = new StompEncoder();
+    AtomicLong frames = new AtomicLong();
+    AtomicLong messages = new AtomicLong();
+    AtomicLong bytes = new AtomicLong();
+    outboundChannel.subscribe(message -> {
+      bytes.addAndGet(encoder.encode(toStompFrame(message)).length);
+      String batchSize = SimpMessageHeaderAccessor.wrap(message).getFirstNativeHeader(OutboundMessageBatcher.BATCH_SIZE_HEADER);
+      messages.addAndGet(batchSize != null ? Long.parseLong(batchSize) : 1);
+      frames.incrementAndGet();
+    });
+
+    OutboundMessageBatcher batcher = null;
+    if (batched) {
+      batcher = new OutboundMessageBatcher(outboundChannel, "/topic/chat", 20, 50, 512 * 1024);
+      outboundChannel.addInterceptor(batcher);
+    }
+
+    com.sun.management.OperatingSystemMXBean os =
+        (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+    long cpuStartedAt = os.getProcessCpuTime();
+    long startedAt = System.nanoTime();
+
+    for (int i = 0; i < MESSAGES; i++) {
+      for (int s = 0; s < SUBSCRIBERS; s++) {
+        outboundChannel.send(message(s));
+      }
+    }
+    long expected = (long) MESSAGES * SUBSCRIBERS;
+    while (messages.get() < expected) {
+      Thread.sleep(1);
+    }
+
+    double seconds = (System.nanoTime() - startedAt) / 1e9;
+    long cpuMillis = (os.getProcessCpuTime() - cpuStartedAt) / 1_000_000;
+    System.out.printf("%-12s : %,10.0f frames/sec, %,10.0f messages/sec, %,6d ms cpu, %,d bytes%n",
+        name, frames.get() / seconds, messages.get() / seconds, cpuMillis, bytes.get());
+
+    if (batcher != null) {
+      batcher.shutdown();
+    }
+    executor.shutdown();
+  }
+
+  private static Message<byte[]> message(int subscriber) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setSessionId("session-" + subscriber);
+    accessor.setSubscriptionId("sub-0");
+    accessor.setDestination("/topic/chat/1");
+    accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+    return MessageBuilder.createMessage(PAYLOAD, accessor.getMessageHeaders());
+  }
+
+  /**
+   * StompSubProtocolHandler와 같이 MESSAGE 프레임 헤더 구성
+   */
+  private static Message<byte[]> toStompFrame(Message<?> message) {
+    SimpMessageHeaderAccessor source = SimpMessageHeaderAccessor.wrap(message);
+    StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+    accessor.setDestination(source.getDestination());
+    accessor.setSubscriptionId(source.getSubscriptionId());
+    accessor.setMessageId(source.getId() != null ? source.getId().toString() : "0");
+    accessor.setContentType(source.getContentType());
+    String batchSize = source.getFirstNativeHeader(OutboundMessageBatcher.BATCH_SIZE_HEADER);
+    if (batchSize != null) {
+      accessor.setNativeHeader(OutboundMessageBatcher.BATCH_SIZE_HEADER, batchSize);
+    }
+    return MessageBuilder.createMessage((byte[]) message.getPayload(), accessor.getMessageHeaders());
+  }
+}
@@ -0,0 +1,209 @@
+package com.study.socket;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OutboundMessageBatcher 테스트")
+class OutboundMessageBatcherTest {
+
+  private final List<Message<?>> sent = new CopyOnWriteArrayList<>();
+
+  // 실행기 없이 호출 스레드에서 처리하는 outbound 채널
+  private final ExecutorSubscribableChannel outboundChannel = new ExecutorSubscribableChannel();
+
+  private OutboundMessageBatcher batcher;
+
+  @BeforeEach
+  void setUp() {
+    outboundChannel.subscribe(sent::add);
+  }
+
+  @AfterEach
+  void tearDown() {
+    batcher.shutdown();
+  }
+
+  @Test
+  @DisplayName("최대 개수가 모이면 하나의 프레임으로 전송")
+  void sendsWhenBatchIsFull() {
+    // given
+    batcher = batcher(outboundChannel, 3);
+
+    // when
+    for (String body : new String[]{"{\"n\":1}", "{\"n\":2}", "{\"n\":3}"}) {
+      assertThat(batcher.preSend(message("s1", "sub-1", body, MimeTypeUtils.APPLICATION_JSON), outboundChannel)).isNull();
+    }
+
+    // then
+    assertThat(sent).hasSize(1);
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(sent.get(0));
+    assertThat(accessor.getSessionId()).isEqualTo("s1");
+    assertThat(accessor.getSubscriptionId()).isEqualTo("sub-1");
+    assertThat(accessor.getFirstNativeHeader(OutboundMessageBatcher.BATCH_SIZE_HEADER)).isEqualTo("3");
+    assertThat(body(sent.get(0))).isEqualTo("[{\"n\":1},{\"n\":2},{\"n\":3}]");
+
+    // 묶음 프레임은 다시 묶지 않음
+    assertThat(batcher.preSend(sent.get(0), outboundChannel)).isSameAs(sent.get(0));
+  }
+
+  @Test
+  @DisplayName("주기마다 구독자별로 모인 메시지를 전송")
+  void flushesPerSubscriber() {
+    // given
+    batcher = batcher(outboundChannel, 50);
+    batcher.preSend(message("s1", "sub-1", "{\"n\":1}", MimeTypeUtils.APPLICATION_JSON), outboundChannel);
+    batcher.preSend(message("s2", "sub-1", "{\"n\":1}", MimeTypeUtils.APPLICATION_JSON), outboundChannel);
+    batcher.preSend(message("s1", "sub-1", "{\"n\":2}", MimeTypeUtils.APPLICATION_JSON), outboundChannel);
+
+    // when
+    batcher.flush();
+
+    // then
+    assertThat(sent).hasSize(2);
+    assertThat(sent).extracting(OutboundMessageBatcherTest::body)
+        .containsExactlyInAnyOrder("[{\"n\":1},{\"n\":2}]", "[{\"n\":1}]");
+  }
+
+  @Test
+  @DisplayName("JSON이 아닌 메시지와 다른 목적지는 그대로 전달")
+  void passesThroughOtherMessages() {
+    // given
+    batcher = batcher(outboundChannel, 50);
+    Message<byte[]> text = message("s1", "sub-1", "hello", MimeTypeUtils.TEXT_PLAIN);
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setSessionId("s1");
+    accessor.setSubscriptionId("sub-2");
+    accessor.setDestination("/topic/notice");
+    accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+    Message<byte[]> notice = MessageBuilder.createMessage("{}".getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+
+    // when & then
+    assertThat(batcher.preSend(text, outboundChannel)).isSameAs(text);
+    assertThat(batcher.preSend(notice, outboundChannel)).isSameAs(notice);
+  }
+
+  @Test
+  @DisplayName("같은 구독자의 다음 묶음은 앞 묶음 처리가 끝난 뒤 채널에 넣음")
+  void keepsFrameOrderPerSubscriber() {
+    // given (채널 작업을 직접 실행)
+    List<Runnable> tasks = new ArrayList<>();
+    ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel(tasks::add);
+    channel.subscribe(sent::add);
+    batcher = batcher(channel, 1);
+
+    // when
+    batcher.preSend(message("s1", "sub-1", "{\"n\":1}", MimeTypeUtils.APPLICATION_JSON), channel);
+    batcher.preSend(message("s1", "sub-1", "{\"n\":2}", MimeTypeUtils.APPLICATION_JSON), channel);
+    batcher.preSend(message("s2", "sub-1", "{\"n\":1}", MimeTypeUtils.APPLICATION_JSON), channel);
+
+    // then (s1의 두 번째 묶음은 첫 번째 처리 전까지 대기)
+    assertThat(tasks).hasSize(2);
+    tasks.remove(0).run();
+    assertThat(tasks).hasSize(2);
+    tasks.remove(0).run();
+    tasks.remove(0).run();
+    assertThat(tasks).isEmpty();
+    assertThat(sent).extracting(OutboundMessageBatcherTest::body)
+        .containsExactly("[{\"n\":1}]", "[{\"n\":1}]", "[{\"n\":2}]");
+    assertThat(SimpMessageHeaderAccessor.wrap(sent.get(2)).getSessionId()).isEqualTo("s1");
+  }
+
+  @Test
+  @DisplayName("채널에 넣지 못한 묶음은 버리고 집계하며, 다른 구독자 전송은 계속")
+  void countsDroppedBatches() {
+    // given (처음 들어온 작업만 거부)
+    List<Runnable> tasks = new ArrayList<>();
+    ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel(task -> {
+      if (tasks.isEmpty()) {
+        tasks.add(() -> { });
+        throw new RejectedExecutionException("queue full");
+      }
+      task.run();
+    });
+    channel.subscribe(sent::add);
+    batcher = batcher(channel, 50);
+    for (String sessionId : new String[]{"s1", "s2"}) {
+      batcher.preSend(message(sessionId, "sub-1", "{\"n\":1}", MimeTypeUtils.APPLICATION_JSON), channel);
+      batcher.preSend(message(sessionId, "sub-1", "{\"n\":2}", MimeTypeUtils.APPLICATION_JSON), channel);
+    }
+
+    // when
+    batcher.flush();
+
+    // then (처음 보낸 묶음 하나만 거부됨)
+    Map<String, Object> stats = batcher.stats();
+    assertThat(sent).hasSize(1);
+    assertThat(body(sent.get(0))).isEqualTo("[{\"n\":1},{\"n\":2}]");
+    assertThat(stats.get("droppedBatches")).isEqualTo(1L);
+    assertThat(stats.get("droppedMessages")).isEqualTo(2L);
+    assertThat(stats.get("queuedFrames")).isEqualTo(0);
+  }
+
+  @Test
+  @DisplayName("처리를 기다리는 묶음이 한도를 넘으면 새 묶음을 버리고 집계")
+  void dropsBatchesOverQueuedBytes() {
+    // given (채널 작업을 직접 실행, 대기 한도 20바이트)
+    List<Runnable> tasks = new ArrayList<>();
+    ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel(tasks::add);
+    channel.subscribe(sent::add);
+    batcher = batcher(channel, 1, 20);
+
+    // when (첫 묶음은 처리 중, 9바이트 묶음 두 개는 대기, 네 번째는 한도 초과)
+    for (int n = 1; n <= 4; n++) {
+      batcher.preSend(message("s1", "sub-1", "{\"n\":" + n + "}", MimeTypeUtils.APPLICATION_JSON), channel);
+    }
+
+    // then
+    Map<String, Object> stats = batcher.stats();
+    assertThat(stats.get("queuedFrames")).isEqualTo(2);
+    assertThat(stats.get("queuedBytes")).isEqualTo(18L);
+    assertThat(stats.get("overflowBatches")).isEqualTo(1L);
+    assertThat(stats.get("droppedMessages")).isEqualTo(1L);
+    while (!tasks.isEmpty()) {
+      tasks.remove(0).run();
+    }
+    assertThat(sent).extracting(OutboundMessageBatcherTest::body)
+        .containsExactly("[{\"n\":1}]", "[{\"n\":2}]", "[{\"n\":3}]");
+  }
+
+  private OutboundMessageBatcher batcher(ExecutorSubscribableChannel channel, int maxBatchSize) {
+    return batcher(channel, maxBatchSize, 512 * 1024);
+  }
+
+  private OutboundMessageBatcher batcher(ExecutorSubscribableChannel channel, int maxBatchSize, int maxQueuedBytes) {
+    OutboundMessageBatcher batcher = new OutboundMessageBatcher(channel, "/topic/chat", 60_000, maxBatchSize, maxQueuedBytes);
+    channel.addInterceptor(batcher);
+    return batcher;
+  }
+
+  static Message<byte[]> message(String sessionId, String subscriptionId, String body, MimeType contentType) {
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+    accessor.setSessionId(sessionId);
+    accessor.setSubscriptionId(subscriptionId);
+    accessor.setDestination("/topic/chat/1");
+    accessor.setContentType(contentType);
+    return MessageBuilder.createMessage(body.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+  }
+
+  private static String body(Message<?> message) {
+    return new String((byte[]) message.getPayload(), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,69 @@
+package com.study.socket;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 복제본 구성에서 채팅 중계 테스트
+ * 로컬 Redis 하나를 마스터와 복제본으로 함께 지정해도 pub/sub 수신 컨테이너가 동작하는지 확인한다.
+ * (마스터/복제본 연결은 pub/sub 을 지원하지 않으므로 수신은 항상 마스터 단일 연결을 사용해야 한다)
+ */
+@SpringBootTest(properties = {
+    "board.redis.replicas=${spring.redis.host}:${spring.redis.port}",
+    "board.chat.broker.mode=redis"
+})
+@DisplayName("RedisChatRelay 복제본 구성 테스트")
+class RedisChatRelayReplicaTest {
+
+  @Autowired
+  private RedisTemplate<String, Object> redisTemplate;
+
+  @Autowired
+  @Qualifier("brokerChannel")
+  private SubscribableChannel brokerChannel;
+
+  @Test
+  @DisplayName("다른 노드가 발행한 메시지를 로컬 브로커로 전달")
+  void relaysWithReplicasConfigured() throws InterruptedException {
+    // given
+    String destination = "/topic/chat/replica-" + UUID.randomUUID();
+    CountDownLatch received = new CountDownLatch(1);
+    MessageHandler handler = message -> {
+      if (destination.equals(SimpMessageHeaderAccessor.getDestination(message.getHeaders()))) {
+        received.countDown();
+      }
+    };
+    brokerChannel.subscribe(handler);
+    byte[] frame = ("other-node\n" + destination + "\ntext/plain\nhello").getBytes(StandardCharsets.UTF_8);
+
+    try {
+      // when: 수신 컨테이너의 구독이 끝나기 전에 발행한 메시지는 유실되므로 받을 때까지 다시 발행한다.
+      boolean relayed = false;
+      for (int attempt = 0; attempt < 50 && !relayed; attempt++) {
+        redisTemplate.execute((RedisCallback<Long>) connection ->
+            connection.publish(RedisChatRelay.RELAY_CHANNEL.getBytes(StandardCharsets.UTF_8), frame));
+        relayed = received.await(100, TimeUnit.MILLISECONDS);
+      }
+
+      // then
+      assertThat(relayed).isTrue();
+    } finally {
+      brokerChannel.unsubscribe(handler);
+    }
+  }
+}
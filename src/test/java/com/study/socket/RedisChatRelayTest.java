@@ -0,0 +1,105 @@
+package com.study.socket;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RedisChatRelay 테스트")
+class RedisChatRelayTest {
+
+  private RedisConnection connection;
+
+  private MessageChannel brokerChannel;
+
+  private RedisChatRelay relay;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    connection = mock(RedisConnection.class);
+    when(redisTemplate.execute(any(RedisCallback.class)))
+        .thenAnswer(invocation -> ((RedisCallback<?>) invocation.getArgument(0)).doInRedis(connection));
+    brokerChannel = mock(MessageChannel.class);
+    relay = new RedisChatRelay(redisTemplate, mock(RedisMessageListenerContainer.class), brokerChannel, "/topic/chat");
+  }
+
+  @Test
+  @DisplayName("다른 노드가 발행한 메시지를 로컬 브로커로 전달")
+  void relaysMessageFromOtherNode() {
+    // given
+    RedisChatRelay otherNode = new RedisChatRelay(mock(RedisTemplate.class), mock(RedisMessageListenerContainer.class),
+        brokerChannel, "/topic/chat");
+    byte[] frame = publish("/topic/chat/1", "안녕하세요");
+
+    // when
+    otherNode.onMessage(new DefaultMessage(RedisChatRelay.RELAY_CHANNEL.getBytes(StandardCharsets.UTF_8), frame), null);
+
+    // then
+    ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+    verify(brokerChannel).send(captor.capture());
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(captor.getValue());
+    assertThat(accessor.getDestination()).isEqualTo("/topic/chat/1");
+    assertThat(accessor.getContentType()).isEqualTo(MimeTypeUtils.TEXT_PLAIN);
+    assertThat(new String((byte[]) captor.getValue().getPayload(), StandardCharsets.UTF_8)).isEqualTo("안녕하세요");
+  }
+
+  @Test
+  @DisplayName("자신이 발행한 메시지는 다시 전달하지 않음")
+  void ignoresOwnMessage() {
+    // given
+    byte[] frame = publish("/topic/chat/1", "hello");
+
+    // when
+    relay.onMessage(new DefaultMessage(RedisChatRelay.RELAY_CHANNEL.getBytes(StandardCharsets.UTF_8), frame), null);
+
+    // then
+    verify(brokerChannel, never()).send(any());
+  }
+
+  @Test
+  @DisplayName("채팅 이외의 목적지는 발행하지 않음")
+  void skipsOtherDestinations() {
+    // when
+    relay.postSend(sendFrame("/topic/notice", "hello"), mock(MessageChannel.class), true);
+
+    // then
+    verify(connection, never()).publish(any(), any());
+  }
+
+  private byte[] publish(String destination, String body) {
+    relay.postSend(sendFrame(destination, body), mock(MessageChannel.class), true);
+    ArgumentCaptor<byte[]> captor = ArgumentCaptor.forClass(byte[].class);
+    verify(connection).publish(any(), captor.capture());
+    return captor.getValue();
+  }
+
+  private static Message<byte[]> sendFrame(String destination, String body) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+    accessor.setDestination(destination);
+    accessor.setContentType(MimeTypeUtils.TEXT_PLAIN);
+    return MessageBuilder.createMessage(body.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+  }
+}
@@ -0,0 +1,94 @@
+package com.study.socket;
+
+import com.study.domain.presence.PresenceService;
+import com.study.security.Jwt;
+import com.study.security.JwtTokenCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("StompHandler 테스트")
+class StompHandlerTest {
+
+  private final Jwt jwt = new Jwt("BoardTest", "clientSecret", 20, 3600);
+
+  private PresenceService presenceService;
+
+  private StompHandler stompHandler;
+
+  @BeforeEach
+  void setUp() {
+    presenceService = mock(PresenceService.class);
+    stompHandler = new StompHandler(new JwtTokenCache(jwt, 100, 3600), presenceService);
+    ReflectionTestUtils.setField(stompHandler, "presenceSubscribeRole", "ADMIN");
+  }
+
+  @Test
+  @DisplayName("전체 사용자 접속 상태는 지정한 역할만 구독")
+  void requiresRoleForUserPresenceTopic() {
+    // given
+    Map<String, Object> user = connect("s1", 1L, "USER");
+    Map<String, Object> admin = connect("s2", 2L, "ADMIN");
+
+    // when, then
+    assertThatThrownBy(() -> preSend(StompCommand.SUBSCRIBE, "s1", user, PresenceService.USER_EVENT_DESTINATION))
+        .isInstanceOf(AccessDeniedException.class);
+    verify(presenceService, never()).subscribe(anyString(), any(), anyString());
+    assertThatCode(() -> preSend(StompCommand.SUBSCRIBE, "s2", admin, PresenceService.USER_EVENT_DESTINATION))
+        .doesNotThrowAnyException();
+    assertThatCode(() -> preSend(StompCommand.SUBSCRIBE, "s1", user, "/topic/chat/7/presence"))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  @DisplayName("클라이언트는 접속 상태 목적지로 보낼 수 없음")
+  void rejectsSendToPresenceDestinations() {
+    // given
+    Map<String, Object> admin = connect("s1", 1L, "ADMIN");
+
+    // when, then
+    assertThatThrownBy(() -> preSend(StompCommand.SEND, "s1", admin, PresenceService.USER_EVENT_DESTINATION))
+        .isInstanceOf(AccessDeniedException.class);
+    assertThatThrownBy(() -> preSend(StompCommand.SEND, "s1", admin, "/topic/chat/7/presence"))
+        .isInstanceOf(AccessDeniedException.class);
+    assertThatCode(() -> preSend(StompCommand.SEND, "s1", admin, "/topic/chat/7"))
+        .doesNotThrowAnyException();
+  }
+
+  // CONNECT 후 세션 속성 반환
+  private Map<String, Object> connect(String sessionId, long userKey, String role) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+    accessor.setSessionId(sessionId);
+    accessor.setSessionAttributes(new HashMap<>());
+    accessor.addNativeHeader("Authorization", jwt.sign(Jwt.Claims.of(userKey, "user" + userKey, new String[]{role})));
+    stompHandler.preSend(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), mock(MessageChannel.class));
+    return accessor.getSessionAttributes();
+  }
+
+  private Message<?> preSend(StompCommand command, String sessionId, Map<String, Object> attributes, String destination) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+    accessor.setSessionId(sessionId);
+    accessor.setSessionAttributes(attributes);
+    accessor.setDestination(destination);
+    accessor.setSubscriptionId("sub-1");
+    return stompHandler.preSend(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), mock(MessageChannel.class));
+  }
+}
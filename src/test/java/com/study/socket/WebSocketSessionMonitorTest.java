@@ -0,0 +1,132 @@
+package com.study.socket;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("WebSocketSessionMonitor 테스트")
+class WebSocketSessionMonitorTest {
+
+  private ThreadPoolTaskExecutor inboundExecutor;
+
+  private ThreadPoolTaskExecutor outboundExecutor;
+
+  private WebSocketSessionMonitor monitor;
+
+  @BeforeEach
+  void setUp() {
+    inboundExecutor = executor();
+    outboundExecutor = executor();
+    monitor = new WebSocketSessionMonitor(inboundExecutor, outboundExecutor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    inboundExecutor.shutdown();
+    outboundExecutor.shutdown();
+  }
+
+  @Test
+  @DisplayName("느린 소비자로 종료된 세션 수를 집계")
+  @SuppressWarnings("unchecked")
+  void countsSlowConsumerSessions() throws Exception {
+    // given
+    WebSocketHandler handler = monitor.decorate(mock(WebSocketHandler.class));
+    WebSocketSession slow = mock(WebSocketSession.class);
+    WebSocketSession normal = mock(WebSocketSession.class);
+    handler.afterConnectionEstablished(slow);
+    handler.afterConnectionEstablished(normal);
+
+    // when
+    handler.afterConnectionClosed(slow, CloseStatus.SESSION_NOT_RELIABLE.withReason("Send time limit exceeded"));
+    handler.afterConnectionClosed(normal, CloseStatus.NORMAL);
+
+    // then
+    Map<String, Object> sessions = (Map<String, Object>) monitor.stats().get("sessions");
+    assertThat(sessions.get("active")).isEqualTo(0);
+    assertThat(sessions.get("total")).isEqualTo(2L);
+    assertThat(sessions.get("slowConsumerClosed")).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("실행기 대기열 길이를 제공")
+  @SuppressWarnings("unchecked")
+  void reportsQueueDepth() throws InterruptedException {
+    // given
+    Object lock = new Object();
+    synchronized (lock) {
+      for (int i = 0; i < 3; i++) {
+        inboundExecutor.execute(() -> {
+          synchronized (lock) {
+            lock.notifyAll();
+          }
+        });
+      }
+
+      // when
+      Thread.sleep(50);
+      Map<String, Object> inbound = (Map<String, Object>) monitor.stats().get("inbound");
+
+      // then (스레드 1개가 잠금 대기 중이고 나머지는 대기열에 있음)
+      assertThat(inbound.get("activeThreads")).isEqualTo(1);
+      assertThat(inbound.get("queueSize")).isEqualTo(2);
+    }
+  }
+
+  @Test
+  @DisplayName("대기열이 가득 차 거부된 작업 수를 집계하고 호출한 쪽에는 예외를 전달")
+  @SuppressWarnings("unchecked")
+  void countsRejectedTasks() {
+    // given
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(1);
+    executor.setRejectedExecutionHandler(monitor.outboundRejectedHandler());
+    executor.initialize();
+    Object lock = new Object();
+
+    try {
+      synchronized (lock) {
+        // 스레드 1개가 잠금 대기, 1개는 대기열
+        executor.execute(() -> { synchronized (lock) { } });
+        executor.execute(() -> { });
+
+        // when
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+            .hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+            .hasCauseInstanceOf(RejectedExecutionException.class);
+      }
+
+      // then
+      Map<String, Object> outbound = (Map<String, Object>) monitor.stats().get("outbound");
+      Map<String, Object> inbound = (Map<String, Object>) monitor.stats().get("inbound");
+      assertThat(outbound.get("rejectedTasks")).isEqualTo(2L);
+      assertThat(inbound.get("rejectedTasks")).isEqualTo(0L);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static ThreadPoolTaskExecutor executor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(10);
+    executor.initialize();
+    return executor;
+  }
+}